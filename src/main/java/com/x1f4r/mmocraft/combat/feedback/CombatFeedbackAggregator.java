@@ -0,0 +1,189 @@
+package com.x1f4r.mmocraft.combat.feedback;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces per-hit combat feedback into at most one action bar update per player per tick.
+ * <p>
+ * Hits landing within {@link #DEFAULT_WINDOW_TICKS} of the first hit of a burst are merged
+ * into a single "3 hits, 142 dmg" line. Static fragments of the message are parsed from their
+ * legacy templates once, so the hit path only records numbers and the flush only assembles
+ * pre-built components.
+ */
+public class CombatFeedbackAggregator {
+
+    public static final int DEFAULT_WINDOW_TICKS = 20;
+    public static final int DEFAULT_HOLD_TICKS = 40;
+
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacyAmpersand();
+    private static final Component SEPARATOR = LEGACY.deserialize("&7 - ");
+    private static final Component HITS_SUFFIX = LEGACY.deserialize("&e hits&7, ");
+    private static final Component DAMAGE_SUFFIX = LEGACY.deserialize("&c dmg");
+    private static final Component CRITICAL_SUFFIX = LEGACY.deserialize(" &c(Critical!)");
+    private static final Component EVADED_FROM_PREFIX = LEGACY.deserialize("&7&oEvaded attack from ");
+    private static final Component EVADED_BY_PREFIX = LEGACY.deserialize("&7&oYour attack was evaded by ");
+
+    private final int windowTicks;
+    private final int holdTicks;
+    private final Map<UUID, PendingFeedback> feedbackByPlayer = new ConcurrentHashMap<>();
+    private long currentTick;
+
+    public CombatFeedbackAggregator() {
+        this(DEFAULT_WINDOW_TICKS, DEFAULT_HOLD_TICKS);
+    }
+
+    public CombatFeedbackAggregator(int windowTicks, int holdTicks) {
+        this.windowTicks = Math.max(1, windowTicks);
+        this.holdTicks = Math.max(0, holdTicks);
+    }
+
+    /**
+     * Records a landed hit for the attacking player. The action bar is not touched until the next {@link #flush()}.
+     */
+    public void recordHit(Player attacker, String victimLabel, double damage, boolean critical) {
+        if (attacker == null) {
+            return;
+        }
+        PendingFeedback feedback = feedbackByPlayer.computeIfAbsent(attacker.getUniqueId(), id -> new PendingFeedback());
+        synchronized (feedback) {
+            feedback.player = attacker;
+            if (feedback.hits == 0 || currentTick - feedback.windowStartTick >= windowTicks) {
+                feedback.windowStartTick = currentTick;
+                feedback.hits = 0;
+                feedback.totalDamage = 0.0;
+                feedback.critical = false;
+            }
+            feedback.hits++;
+            feedback.totalDamage += Math.max(0.0, damage);
+            feedback.critical |= critical;
+            feedback.victimLabel = victimLabel;
+            feedback.notice = null;
+            feedback.dirty = true;
+        }
+    }
+
+    /**
+     * Informs the victim that an incoming attack was evaded.
+     */
+    public void recordEvadedIncoming(Player victim, String attackerLabel) {
+        recordNotice(victim, EVADED_FROM_PREFIX, attackerLabel);
+    }
+
+    /**
+     * Informs the attacker that their attack was evaded.
+     */
+    public void recordEvadedOutgoing(Player attacker, String victimLabel) {
+        recordNotice(attacker, EVADED_BY_PREFIX, victimLabel);
+    }
+
+    private void recordNotice(Player player, Component prefix, String label) {
+        if (player == null) {
+            return;
+        }
+        PendingFeedback feedback = feedbackByPlayer.computeIfAbsent(player.getUniqueId(), id -> new PendingFeedback());
+        synchronized (feedback) {
+            feedback.player = player;
+            feedback.notice = Component.text()
+                    .append(prefix)
+                    .append(Component.text(label, NamedTextColor.GRAY, TextDecoration.ITALIC))
+                    .build();
+            feedback.dirty = true;
+        }
+    }
+
+    /**
+     * Sends pending feedback, at most one action bar per player. Intended to run once every server tick.
+     */
+    public void flush() {
+        currentTick++;
+        Iterator<Map.Entry<UUID, PendingFeedback>> iterator = feedbackByPlayer.entrySet().iterator();
+        while (iterator.hasNext()) {
+            PendingFeedback feedback = iterator.next().getValue();
+            Player player;
+            Component message;
+            synchronized (feedback) {
+                if (!feedback.dirty) {
+                    if (currentTick - feedback.lastSentTick > Math.max(holdTicks, windowTicks)) {
+                        iterator.remove();
+                    }
+                    continue;
+                }
+                player = feedback.player;
+                message = feedback.notice != null ? feedback.notice : render(feedback);
+                feedback.notice = null;
+                feedback.dirty = false;
+                feedback.lastSentTick = currentTick;
+            }
+            if (player == null || !player.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+            player.sendActionBar(message);
+        }
+    }
+
+    /**
+     * @return true while recently sent combat feedback should not be overwritten by periodic HUD updates.
+     */
+    public boolean isHoldingActionBar(UUID playerId) {
+        if (playerId == null) {
+            return false;
+        }
+        PendingFeedback feedback = feedbackByPlayer.get(playerId);
+        if (feedback == null) {
+            return false;
+        }
+        synchronized (feedback) {
+            return feedback.dirty || currentTick - feedback.lastSentTick < holdTicks;
+        }
+    }
+
+    public void clear(UUID playerId) {
+        if (playerId != null) {
+            feedbackByPlayer.remove(playerId);
+        }
+    }
+
+    public void clearAll() {
+        feedbackByPlayer.clear();
+    }
+
+    private Component render(PendingFeedback feedback) {
+        Component victim = Component.text(feedback.victimLabel != null ? feedback.victimLabel : "Unknown", NamedTextColor.WHITE);
+        var builder = Component.text().append(victim).append(SEPARATOR);
+        if (feedback.hits <= 1) {
+            builder.append(Component.text(String.format(Locale.ROOT, "%.1f", feedback.totalDamage), NamedTextColor.RED));
+        } else {
+            builder.append(Component.text(Integer.toString(feedback.hits), NamedTextColor.YELLOW))
+                    .append(HITS_SUFFIX)
+                    .append(Component.text(String.format(Locale.ROOT, "%.0f", feedback.totalDamage), NamedTextColor.RED))
+                    .append(DAMAGE_SUFFIX);
+        }
+        if (feedback.critical) {
+            builder.append(CRITICAL_SUFFIX);
+        }
+        return builder.build();
+    }
+
+    private static final class PendingFeedback {
+        private Player player;
+        private String victimLabel;
+        private Component notice;
+        private int hits;
+        private double totalDamage;
+        private boolean critical;
+        private boolean dirty;
+        private long windowStartTick;
+        private long lastSentTick = Long.MIN_VALUE / 2;
+    }
+}
@@ -1,9 +1,14 @@
 package com.x1f4r.mmocraft.combat.listeners;
 
+import com.x1f4r.mmocraft.combat.feedback.CombatFeedbackAggregator;
+import com.x1f4r.mmocraft.combat.log.CombatEventLog;
 import com.x1f4r.mmocraft.combat.model.DamageInstance;
 import com.x1f4r.mmocraft.combat.model.DamageType;
+import com.x1f4r.mmocraft.combat.model.WeaponStats;
 import com.x1f4r.mmocraft.combat.service.DamageCalculationService;
 import com.x1f4r.mmocraft.combat.service.MobStatProvider;
+import com.x1f4r.mmocraft.combat.service.WeaponStatsResolver;
+import com.x1f4r.mmocraft.combat.threat.ThreatService;
 import com.x1f4r.mmocraft.playerdata.PlayerDataService;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.runtime.PlayerRuntimeAttributeService;
@@ -11,26 +16,21 @@ import com.x1f4r.mmocraft.statuseffect.manager.StatusEffectManager;
 import com.x1f4r.mmocraft.statuseffect.model.StatusEffectType;
 import com.x1f4r.mmocraft.util.LoggingUtil;
 import com.x1f4r.mmocraft.util.StringUtil;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.Arrow;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.projectiles.ProjectileSource;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class PlayerCombatListener implements Listener {
 
     private final DamageCalculationService damageCalculationService;
@@ -39,44 +39,68 @@ public class PlayerCombatListener implements Listener {
     private final MobStatProvider mobStatProvider;
     private final StatusEffectManager statusEffectManager;
     private final PlayerRuntimeAttributeService runtimeAttributeService;
+    private final CombatFeedbackAggregator feedbackAggregator;
+    private final WeaponStatsResolver weaponStatsResolver;
+    private final CombatEventLog combatEventLog;
+    private final ThreatService threatService;
 
     private static final ThreadLocal<Boolean> abilityGuard = ThreadLocal.withInitial(() -> false);
 
-    private static final Map<Material, Double> VANILLA_WEAPON_BASE_DAMAGE = new HashMap<>();
-    // private static final Map<org.bukkit.entity.EntityType, Double> MOB_BASE_DAMAGE = new HashMap<>(); // Replaced by MobStatProvider
-
-    static {
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.WOODEN_SWORD, 4.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.STONE_SWORD, 5.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.IRON_SWORD, 6.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.GOLDEN_SWORD, 4.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.DIAMOND_SWORD, 7.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.NETHERITE_SWORD, 8.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.WOODEN_AXE, 3.0); // Axes are typically a bit less than swords
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.STONE_AXE, 4.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.IRON_AXE, 5.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.GOLDEN_AXE, 3.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.DIAMOND_AXE, 6.0);
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.NETHERITE_AXE, 7.0);
-        // Add other tools if they are to be used as weapons: Shovel, Pickaxe, Hoe
-        VANILLA_WEAPON_BASE_DAMAGE.put(Material.TRIDENT, 9.0); // Melee Trident damage
+    public PlayerCombatListener(DamageCalculationService damageCalculationService,
+                                PlayerDataService playerDataService,
+                                LoggingUtil logger,
+                                MobStatProvider mobStatProvider,
+                                StatusEffectManager statusEffectManager,
+                                PlayerRuntimeAttributeService runtimeAttributeService) {
+        this(damageCalculationService, playerDataService, logger, mobStatProvider, statusEffectManager,
+                runtimeAttributeService, new CombatFeedbackAggregator(), null);
+    }
 
-        // Mob base damages are now provided via MobStatProvider
+    public PlayerCombatListener(DamageCalculationService damageCalculationService,
+                                PlayerDataService playerDataService,
+                                LoggingUtil logger,
+                                MobStatProvider mobStatProvider,
+                                StatusEffectManager statusEffectManager,
+                                PlayerRuntimeAttributeService runtimeAttributeService,
+                                CombatFeedbackAggregator feedbackAggregator,
+                                WeaponStatsResolver weaponStatsResolver) {
+        this(damageCalculationService, playerDataService, logger, mobStatProvider, statusEffectManager,
+                runtimeAttributeService, feedbackAggregator, weaponStatsResolver, null);
     }
 
+    public PlayerCombatListener(DamageCalculationService damageCalculationService,
+                                PlayerDataService playerDataService,
+                                LoggingUtil logger,
+                                MobStatProvider mobStatProvider,
+                                StatusEffectManager statusEffectManager,
+                                PlayerRuntimeAttributeService runtimeAttributeService,
+                                CombatFeedbackAggregator feedbackAggregator,
+                                WeaponStatsResolver weaponStatsResolver,
+                                CombatEventLog combatEventLog) {
+        this(damageCalculationService, playerDataService, logger, mobStatProvider, statusEffectManager,
+                runtimeAttributeService, feedbackAggregator, weaponStatsResolver, combatEventLog, null);
+    }
 
     public PlayerCombatListener(DamageCalculationService damageCalculationService,
                                 PlayerDataService playerDataService,
                                 LoggingUtil logger,
                                 MobStatProvider mobStatProvider,
                                 StatusEffectManager statusEffectManager,
-                                PlayerRuntimeAttributeService runtimeAttributeService) {
+                                PlayerRuntimeAttributeService runtimeAttributeService,
+                                CombatFeedbackAggregator feedbackAggregator,
+                                WeaponStatsResolver weaponStatsResolver,
+                                CombatEventLog combatEventLog,
+                                ThreatService threatService) {
         this.damageCalculationService = damageCalculationService;
         this.playerDataService = playerDataService;
         this.logger = logger;
         this.mobStatProvider = mobStatProvider;
         this.statusEffectManager = statusEffectManager;
         this.runtimeAttributeService = runtimeAttributeService;
+        this.feedbackAggregator = feedbackAggregator;
+        this.weaponStatsResolver = weaponStatsResolver;
+        this.combatEventLog = combatEventLog;
+        this.threatService = threatService;
         logger.debug("PlayerCombatListener initialized with MobStatProvider.");
     }
 
@@ -112,13 +136,14 @@ public class PlayerCombatListener implements Listener {
         DamageType damageType = DamageType.PHYSICAL; // Default to physical for most direct entity interactions
 
         if (actualAttacker instanceof Player playerAttacker) {
-            ItemStack mainHand = playerAttacker.getInventory().getItemInMainHand();
-            if (mainHand != null && VANILLA_WEAPON_BASE_DAMAGE.containsKey(mainHand.getType())) {
-                baseWeaponDamage = VANILLA_WEAPON_BASE_DAMAGE.get(mainHand.getType());
-            } else if (mainHand == null || mainHand.getType() == Material.AIR) {
-                baseWeaponDamage = 1.0; // Unarmed damage
+            if (damager == playerAttacker && weaponStatsResolver != null) {
+                // Melee hit: the held item is the weapon. Projectiles keep Bukkit's launch damage.
+                WeaponStats weaponStats = weaponStatsResolver.resolve(playerAttacker);
+                if (weaponStats.hasBaseDamage()) {
+                    baseWeaponDamage = weaponStats.baseDamage();
+                }
+                damageType = weaponStats.damageType();
             }
-            // TODO: Add logic for custom weapons from MMOCraft
             // TODO: Add logic for magical attacks if player casts a spell (set DamageType.MAGICAL)
         } else if (actualAttacker instanceof LivingEntity) { // Mob attacker
             baseWeaponDamage = mobStatProvider.getBaseAttackDamage(actualAttacker.getType());
@@ -141,9 +166,21 @@ public class PlayerCombatListener implements Listener {
 
         event.setDamage(damageInstance.finalDamage());
 
-        if (actualAttacker instanceof Player attackerPlayer) {
-            String feedback = String.format("&f%s &7- &c%.1f", describeEntity(victim), damageInstance.finalDamage());
-            attackerPlayer.sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize(feedback));
+        if (combatEventLog != null) {
+            if (actualAttacker instanceof Player attackerPlayer) {
+                combatEventLog.record(attackerPlayer.getUniqueId(), true, victim, damageInstance);
+            }
+            if (victim instanceof Player victimPlayer) {
+                combatEventLog.record(victimPlayer.getUniqueId(), false, actualAttacker != null ? actualAttacker : damager, damageInstance);
+            }
+        }
+
+        if (actualAttacker instanceof Player attackerPlayer && !damageInstance.evaded()) {
+            feedbackAggregator.recordHit(attackerPlayer, describeEntity(victim),
+                    damageInstance.finalDamage(), damageInstance.criticalHit());
+            if (threatService != null && threatService.isThreatManaged(victim)) {
+                threatService.addDamageThreat((Mob) victim, attackerPlayer, damageInstance.finalDamage());
+            }
         }
 
         handleBerserkEffects(actualAttacker, (LivingEntity) victim, damageInstance);
@@ -153,11 +190,11 @@ public class PlayerCombatListener implements Listener {
 
         if (damageInstance.evaded()) {
             logger.finer(StringUtil.colorize(attackerName + "'s attack on " + victimName + " was &eEVADED&f."));
-            if (victim instanceof Player && damageInstance.victimProfile() != null) {
-                 ((Player) victim).sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize("&7&oEvaded attack from " + attackerName));
+            if (victim instanceof Player victimPlayer && damageInstance.victimProfile() != null) {
+                feedbackAggregator.recordEvadedIncoming(victimPlayer, attackerName);
             }
-             if (actualAttacker instanceof Player && damageInstance.attackerProfile() != null) {
-                 ((Player) actualAttacker).sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize("&7&oYour attack was evaded by " + victimName));
+            if (actualAttacker instanceof Player attackerPlayer && damageInstance.attackerProfile() != null) {
+                feedbackAggregator.recordEvadedOutgoing(attackerPlayer, victimName);
             }
         } else {
             String critMessage = damageInstance.criticalHit() ? " &c(Critical!)&f" : "";
@@ -179,7 +216,7 @@ public class PlayerCombatListener implements Listener {
                     victimProfile.takeDamage(damageInstance.finalDamage());
                     logger.finest("Updated PlayerProfile health for " + victimName + " after taking " + String.format("%.2f", damageInstance.finalDamage()) + " damage. New profile health: " + victimProfile.getCurrentHealth());
                     if (runtimeAttributeService != null) {
-                        runtimeAttributeService.syncPlayer(victimPlayer);
+                        runtimeAttributeService.markDirty(victimPlayer);
                     }
 
                     // If victimProfile.getCurrentHealth() <= 0, you might trigger a custom death event or logic here
@@ -213,7 +250,7 @@ public class PlayerCombatListener implements Listener {
         if (lifesteal > 0) {
             profile.heal(Math.round(lifesteal));
             if (runtimeAttributeService != null) {
-                runtimeAttributeService.syncPlayer(player);
+                runtimeAttributeService.markDirty(player);
             }
         }
 
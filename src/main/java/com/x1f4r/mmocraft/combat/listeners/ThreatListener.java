@@ -0,0 +1,53 @@
+package com.x1f4r.mmocraft.combat.listeners;
+
+import com.x1f4r.mmocraft.combat.threat.ThreatService;
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityTargetEvent;
+import org.bukkit.event.entity.EntityTargetLivingEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps threat-managed mobs on their highest-threat player and drops threat state for dead
+ * mobs and departed players.
+ */
+public class ThreatListener implements Listener {
+
+    private final ThreatService threatService;
+
+    public ThreatListener(ThreatService threatService, LoggingUtil logger) {
+        this.threatService = threatService;
+        logger.debug("ThreatListener initialized.");
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityTarget(EntityTargetLivingEntityEvent event) {
+        if (event.getReason() == EntityTargetEvent.TargetReason.CUSTOM || !(event.getEntity() instanceof Mob mob)) {
+            return;
+        }
+        Player threatTarget = threatService.getThreatTarget(mob);
+        if (threatTarget != null && event.getTarget() != threatTarget) {
+            // Vanilla AI picked someone else (closest player, retaliation); keep the threat leader.
+            event.setTarget(threatTarget);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            threatService.clearPlayer(player.getUniqueId());
+        } else {
+            threatService.clearMob(event.getEntity().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        threatService.clearPlayer(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,170 @@
+package com.x1f4r.mmocraft.combat.log;
+
+import com.x1f4r.mmocraft.combat.model.DamageInstance;
+import org.bukkit.entity.Entity;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the most recent combat events of every player in fixed-size, preallocated ring buffers.
+ * <p>
+ * Each slot stores primitives only (timestamps, UUID halves, ordinals, damage values and flag bits),
+ * so recording a hit never allocates once a player's ring exists. Reads go through
+ * {@link CombatLogSnapshot}, which copies the ring so that exports can run off the main thread.
+ */
+public class CombatEventLog {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    static final byte FLAG_OUTGOING = 1;
+    static final byte FLAG_CRITICAL = 1 << 1;
+    static final byte FLAG_EVADED = 1 << 2;
+
+    private final int capacity;
+    private final Map<UUID, Ring> rings = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public CombatEventLog() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    public CombatEventLog(int capacity, boolean enabled) {
+        this.capacity = Math.max(1, capacity);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records one damage interaction from the point of view of {@code playerId}.
+     *
+     * @param playerId    The player owning the log entry.
+     * @param outgoing    True if the player dealt the damage, false if they received it.
+     * @param counterpart The other side of the interaction. May be null for unknown sources.
+     * @param instance    The calculated damage instance.
+     */
+    public void record(UUID playerId, boolean outgoing, Entity counterpart, DamageInstance instance) {
+        if (!enabled || playerId == null || instance == null) {
+            return;
+        }
+        byte flags = 0;
+        if (outgoing) flags |= FLAG_OUTGOING;
+        if (instance.criticalHit()) flags |= FLAG_CRITICAL;
+        if (instance.evaded()) flags |= FLAG_EVADED;
+
+        long most = 0L;
+        long least = 0L;
+        short entityType = -1;
+        if (counterpart != null) {
+            UUID counterpartId = counterpart.getUniqueId();
+            most = counterpartId.getMostSignificantBits();
+            least = counterpartId.getLeastSignificantBits();
+            entityType = (short) counterpart.getType().ordinal();
+        }
+        rings.computeIfAbsent(playerId, id -> new Ring(capacity))
+                .add(System.currentTimeMillis(), most, least, entityType,
+                        (byte) instance.type().ordinal(), flags, instance.baseDamage(), instance.finalDamage());
+    }
+
+    /**
+     * @return A copy of the player's most recent events (oldest first), limited to {@code limit} entries.
+     */
+    public CombatLogSnapshot snapshot(UUID playerId, int limit) {
+        Ring ring = playerId != null ? rings.get(playerId) : null;
+        if (ring == null) {
+            return CombatLogSnapshot.EMPTY;
+        }
+        return ring.snapshot(limit);
+    }
+
+    /**
+     * @return Copies of every player's ring, keyed by player UUID.
+     */
+    public Map<UUID, CombatLogSnapshot> snapshotAll() {
+        Map<UUID, CombatLogSnapshot> snapshots = new LinkedHashMap<>();
+        rings.forEach((playerId, ring) -> snapshots.put(playerId, ring.snapshot(capacity)));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    public void clear(UUID playerId) {
+        if (playerId != null) {
+            rings.remove(playerId);
+        }
+    }
+
+    public void clearAll() {
+        rings.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getTrackedPlayerCount() {
+        return rings.size();
+    }
+
+    private static final class Ring {
+        private final long[] timestamps;
+        private final long[] counterpartMost;
+        private final long[] counterpartLeast;
+        private final short[] entityTypes;
+        private final byte[] damageTypes;
+        private final byte[] flags;
+        private final double[] baseDamage;
+        private final double[] finalDamage;
+        private int next;
+        private int size;
+
+        private Ring(int capacity) {
+            timestamps = new long[capacity];
+            counterpartMost = new long[capacity];
+            counterpartLeast = new long[capacity];
+            entityTypes = new short[capacity];
+            damageTypes = new byte[capacity];
+            flags = new byte[capacity];
+            baseDamage = new double[capacity];
+            finalDamage = new double[capacity];
+        }
+
+        private synchronized void add(long timestamp, long most, long least, short entityType,
+                                      byte damageType, byte flagBits, double base, double dealt) {
+            int slot = next;
+            timestamps[slot] = timestamp;
+            counterpartMost[slot] = most;
+            counterpartLeast[slot] = least;
+            entityTypes[slot] = entityType;
+            damageTypes[slot] = damageType;
+            flags[slot] = flagBits;
+            baseDamage[slot] = base;
+            finalDamage[slot] = dealt;
+            next = (slot + 1) % timestamps.length;
+            if (size < timestamps.length) {
+                size++;
+            }
+        }
+
+        private synchronized CombatLogSnapshot snapshot(int limit) {
+            int count = Math.min(size, Math.max(0, limit));
+            CombatLogSnapshot snapshot = new CombatLogSnapshot(count);
+            int capacity = timestamps.length;
+            int start = (next - count + capacity) % capacity;
+            for (int i = 0; i < count; i++) {
+                int slot = (start + i) % capacity;
+                snapshot.set(i, timestamps[slot], counterpartMost[slot], counterpartLeast[slot], entityTypes[slot],
+                        damageTypes[slot], flags[slot], baseDamage[slot], finalDamage[slot]);
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.x1f4r.mmocraft.combat.log;
+
+import org.bukkit.entity.EntityType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Streams {@link CombatLogSnapshot}s to CSV, one row at a time.
+ */
+public final class CombatEventLogExporter {
+
+    static final String HEADER = "player_uuid,timestamp,direction,counterpart_uuid,counterpart_type,damage_type,base_damage,final_damage,critical,evaded";
+
+    private CombatEventLogExporter() {
+    }
+
+    /**
+     * Writes every snapshot to {@code file}, creating parent directories as needed.
+     *
+     * @return The number of rows written, excluding the header.
+     */
+    public static int export(Path file, Map<UUID, CombatLogSnapshot> snapshots) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return write(writer, snapshots);
+        }
+    }
+
+    static int write(Writer writer, Map<UUID, CombatLogSnapshot> snapshots) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        int rows = 0;
+        for (Map.Entry<UUID, CombatLogSnapshot> entry : snapshots.entrySet()) {
+            String playerId = entry.getKey().toString();
+            CombatLogSnapshot snapshot = entry.getValue();
+            for (int i = 0; i < snapshot.size(); i++) {
+                UUID counterpartId = snapshot.counterpartId(i);
+                EntityType counterpartType = snapshot.counterpartType(i);
+                writer.write(playerId);
+                writer.write(',');
+                writer.write(Instant.ofEpochMilli(snapshot.timestampMillis(i)).toString());
+                writer.write(',');
+                writer.write(snapshot.isOutgoing(i) ? "out" : "in");
+                writer.write(',');
+                writer.write(counterpartId != null ? counterpartId.toString() : "");
+                writer.write(',');
+                writer.write(counterpartType != null ? counterpartType.name() : "");
+                writer.write(',');
+                writer.write(snapshot.damageType(i).name());
+                writer.write(',');
+                writer.write(String.format(Locale.ROOT, "%.2f", snapshot.baseDamage(i)));
+                writer.write(',');
+                writer.write(String.format(Locale.ROOT, "%.2f", snapshot.finalDamage(i)));
+                writer.write(',');
+                writer.write(Boolean.toString(snapshot.isCritical(i)));
+                writer.write(',');
+                writer.write(Boolean.toString(snapshot.isEvaded(i)));
+                writer.write('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
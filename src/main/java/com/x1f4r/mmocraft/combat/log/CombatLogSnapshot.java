@@ -0,0 +1,103 @@
+package com.x1f4r.mmocraft.combat.log;
+
+import com.x1f4r.mmocraft.combat.model.DamageType;
+import org.bukkit.entity.EntityType;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of part of a player's {@link CombatEventLog} ring, ordered oldest first.
+ */
+public final class CombatLogSnapshot {
+
+    static final CombatLogSnapshot EMPTY = new CombatLogSnapshot(0);
+
+    private static final EntityType[] ENTITY_TYPES = EntityType.values();
+    private static final DamageType[] DAMAGE_TYPES = DamageType.values();
+
+    private final long[] timestamps;
+    private final long[] counterpartMost;
+    private final long[] counterpartLeast;
+    private final short[] entityTypes;
+    private final byte[] damageTypes;
+    private final byte[] flags;
+    private final double[] baseDamage;
+    private final double[] finalDamage;
+
+    CombatLogSnapshot(int size) {
+        timestamps = new long[size];
+        counterpartMost = new long[size];
+        counterpartLeast = new long[size];
+        entityTypes = new short[size];
+        damageTypes = new byte[size];
+        flags = new byte[size];
+        baseDamage = new double[size];
+        finalDamage = new double[size];
+    }
+
+    void set(int index, long timestamp, long most, long least, short entityType,
+             byte damageType, byte flagBits, double base, double dealt) {
+        timestamps[index] = timestamp;
+        counterpartMost[index] = most;
+        counterpartLeast[index] = least;
+        entityTypes[index] = entityType;
+        damageTypes[index] = damageType;
+        flags[index] = flagBits;
+        baseDamage[index] = base;
+        finalDamage[index] = dealt;
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public boolean isEmpty() {
+        return timestamps.length == 0;
+    }
+
+    public long timestampMillis(int index) {
+        return timestamps[index];
+    }
+
+    public boolean isOutgoing(int index) {
+        return (flags[index] & CombatEventLog.FLAG_OUTGOING) != 0;
+    }
+
+    public boolean isCritical(int index) {
+        return (flags[index] & CombatEventLog.FLAG_CRITICAL) != 0;
+    }
+
+    public boolean isEvaded(int index) {
+        return (flags[index] & CombatEventLog.FLAG_EVADED) != 0;
+    }
+
+    /**
+     * @return The UUID of the other entity, or null if the source was unknown.
+     */
+    public UUID counterpartId(int index) {
+        if (entityTypes[index] < 0) {
+            return null;
+        }
+        return new UUID(counterpartMost[index], counterpartLeast[index]);
+    }
+
+    /**
+     * @return The type of the other entity, or null if the source was unknown.
+     */
+    public EntityType counterpartType(int index) {
+        short ordinal = entityTypes[index];
+        return ordinal >= 0 && ordinal < ENTITY_TYPES.length ? ENTITY_TYPES[ordinal] : null;
+    }
+
+    public DamageType damageType(int index) {
+        return DAMAGE_TYPES[damageTypes[index]];
+    }
+
+    public double baseDamage(int index) {
+        return baseDamage[index];
+    }
+
+    public double finalDamage(int index) {
+        return finalDamage[index];
+    }
+}
@@ -0,0 +1,27 @@
+package com.x1f4r.mmocraft.combat.model;
+
+/**
+ * Resolved offensive properties of whatever a player is holding.
+ *
+ * @param baseDamage The base damage fed into the damage calculation, or {@link Double#NaN} when the
+ *                   vanilla damage reported by Bukkit should be used instead.
+ * @param damageType The {@link DamageType} dealt by the weapon.
+ */
+public record WeaponStats(double baseDamage, DamageType damageType) {
+
+    public static final WeaponStats UNARMED = new WeaponStats(1.0, DamageType.PHYSICAL);
+    public static final WeaponStats VANILLA_FALLBACK = new WeaponStats(Double.NaN, DamageType.PHYSICAL);
+
+    public WeaponStats {
+        if (damageType == null) {
+            damageType = DamageType.PHYSICAL;
+        }
+    }
+
+    /**
+     * @return True if {@link #baseDamage()} should replace the damage Bukkit calculated for the event.
+     */
+    public boolean hasBaseDamage() {
+        return !Double.isNaN(baseDamage);
+    }
+}
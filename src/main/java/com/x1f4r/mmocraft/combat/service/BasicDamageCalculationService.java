@@ -8,6 +8,7 @@ import com.x1f4r.mmocraft.playerdata.PlayerDataService;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.model.Stat;
 import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.util.RandomService;
 import com.x1f4r.mmocraft.world.spawning.service.BasicCustomSpawningService;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -18,8 +19,8 @@ import org.bukkit.projectiles.ProjectileSource;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 public class BasicDamageCalculationService implements DamageCalculationService {
 
@@ -27,21 +28,36 @@ public class BasicDamageCalculationService implements DamageCalculationService {
     private final LoggingUtil logger;
     private final MobStatProvider mobStatProvider;
     private final GameplayConfigService gameplayConfigService;
-    private final Random random = new Random();
+    private final RandomService randomService;
 
     public BasicDamageCalculationService(PlayerDataService playerDataService,
                                          LoggingUtil logger,
                                          MobStatProvider mobStatProvider,
                                          GameplayConfigService gameplayConfigService) {
+        this(playerDataService, logger, mobStatProvider, gameplayConfigService, new RandomService());
+    }
+
+    public BasicDamageCalculationService(PlayerDataService playerDataService,
+                                         LoggingUtil logger,
+                                         MobStatProvider mobStatProvider,
+                                         GameplayConfigService gameplayConfigService,
+                                         RandomService randomService) {
         this.playerDataService = Objects.requireNonNull(playerDataService, "playerDataService");
         this.logger = Objects.requireNonNull(logger, "logger");
         this.mobStatProvider = Objects.requireNonNull(mobStatProvider, "mobStatProvider");
         this.gameplayConfigService = Objects.requireNonNull(gameplayConfigService, "gameplayConfigService");
+        this.randomService = Objects.requireNonNull(randomService, "randomService");
         logger.debug("BasicDamageCalculationService initialized with MobStatProvider.");
     }
 
     @Override
     public DamageInstance calculateDamage(Entity attacker, Entity victim, double initialBaseDamage, DamageType damageType) {
+        return calculateDamage(attacker, victim, initialBaseDamage, damageType, randomService.forCombatEvent());
+    }
+
+    @Override
+    public DamageInstance calculateDamage(Entity attacker, Entity victim, double initialBaseDamage,
+                                          DamageType damageType, RandomGenerator random) {
         Entity actualAttacker = resolveActualAttacker(attacker);
         UUID attackerId = actualAttacker != null ? actualAttacker.getUniqueId() : null;
         UUID victimId = victim.getUniqueId();
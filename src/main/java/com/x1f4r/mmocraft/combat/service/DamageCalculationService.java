@@ -4,6 +4,8 @@ import com.x1f4r.mmocraft.combat.model.DamageInstance;
 import com.x1f4r.mmocraft.combat.model.DamageType; // If type is decided early
 import org.bukkit.entity.Entity;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Service responsible for calculating the outcome of a damage event
  * between an attacker and a victim.
@@ -23,6 +25,18 @@ public interface DamageCalculationService {
      */
     DamageInstance calculateDamage(Entity attacker, Entity victim, double baseWeaponDamage, DamageType damageType);
 
+    /**
+     * Calculates a {@link DamageInstance} using the supplied generator for every roll (critical hit,
+     * evasion, ferocity). Passing a seeded generator makes the outcome reproducible.
+     *
+     * @param random The generator to draw rolls from. Must only be used on the calling thread.
+     * @return A {@link DamageInstance} object detailing the entire damage interaction.
+     */
+    default DamageInstance calculateDamage(Entity attacker, Entity victim, double baseWeaponDamage,
+                                           DamageType damageType, RandomGenerator random) {
+        return calculateDamage(attacker, victim, baseWeaponDamage, damageType);
+    }
+
     // Potentially add other methods for more specific calculation steps if needed,
     // or for calculating healing, DoTs, etc.
     // Example:
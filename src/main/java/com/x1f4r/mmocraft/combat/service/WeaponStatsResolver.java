@@ -0,0 +1,116 @@
+package com.x1f4r.mmocraft.combat.service;
+
+import com.x1f4r.mmocraft.combat.model.DamageType;
+import com.x1f4r.mmocraft.combat.model.WeaponStats;
+import com.x1f4r.mmocraft.item.model.CustomItem;
+import com.x1f4r.mmocraft.item.service.CustomItemRegistry;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the base damage and damage type of a player's main-hand item.
+ * <p>
+ * Custom items declare their own values through {@link CustomItem#getBaseDamage()} and
+ * {@link CustomItem#getDamageType()}; everything else falls back to a vanilla material table.
+ * Results are cached per player and held slot so the hit path does not read item meta.
+ * The cache must be invalidated whenever the held stack may have changed (see
+ * {@link com.x1f4r.mmocraft.combat.listeners.WeaponStatsCacheListener}).
+ */
+public class WeaponStatsResolver {
+
+    private static final Map<Material, Double> VANILLA_WEAPON_BASE_DAMAGE;
+
+    static {
+        Map<Material, Double> damage = new EnumMap<>(Material.class);
+        damage.put(Material.WOODEN_SWORD, 4.0);
+        damage.put(Material.STONE_SWORD, 5.0);
+        damage.put(Material.IRON_SWORD, 6.0);
+        damage.put(Material.GOLDEN_SWORD, 4.0);
+        damage.put(Material.DIAMOND_SWORD, 7.0);
+        damage.put(Material.NETHERITE_SWORD, 8.0);
+        damage.put(Material.WOODEN_AXE, 3.0); // Axes are typically a bit less than swords
+        damage.put(Material.STONE_AXE, 4.0);
+        damage.put(Material.IRON_AXE, 5.0);
+        damage.put(Material.GOLDEN_AXE, 3.0);
+        damage.put(Material.DIAMOND_AXE, 6.0);
+        damage.put(Material.NETHERITE_AXE, 7.0);
+        damage.put(Material.TRIDENT, 9.0); // Melee Trident damage
+        VANILLA_WEAPON_BASE_DAMAGE = Collections.unmodifiableMap(damage);
+    }
+
+    private final CustomItemRegistry customItemRegistry;
+    private final Map<UUID, CachedWeapon> cache = new ConcurrentHashMap<>();
+
+    public WeaponStatsResolver(CustomItemRegistry customItemRegistry) {
+        this.customItemRegistry = Objects.requireNonNull(customItemRegistry, "customItemRegistry");
+    }
+
+    /**
+     * Returns the stats of the item currently held in the player's main hand.
+     */
+    public WeaponStats resolve(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        ItemStack mainHand = inventory.getItemInMainHand();
+        Material type = mainHand == null ? Material.AIR : mainHand.getType();
+        int slot = inventory.getHeldItemSlot();
+
+        CachedWeapon cached = cache.get(player.getUniqueId());
+        if (cached != null && cached.slot() == slot && cached.material() == type) {
+            return cached.stats();
+        }
+        WeaponStats stats = computeStats(mainHand, type);
+        cache.put(player.getUniqueId(), new CachedWeapon(slot, type, stats));
+        return stats;
+    }
+
+    /**
+     * Resolves stats for an arbitrary stack without touching the per-player cache.
+     */
+    public WeaponStats computeStats(ItemStack itemStack) {
+        return computeStats(itemStack, itemStack == null ? Material.AIR : itemStack.getType());
+    }
+
+    private WeaponStats computeStats(ItemStack itemStack, Material type) {
+        if (type.isAir()) {
+            return WeaponStats.UNARMED;
+        }
+        Double vanillaDamage = VANILLA_WEAPON_BASE_DAMAGE.get(type);
+        Optional<CustomItem> customItem = itemStack.hasItemMeta()
+                ? customItemRegistry.getCustomItem(itemStack)
+                : Optional.empty();
+        if (customItem.isPresent()) {
+            CustomItem item = customItem.get();
+            DamageType damageType = item.getDamageType();
+            if (item.getBaseDamage() > 0) {
+                return new WeaponStats(item.getBaseDamage(), damageType);
+            }
+            return new WeaponStats(vanillaDamage != null ? vanillaDamage : Double.NaN, damageType);
+        }
+        return vanillaDamage != null
+                ? new WeaponStats(vanillaDamage, DamageType.PHYSICAL)
+                : WeaponStats.VANILLA_FALLBACK;
+    }
+
+    public void invalidate(UUID playerId) {
+        if (playerId != null) {
+            cache.remove(playerId);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private record CachedWeapon(int slot, Material material, WeaponStats stats) {
+    }
+}
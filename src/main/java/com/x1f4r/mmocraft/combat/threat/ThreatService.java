@@ -0,0 +1,289 @@
+package com.x1f4r.mmocraft.combat.threat;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.spawning.service.BasicCustomSpawningService;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Tracks damage and healing threat for custom mobs and points each mob at its highest-threat player.
+ * <p>
+ * Threat is only touched when something happens: hits and heals update a mob's {@link ThreatTable} and
+ * retarget immediately when a player overtakes the current target by {@link #getRetargetThreshold()}.
+ * A single shared {@link #tick()} decays every engaged table and drops players whose threat faded,
+ * so there are no per-mob tasks and no per-tick scans. A reverse index from player to engaged mobs
+ * keeps healing threat and player cleanup proportional to that player's fights.
+ */
+public class ThreatService {
+
+    public static final int DEFAULT_DECAY_INTERVAL_TICKS = 20;
+    public static final double DEFAULT_DECAY_FACTOR = 0.9;
+    public static final double DEFAULT_RETARGET_THRESHOLD = 1.1;
+    public static final double DEFAULT_HEALING_THREAT_MULTIPLIER = 0.5;
+    public static final double DEFAULT_MINIMUM_THREAT = 1.0;
+
+    private final LoggingUtil logger;
+    private final Function<UUID, Player> playerLookup;
+    private final Map<UUID, Engagement> engagements = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> mobsByPlayer = new ConcurrentHashMap<>();
+
+    private volatile double decayFactor = DEFAULT_DECAY_FACTOR;
+    private volatile double retargetThreshold = DEFAULT_RETARGET_THRESHOLD;
+    private volatile double healingThreatMultiplier = DEFAULT_HEALING_THREAT_MULTIPLIER;
+    private volatile double minimumThreat = DEFAULT_MINIMUM_THREAT;
+
+    public ThreatService(LoggingUtil logger) {
+        this(logger, Bukkit::getPlayer);
+    }
+
+    public ThreatService(LoggingUtil logger, Function<UUID, Player> playerLookup) {
+        this.logger = logger;
+        this.playerLookup = playerLookup;
+        logger.debug("ThreatService initialized.");
+    }
+
+    /**
+     * Applies tuning values, typically read from the {@code combat.threat} section of mmocraft.conf.
+     */
+    public void configure(double decayFactor, double retargetThreshold, double healingThreatMultiplier, double minimumThreat) {
+        this.decayFactor = decayFactor > 0 && decayFactor <= 1.0 ? decayFactor : DEFAULT_DECAY_FACTOR;
+        this.retargetThreshold = Math.max(1.0, retargetThreshold);
+        this.healingThreatMultiplier = Math.max(0.0, healingThreatMultiplier);
+        this.minimumThreat = Math.max(0.0, minimumThreat);
+    }
+
+    /**
+     * @return true if the entity is a mob spawned by the custom spawning service.
+     */
+    public boolean isThreatManaged(Entity entity) {
+        return entity instanceof Mob && entity.hasMetadata(BasicCustomSpawningService.METADATA_KEY_CUSTOM_MOB_ID);
+    }
+
+    /**
+     * Records threat from a player damaging a custom mob.
+     */
+    public void addDamageThreat(Mob mob, Player attacker, double damage) {
+        if (mob == null || attacker == null || damage <= 0) {
+            return;
+        }
+        addThreat(mob, attacker, damage);
+    }
+
+    /**
+     * Records healing threat. The threat is split evenly across every mob currently engaged with the
+     * healed player and credited to the healer.
+     */
+    public void addHealingThreat(Player healer, Player healed, double amountHealed) {
+        if (healer == null || healed == null || amountHealed <= 0) {
+            return;
+        }
+        Set<UUID> mobIds = mobsByPlayer.get(healed.getUniqueId());
+        if (mobIds == null || mobIds.isEmpty()) {
+            return;
+        }
+        UUID[] targets = mobIds.toArray(new UUID[0]);
+        double share = amountHealed * healingThreatMultiplier / targets.length;
+        if (share <= 0) {
+            return;
+        }
+        for (UUID mobId : targets) {
+            Engagement engagement = engagements.get(mobId);
+            if (engagement != null) {
+                addThreat(engagement.mob, healer, share);
+            }
+        }
+    }
+
+    private void addThreat(Mob mob, Player player, double amount) {
+        UUID mobId = mob.getUniqueId();
+        UUID playerId = player.getUniqueId();
+        Engagement engagement = engagements.computeIfAbsent(mobId, id -> new Engagement(mob));
+        ThreatTable table = engagement.table;
+        double total = table.add(playerId, amount);
+        mobsByPlayer.computeIfAbsent(playerId, id -> ConcurrentHashMap.newKeySet()).add(mobId);
+
+        UUID currentTarget = table.target();
+        if (playerId.equals(currentTarget)) {
+            return;
+        }
+        if (currentTarget == null || !isValidTarget(mob, playerLookup.apply(currentTarget))) {
+            retarget(engagement);
+        } else if (total > table.targetThreat() * retargetThreshold && isValidTarget(mob, player)) {
+            applyTarget(engagement, player);
+        }
+    }
+
+    /**
+     * Decays every engaged table once. Intended to run on a shared timer, not every tick.
+     */
+    public void tick() {
+        double factor = decayFactor;
+        double floor = minimumThreat;
+        Iterator<Map.Entry<UUID, Engagement>> iterator = engagements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Engagement> entry = iterator.next();
+            UUID mobId = entry.getKey();
+            Engagement engagement = entry.getValue();
+            if (!engagement.mob.isValid()) {
+                iterator.remove();
+                unlinkAll(mobId, engagement.table);
+                continue;
+            }
+            boolean hadTarget = engagement.table.target() != null;
+            for (UUID dropped : engagement.table.decay(factor, floor)) {
+                unlink(dropped, mobId);
+            }
+            if (engagement.table.isEmpty()) {
+                iterator.remove();
+                if (hadTarget) {
+                    engagement.mob.setTarget(null);
+                }
+                continue;
+            }
+            UUID target = engagement.table.target();
+            if (target == null || !isValidTarget(engagement.mob, playerLookup.apply(target))) {
+                retarget(engagement);
+            }
+        }
+    }
+
+    /**
+     * @return The player the mob should be attacking according to its threat table, or null if none.
+     */
+    public Player getThreatTarget(Mob mob) {
+        Engagement engagement = mob != null ? engagements.get(mob.getUniqueId()) : null;
+        if (engagement == null) {
+            return null;
+        }
+        UUID target = engagement.table.target();
+        Player player = target != null ? playerLookup.apply(target) : null;
+        return isValidTarget(mob, player) ? player : null;
+    }
+
+    public double getThreat(UUID mobId, UUID playerId) {
+        Engagement engagement = mobId != null ? engagements.get(mobId) : null;
+        return engagement == null || playerId == null ? 0.0 : engagement.table.get(playerId);
+    }
+
+    public int getEngagedMobCount() {
+        return engagements.size();
+    }
+
+    /**
+     * Forgets a mob entirely, e.g. when it dies or is removed from the world.
+     */
+    public void clearMob(UUID mobId) {
+        if (mobId == null) {
+            return;
+        }
+        Engagement engagement = engagements.remove(mobId);
+        if (engagement != null) {
+            unlinkAll(mobId, engagement.table);
+        }
+    }
+
+    /**
+     * Removes a player from every table they appear in and retargets the affected mobs.
+     */
+    public void clearPlayer(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+        Set<UUID> mobIds = mobsByPlayer.remove(playerId);
+        if (mobIds == null) {
+            return;
+        }
+        for (UUID mobId : mobIds) {
+            Engagement engagement = engagements.get(mobId);
+            if (engagement == null) {
+                continue;
+            }
+            boolean wasTarget = playerId.equals(engagement.table.target());
+            engagement.table.remove(playerId);
+            if (engagement.table.isEmpty()) {
+                engagements.remove(mobId);
+                if (wasTarget) {
+                    engagement.mob.setTarget(null);
+                }
+            } else if (wasTarget) {
+                retarget(engagement);
+            }
+        }
+    }
+
+    public void clearAll() {
+        engagements.clear();
+        mobsByPlayer.clear();
+    }
+
+    public double getRetargetThreshold() {
+        return retargetThreshold;
+    }
+
+    private void retarget(Engagement engagement) {
+        ThreatTable table = engagement.table;
+        Player best = null;
+        double bestThreat = -1.0;
+        for (int i = 0; i < table.size(); i++) {
+            double threat = table.threatAt(i);
+            if (threat <= bestThreat) {
+                continue;
+            }
+            Player candidate = playerLookup.apply(table.idAt(i));
+            if (isValidTarget(engagement.mob, candidate)) {
+                best = candidate;
+                bestThreat = threat;
+            }
+        }
+        if (best != null) {
+            applyTarget(engagement, best);
+        } else {
+            table.setTarget(null);
+        }
+    }
+
+    private void applyTarget(Engagement engagement, Player player) {
+        engagement.table.setTarget(player.getUniqueId());
+        if (engagement.mob.getTarget() != player) {
+            engagement.mob.setTarget(player);
+            logger.finer("Threat retarget: " + engagement.mob.getType() + " -> " + player.getName());
+        }
+    }
+
+    private boolean isValidTarget(Mob mob, Player player) {
+        return player != null && player.isValid() && !player.isDead()
+                && Objects.equals(player.getWorld(), mob.getWorld());
+    }
+
+    private void unlinkAll(UUID mobId, ThreatTable table) {
+        for (int i = 0; i < table.size(); i++) {
+            unlink(table.idAt(i), mobId);
+        }
+    }
+
+    private void unlink(UUID playerId, UUID mobId) {
+        mobsByPlayer.computeIfPresent(playerId, (id, mobs) -> {
+            mobs.remove(mobId);
+            return mobs.isEmpty() ? null : mobs;
+        });
+    }
+
+    private static final class Engagement {
+        private final Mob mob;
+        private final ThreatTable table = new ThreatTable();
+
+        private Engagement(Mob mob) {
+            this.mob = mob;
+        }
+    }
+}
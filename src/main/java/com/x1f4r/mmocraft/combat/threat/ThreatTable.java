@@ -0,0 +1,163 @@
+package com.x1f4r.mmocraft.combat.threat;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Compact threat table for a single mob.
+ * <p>
+ * Entries are kept in parallel primitive arrays (UUID halves and threat values) because a mob is
+ * rarely engaged by more than a handful of players; a linear scan over a few longs beats hashing
+ * and avoids boxing. Not thread-safe: tables are only touched from the server thread.
+ */
+final class ThreatTable {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final UUID[] EMPTY = new UUID[0];
+
+    private long[] most = new long[INITIAL_CAPACITY];
+    private long[] least = new long[INITIAL_CAPACITY];
+    private double[] threat = new double[INITIAL_CAPACITY];
+    private int size;
+
+    private boolean hasTarget;
+    private long targetMost;
+    private long targetLeast;
+
+    /**
+     * Adds {@code amount} threat for the given player and returns their new total.
+     */
+    double add(UUID playerId, double amount) {
+        int index = indexOf(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        if (index < 0) {
+            index = append(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        }
+        threat[index] = Math.max(0.0, threat[index] + amount);
+        return threat[index];
+    }
+
+    double get(UUID playerId) {
+        int index = indexOf(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        return index < 0 ? 0.0 : threat[index];
+    }
+
+    boolean contains(UUID playerId) {
+        return indexOf(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits()) >= 0;
+    }
+
+    boolean remove(UUID playerId) {
+        long m = playerId.getMostSignificantBits();
+        long l = playerId.getLeastSignificantBits();
+        int index = indexOf(m, l);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        if (hasTarget && targetMost == m && targetLeast == l) {
+            hasTarget = false;
+        }
+        return true;
+    }
+
+    /**
+     * Multiplies every entry by {@code factor} and drops entries that fall below {@code floor}.
+     *
+     * @return The UUIDs of dropped entries, or an empty array if none were dropped.
+     */
+    UUID[] decay(double factor, double floor) {
+        UUID[] dropped = null;
+        int droppedCount = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            threat[i] *= factor;
+            if (threat[i] < floor) {
+                if (dropped == null) {
+                    dropped = new UUID[i + 1];
+                }
+                dropped[droppedCount++] = new UUID(most[i], least[i]);
+                if (hasTarget && targetMost == most[i] && targetLeast == least[i]) {
+                    hasTarget = false;
+                }
+                removeAt(i);
+            }
+        }
+        if (dropped == null) {
+            return EMPTY;
+        }
+        if (droppedCount == dropped.length) {
+            return dropped;
+        }
+        UUID[] trimmed = new UUID[droppedCount];
+        System.arraycopy(dropped, 0, trimmed, 0, droppedCount);
+        return trimmed;
+    }
+
+    UUID idAt(int index) {
+        return new UUID(most[index], least[index]);
+    }
+
+    double threatAt(int index) {
+        return threat[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    UUID target() {
+        return hasTarget ? new UUID(targetMost, targetLeast) : null;
+    }
+
+    double targetThreat() {
+        if (!hasTarget) {
+            return 0.0;
+        }
+        int index = indexOf(targetMost, targetLeast);
+        return index < 0 ? 0.0 : threat[index];
+    }
+
+    void setTarget(UUID playerId) {
+        if (playerId == null) {
+            hasTarget = false;
+            return;
+        }
+        hasTarget = true;
+        targetMost = playerId.getMostSignificantBits();
+        targetLeast = playerId.getLeastSignificantBits();
+    }
+
+    private int indexOf(long m, long l) {
+        for (int i = 0; i < size; i++) {
+            if (most[i] == m && least[i] == l) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int append(long m, long l) {
+        if (size == most.length) {
+            int newCapacity = most.length * 2;
+            most = Arrays.copyOf(most, newCapacity);
+            least = Arrays.copyOf(least, newCapacity);
+            threat = Arrays.copyOf(threat, newCapacity);
+        }
+        most[size] = m;
+        least[size] = l;
+        threat[size] = 0.0;
+        return size++;
+    }
+
+    private void removeAt(int index) {
+        int last = size - 1;
+        if (index != last) {
+            most[index] = most[last];
+            least[index] = least[last];
+            threat[index] = threat[last];
+        }
+        size = last;
+    }
+}
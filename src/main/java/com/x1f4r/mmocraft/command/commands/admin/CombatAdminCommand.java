@@ -2,23 +2,36 @@ package com.x1f4r.mmocraft.command.commands.admin;
 
 import com.x1f4r.mmocraft.command.AbstractPluginCommand;
 import com.x1f4r.mmocraft.command.CommandExecutable;
+import com.x1f4r.mmocraft.combat.log.CombatEventLog;
+import com.x1f4r.mmocraft.combat.log.CombatEventLogExporter;
+import com.x1f4r.mmocraft.combat.log.CombatLogSnapshot;
 import com.x1f4r.mmocraft.combat.model.DamageInstance;
 import com.x1f4r.mmocraft.combat.model.DamageType;
 import com.x1f4r.mmocraft.combat.service.DamageCalculationService;
 import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.util.RandomService;
 import com.x1f4r.mmocraft.util.StringUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 public class CombatAdminCommand extends AbstractPluginCommand {
@@ -29,6 +42,10 @@ public class CombatAdminCommand extends AbstractPluginCommand {
 
     private static final String PERM_BASE = "mmocraft.admin"; // Base for all /mmocadm commands
     private static final String PERM_COMBAT_TESTDAMAGE = PERM_BASE + ".combat.testdamage";
+    private static final String PERM_COMBAT_RNG = PERM_BASE + ".combat.rng";
+    private static final String PERM_COMBAT_LOG = PERM_BASE + ".combat.log";
+    private static final int DEFAULT_LOG_COUNT = 10;
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     // Simplified weapon damage map (can be expanded or moved to a shared utility)
     private static final Map<Material, Double> VANILLA_WEAPON_DAMAGE_MAP = new HashMap<>();
@@ -84,6 +101,63 @@ public class CombatAdminCommand extends AbstractPluginCommand {
                 return Collections.emptyList();
             }
         });
+
+        registerSubCommand("rng", new CommandExecutable() {
+            @Override
+            public boolean onCommand(CommandSender sender, String[] args) {
+                return executeRng(sender, args);
+            }
+
+            @Override
+            public List<String> onTabComplete(CommandSender sender, String[] args) {
+                if (!sender.hasPermission(PERM_COMBAT_RNG) || args.length != 1) {
+                    return Collections.emptyList();
+                }
+                String prefix = args[0].toLowerCase();
+                return List.of("status", "off", "<seed>").stream()
+                        .filter(option -> option.startsWith(prefix))
+                        .collect(Collectors.toList());
+            }
+        });
+
+        registerSubCommand("log", new CommandExecutable() {
+            @Override
+            public boolean onCommand(CommandSender sender, String[] args) {
+                return executeLog(sender, args);
+            }
+
+            @Override
+            public List<String> onTabComplete(CommandSender sender, String[] args) {
+                if (!sender.hasPermission(PERM_COMBAT_LOG)) {
+                    return Collections.emptyList();
+                }
+                if (args.length == 1) {
+                    return null; // Delegate to Bukkit for player name completion
+                }
+                return Collections.emptyList();
+            }
+        });
+
+        registerSubCommand("exportlog", new CommandExecutable() {
+            @Override
+            public boolean onCommand(CommandSender sender, String[] args) {
+                return executeExportLog(sender, args);
+            }
+
+            @Override
+            public List<String> onTabComplete(CommandSender sender, String[] args) {
+                if (!sender.hasPermission(PERM_COMBAT_LOG) || args.length != 1) {
+                    return Collections.emptyList();
+                }
+                String prefix = args[0].toLowerCase();
+                List<String> options = new ArrayList<>();
+                options.add("all");
+                Bukkit.getOnlinePlayers().forEach(player -> options.add(player.getName()));
+                return options.stream()
+                        .filter(option -> option.toLowerCase().startsWith(prefix))
+                        .collect(Collectors.toList());
+            }
+        });
     }
 
     @Override
@@ -96,7 +170,14 @@ public class CombatAdminCommand extends AbstractPluginCommand {
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(StringUtil.colorize("&6--- Combat Admin Help ---"));
         if (sender.hasPermission(PERM_COMBAT_TESTDAMAGE)) {
-            sender.sendMessage(StringUtil.colorize("&e/mmocadm combat testdamage <attacker> <victim> [weaponMaterial] &7- Simulates damage."));
+            sender.sendMessage(StringUtil.colorize("&e/mmocadm combat testdamage <attacker> <victim> [weaponMaterial] [seed] &7- Simulates damage."));
+        }
+        if (sender.hasPermission(PERM_COMBAT_RNG)) {
+            sender.sendMessage(StringUtil.colorize("&e/mmocadm combat rng <seed|off|status> &7- Toggles deterministic combat rolls."));
+        }
+        if (sender.hasPermission(PERM_COMBAT_LOG)) {
+            sender.sendMessage(StringUtil.colorize("&e/mmocadm combat log <player> [count] &7- Shows a player's most recent hits."));
+            sender.sendMessage(StringUtil.colorize("&e/mmocadm combat exportlog <player|all> &7- Writes combat logs to a CSV file."));
         }
          // Add more combat subcommands here
     }
@@ -107,13 +188,22 @@ public class CombatAdminCommand extends AbstractPluginCommand {
             return true;
         }
         if (args.length < 2) {
-            sender.sendMessage(Component.text("Usage: /mmocadm combat testdamage <attackerPlayerName> <victimPlayerName> [weaponMaterialName]", NamedTextColor.RED));
+            sender.sendMessage(Component.text("Usage: /mmocadm combat testdamage <attackerPlayerName> <victimPlayerName> [weaponMaterialName] [seed]", NamedTextColor.RED));
             return true;
         }
 
         String attackerName = args[0];
         String victimName = args[1];
         String weaponMaterialName = (args.length > 2) ? args[2].toUpperCase() : "AIR"; // Default to unarmed (AIR)
+        Long seed = null;
+        if (args.length > 3) {
+            try {
+                seed = Long.parseLong(args[3]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(Component.text("Invalid seed: " + args[3], NamedTextColor.RED));
+                return true;
+            }
+        }
 
         Player attacker = Bukkit.getPlayerExact(attackerName);
         Player victim = Bukkit.getPlayerExact(victimName);
@@ -142,12 +232,21 @@ public class CombatAdminCommand extends AbstractPluginCommand {
         }
 
 
-        DamageInstance instance = damageCalcService.calculateDamage(attacker, victim, baseDamage, DamageType.PHYSICAL);
+        DamageInstance instance;
+        if (seed != null) {
+            RandomGenerator random = RandomService.seeded(seed);
+            instance = damageCalcService.calculateDamage(attacker, victim, baseDamage, DamageType.PHYSICAL, random);
+        } else {
+            instance = damageCalcService.calculateDamage(attacker, victim, baseDamage, DamageType.PHYSICAL);
+        }
 
         sender.sendMessage(StringUtil.colorize("&6--- Damage Test Result ---"));
         sender.sendMessage(StringUtil.colorize("&eAttacker: &f" + attacker.getName() + (instance.attackerProfile() != null ? " (Profiled)" : " (Not Profiled)")));
         sender.sendMessage(StringUtil.colorize("&eVictim: &f" + victim.getName() + (instance.victimProfile() != null ? " (Profiled)" : " (Not Profiled)")));
         sender.sendMessage(StringUtil.colorize("&eWeapon Base: &f" + String.format("%.2f", baseDamage) + " (&7Simulated " + weaponMaterial.name() + "&7)"));
+        if (seed != null) {
+            sender.sendMessage(StringUtil.colorize("&eSeed: &f" + seed + " &7(reproducible)"));
+        }
         sender.sendMessage(StringUtil.colorize("&eDamage Type: &f" + instance.type()));
         sender.sendMessage(StringUtil.colorize("&eCalculated Base (after attacker bonuses): &f" + String.format("%.2f", instance.baseDamage())));
         sender.sendMessage(StringUtil.colorize("&bCritical Hit: &f" + (instance.criticalHit() ? "&cYes" : "&aNo")));
@@ -161,6 +260,165 @@ public class CombatAdminCommand extends AbstractPluginCommand {
         return true;
     }
 
+    private boolean executeRng(CommandSender sender, String[] args) {
+        if (!sender.hasPermission(PERM_COMBAT_RNG)) {
+            sender.sendMessage(Component.text("You don't have permission for this command.", NamedTextColor.RED));
+            return true;
+        }
+        RandomService randomService = plugin.getRandomService();
+        if (randomService == null) {
+            sender.sendMessage(Component.text("Random service is not available.", NamedTextColor.RED));
+            return true;
+        }
+        String option = args.length > 0 ? args[0].toLowerCase() : "status";
+        switch (option) {
+            case "status" -> {
+                if (randomService.isDeterministic()) {
+                    sender.sendMessage(StringUtil.colorize("&eDeterministic combat rolls: &aon &7(seed " + randomService.getDeterministicSeed()
+                            + ", " + randomService.getEventSequence() + " events rolled)"));
+                } else {
+                    sender.sendMessage(StringUtil.colorize("&eDeterministic combat rolls: &coff"));
+                }
+            }
+            case "off" -> {
+                randomService.disableDeterministicMode();
+                sender.sendMessage(StringUtil.colorize("&aDeterministic combat rolls disabled."));
+                logger.info(sender.getName() + " disabled deterministic combat rolls.");
+            }
+            default -> {
+                long seed;
+                try {
+                    seed = Long.parseLong(args[0]);
+                } catch (NumberFormatException e) {
+                    sender.sendMessage(Component.text("Usage: /mmocadm combat rng <seed|off|status>", NamedTextColor.RED));
+                    return true;
+                }
+                randomService.enableDeterministicMode(seed);
+                sender.sendMessage(StringUtil.colorize("&aDeterministic combat rolls enabled with seed &f" + seed + "&a."));
+                logger.info(sender.getName() + " enabled deterministic combat rolls with seed " + seed + ".");
+            }
+        }
+        return true;
+    }
+
+    private boolean executeLog(CommandSender sender, String[] args) {
+        if (!sender.hasPermission(PERM_COMBAT_LOG)) {
+            sender.sendMessage(Component.text("You don't have permission for this command.", NamedTextColor.RED));
+            return true;
+        }
+        if (args.length < 1 || args.length > 2) {
+            sender.sendMessage(Component.text("Usage: /mmocadm combat log <player> [count]", NamedTextColor.RED));
+            return true;
+        }
+        CombatEventLog combatEventLog = plugin.getCombatEventLog();
+        if (combatEventLog == null) {
+            sender.sendMessage(Component.text("Combat event log is not available.", NamedTextColor.RED));
+            return true;
+        }
+        OfflinePlayer target = resolvePlayer(args[0]);
+        if (target == null) {
+            sender.sendMessage(Component.text("Player '" + args[0] + "' not found.", NamedTextColor.RED));
+            return true;
+        }
+        int count = DEFAULT_LOG_COUNT;
+        if (args.length == 2) {
+            try {
+                count = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(Component.text("Invalid count: " + args[1], NamedTextColor.RED));
+                return true;
+            }
+            if (count <= 0) {
+                sender.sendMessage(Component.text("Count must be positive.", NamedTextColor.RED));
+                return true;
+            }
+        }
+
+        CombatLogSnapshot snapshot = combatEventLog.snapshot(target.getUniqueId(), count);
+        String targetName = target.getName() != null ? target.getName() : args[0];
+        if (snapshot.isEmpty()) {
+            sender.sendMessage(StringUtil.colorize("&eNo combat events recorded for &f" + targetName + "&e."
+                    + (combatEventLog.isEnabled() ? "" : " &7(event log is disabled)")));
+            return true;
+        }
+        sender.sendMessage(StringUtil.colorize("&6--- Last " + snapshot.size() + " combat events for " + targetName + " ---"));
+        long now = System.currentTimeMillis();
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            EntityType counterpartType = snapshot.counterpartType(i);
+            String counterpart = counterpartType != null ? counterpartType.name() : "UNKNOWN";
+            String outcome;
+            if (snapshot.isEvaded(i)) {
+                outcome = "&7evaded";
+            } else {
+                outcome = "&c" + String.format("%.2f", snapshot.finalDamage(i)) + " &7(base "
+                        + String.format("%.2f", snapshot.baseDamage(i)) + ")"
+                        + (snapshot.isCritical(i) ? " &c(Critical!)" : "");
+            }
+            sender.sendMessage(StringUtil.colorize("&8" + ((now - snapshot.timestampMillis(i)) / 1000) + "s ago "
+                    + (snapshot.isOutgoing(i) ? "&a-> " : "&c<- ") + "&f" + counterpart
+                    + " &b" + snapshot.damageType(i).name() + " " + outcome));
+        }
+        return true;
+    }
+
+    private boolean executeExportLog(CommandSender sender, String[] args) {
+        if (!sender.hasPermission(PERM_COMBAT_LOG)) {
+            sender.sendMessage(Component.text("You don't have permission for this command.", NamedTextColor.RED));
+            return true;
+        }
+        if (args.length != 1) {
+            sender.sendMessage(Component.text("Usage: /mmocadm combat exportlog <player|all>", NamedTextColor.RED));
+            return true;
+        }
+        CombatEventLog combatEventLog = plugin.getCombatEventLog();
+        if (combatEventLog == null) {
+            sender.sendMessage(Component.text("Combat event log is not available.", NamedTextColor.RED));
+            return true;
+        }
+
+        Map<UUID, CombatLogSnapshot> snapshots;
+        String label;
+        if (args[0].equalsIgnoreCase("all")) {
+            snapshots = combatEventLog.snapshotAll();
+            label = "all";
+        } else {
+            OfflinePlayer target = resolvePlayer(args[0]);
+            if (target == null) {
+                sender.sendMessage(Component.text("Player '" + args[0] + "' not found.", NamedTextColor.RED));
+                return true;
+            }
+            snapshots = Map.of(target.getUniqueId(),
+                    combatEventLog.snapshot(target.getUniqueId(), combatEventLog.getCapacity()));
+            label = target.getName() != null ? target.getName() : target.getUniqueId().toString();
+        }
+
+        // Snapshots are copies, so the file write can happen off the main thread.
+        Path file = plugin.getDataFolder().toPath().resolve("combat-logs")
+                .resolve(label + "-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + ".csv");
+        sender.sendMessage(StringUtil.colorize("&eExporting combat log to &f" + file.getFileName() + "&e..."));
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                int rows = CombatEventLogExporter.export(file, snapshots);
+                logger.info(sender.getName() + " exported " + rows + " combat event(s) to " + file + ".");
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                        StringUtil.colorize("&aExported &f" + rows + "&a combat event(s) to &f" + file.getFileName() + "&a.")));
+            } catch (IOException e) {
+                logger.severe("Failed to export combat log to " + file + ": " + e.getMessage(), e);
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                        Component.text("Combat log export failed. See console for details.", NamedTextColor.RED)));
+            }
+        });
+        return true;
+    }
+
+    private OfflinePlayer resolvePlayer(String name) {
+        Player online = Bukkit.getPlayerExact(name);
+        if (online != null) {
+            return online;
+        }
+        return Bukkit.getOfflinePlayerIfCached(name);
+    }
+
     @Override
     public List<String> onTabComplete(CommandSender sender, String[] args) {
         return Collections.emptyList();
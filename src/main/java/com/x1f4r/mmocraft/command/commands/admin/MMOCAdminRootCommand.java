@@ -27,6 +27,7 @@ public class MMOCAdminRootCommand extends AbstractPluginCommand {
         registerSubCommand("diagnostics", new DiagnosticsAdminCommand(plugin));
         registerSubCommand("issues", new DiagnosticsIssuesCommand(plugin));
         registerSubCommand("reloadconfig", new ReloadConfigAdminCommand(plugin));
+        registerSubCommand("timings", new TimingsAdminCommand(plugin));
         // Example: registerSubCommand("config", new ConfigAdminCommand(plugin));
     }
 
@@ -50,6 +51,9 @@ public class MMOCAdminRootCommand extends AbstractPluginCommand {
         if (sender.hasPermission("mmocraft.admin.reload")) {
             sender.sendMessage(StringUtil.colorize("&e/mmocadm reloadconfig &7- Reload gameplay configuration files."));
         }
+        if (sender.hasPermission("mmocraft.admin.timings")) {
+            sender.sendMessage(StringUtil.colorize("&e/mmocadm timings &7- Show per-task tick scheduler timings."));
+        }
 
         // Check if the sender has permission for any registered subcommand to avoid "No admin modules available"
         // if they have permission for a dynamically registered one but not the hardcoded ones above.
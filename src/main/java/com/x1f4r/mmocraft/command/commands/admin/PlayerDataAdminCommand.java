@@ -6,6 +6,7 @@ import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.playerdata.PlayerDataService;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.model.Stat;
+import com.x1f4r.mmocraft.playerdata.runtime.PlayerRuntimeAttributeService;
 import com.x1f4r.mmocraft.playerdata.util.ExperienceUtil;
 import com.x1f4r.mmocraft.util.LoggingUtil;
 import com.x1f4r.mmocraft.util.StringUtil;
@@ -201,6 +202,7 @@ public class PlayerDataAdminCommand extends AbstractPluginCommand {
 
         profile.setStatValue(statToSet, value);
         // PlayerProfile.setStatValue calls recalculateDerivedAttributes
+        markRuntimeAttributesDirty(target);
         playerDataService.savePlayerProfile(target.getUniqueId()); // Persist change
         sender.sendMessage(StringUtil.colorize("&aSet " + statToSet.getDisplayName() + " for " + target.getName() + " to " + String.format("%.1f", value) + ". Derived attributes recalculated."));
         logger.info(sender.getName() + " set " + statToSet.name() + " for " + target.getName() + " to " + value);
@@ -243,6 +245,7 @@ public class PlayerDataAdminCommand extends AbstractPluginCommand {
         profile.setLevel(newLevel);
         profile.setExperience(0); // Reset XP for the new level
         // PlayerProfile.setLevel calls recalculateDerivedAttributes
+        markRuntimeAttributesDirty(target);
         playerDataService.savePlayerProfile(target.getUniqueId());
         sender.sendMessage(StringUtil.colorize("&aSet level for " + target.getName() + " to " + newLevel + ". XP reset. Derived attributes recalculated."));
         logger.info(sender.getName() + " set level for " + target.getName() + " to " + newLevel);
@@ -322,6 +325,13 @@ public class PlayerDataAdminCommand extends AbstractPluginCommand {
         return true;
     }
 
+    private void markRuntimeAttributesDirty(Player target) {
+        PlayerRuntimeAttributeService runtimeService = plugin.getPlayerRuntimeAttributeService();
+        if (runtimeService != null) {
+            runtimeService.markDirty(target);
+        }
+    }
+
     // --- Tab Completion ---
     @Override
     public List<String> onTabComplete(CommandSender sender, String[] args) {
@@ -4,7 +4,10 @@ import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.command.AbstractPluginCommand;
 import com.x1f4r.mmocraft.util.LoggingUtil;
 import com.x1f4r.mmocraft.util.StringUtil;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import com.x1f4r.mmocraft.world.resourcegathering.model.NodePlacement;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ResourceNodeType;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.NodeLayoutFile;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ActiveNodeManager;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ResourceNodeRegistryService;
 
@@ -15,15 +18,22 @@ import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class ResourceAdminCommand extends AbstractPluginCommand {
 
+    private static final int DEFAULT_MAX_BULK_NODES = 65_536;
+    private static final Pattern LAYOUT_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
     private final MMOCraftPlugin plugin;
     private final ActiveNodeManager activeNodeManager;
     private final ResourceNodeRegistryService nodeRegistryService;
@@ -40,6 +50,9 @@ public class ResourceAdminCommand extends AbstractPluginCommand {
         // /mmocadm resource place <nodeTypeId> [world x y z]
         // /mmocadm resource remove (looks at target block)
         // /mmocadm resource info (looks at target block)
+        // /mmocadm resource fill <nodeTypeId> <x1 y1 z1> <x2 y2 z2> [world]
+        // /mmocadm resource import <layout> [world x y z]
+        // /mmocadm resource export <layout> <x1 y1 z1> <x2 y2 z2> [world]
     }
 
     @Override
@@ -57,6 +70,12 @@ public class ResourceAdminCommand extends AbstractPluginCommand {
                 return handleRemoveCommand(sender, Arrays.copyOfRange(args, 1, args.length));
             case "info":
                 return handleInfoCommand(sender, Arrays.copyOfRange(args, 1, args.length));
+            case "fill":
+                return handleFillCommand(sender, Arrays.copyOfRange(args, 1, args.length));
+            case "import":
+                return handleImportCommand(sender, Arrays.copyOfRange(args, 1, args.length));
+            case "export":
+                return handleExportCommand(sender, Arrays.copyOfRange(args, 1, args.length));
             default:
                 sender.sendMessage(StringUtil.colorize("&cUnknown subcommand '" + subCommand + "'."));
                 sendHelp(sender);
@@ -184,21 +203,229 @@ public class ResourceAdminCommand extends AbstractPluginCommand {
     }
 
 
+    private boolean handleFillCommand(CommandSender sender, String[] args) {
+        // <nodeTypeId> <x1 y1 z1> <x2 y2 z2> [world]
+        if (args.length < 7) {
+            sender.sendMessage(StringUtil.colorize("&cUsage: /" + commandName + " fill <nodeTypeId> <x1> <y1> <z1> <x2> <y2> <z2> [world]"));
+            return true;
+        }
+        String nodeTypeId = args[0];
+        if (nodeRegistryService.getNodeType(nodeTypeId).isEmpty()) {
+            sender.sendMessage(StringUtil.colorize("&cInvalid ResourceNodeType ID: '" + nodeTypeId + "'."));
+            return true;
+        }
+        int[] corners = parseCoordinates(args, 1, 6);
+        if (corners == null) {
+            sender.sendMessage(StringUtil.colorize("&cInvalid coordinates."));
+            return true;
+        }
+        World world = resolveWorld(sender, args.length >= 8 ? args[7] : null);
+        if (world == null) {
+            return true;
+        }
+        int minX = Math.min(corners[0], corners[3]), maxX = Math.max(corners[0], corners[3]);
+        int minY = Math.max(world.getMinHeight(), Math.min(corners[1], corners[4]));
+        int maxY = Math.min(world.getMaxHeight() - 1, Math.max(corners[1], corners[4]));
+        int minZ = Math.min(corners[2], corners[5]), maxZ = Math.max(corners[2], corners[5]);
+        if (minY > maxY) {
+            sender.sendMessage(StringUtil.colorize("&cThe region is outside the world's build height."));
+            return true;
+        }
+        long volume = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (volume > maxBulkNodes()) {
+            sender.sendMessage(StringUtil.colorize("&cRegion holds " + volume + " blocks; the limit is " + maxBulkNodes() + "."));
+            return true;
+        }
+
+        List<NodePlacement> placements = new ArrayList<>((int) volume);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    placements.add(new NodePlacement(x, y, z, nodeTypeId));
+                }
+            }
+        }
+        int placed = activeNodeManager.placeNodes(world, placements);
+        sender.sendMessage(StringUtil.colorize("&aPlaced &f" + placed + "&a of &f" + volume + "&a resource node(s) '" + nodeTypeId
+                + "' in " + world.getName() + ". Blocks update over the next ticks; occupied blocks were skipped."));
+        return true;
+    }
+
+    private boolean handleImportCommand(CommandSender sender, String[] args) {
+        // <layout> [world x y z]
+        if (args.length < 1) {
+            sender.sendMessage(StringUtil.colorize("&cUsage: /" + commandName + " import <layout> [world x y z]"));
+            return true;
+        }
+        Path file = resolveLayoutFile(sender, args[0]);
+        if (file == null) {
+            return true;
+        }
+        if (!Files.isRegularFile(file)) {
+            sender.sendMessage(StringUtil.colorize("&cLayout '" + args[0] + "' not found in " + file.getParent().getFileName() + "/."));
+            return true;
+        }
+
+        World world;
+        int[] origin;
+        if (args.length >= 5) {
+            world = resolveWorld(sender, args[1]);
+            if (world == null) {
+                return true;
+            }
+            origin = parseCoordinates(args, 2, 3);
+            if (origin == null) {
+                sender.sendMessage(StringUtil.colorize("&cInvalid coordinates."));
+                return true;
+            }
+        } else if (sender instanceof Player) {
+            Block targetBlock = ((Player) sender).getTargetBlockExact(5);
+            if (targetBlock == null) {
+                sender.sendMessage(StringUtil.colorize("&cYou are not looking at a block, or it's too far. Specify coordinates or look at a block."));
+                return true;
+            }
+            world = targetBlock.getWorld();
+            origin = new int[]{targetBlock.getX(), targetBlock.getY(), targetBlock.getZ()};
+        } else {
+            sender.sendMessage(StringUtil.colorize("&cConsole must specify world and coordinates."));
+            return true;
+        }
+
+        // Parse off the main thread; placement itself must happen on it.
+        sender.sendMessage(StringUtil.colorize("&eImporting node layout &f" + args[0] + "&e..."));
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<NodePlacement> layout;
+            try {
+                layout = NodeLayoutFile.read(file);
+            } catch (IOException e) {
+                logger.severe("Failed to read node layout " + file + ": " + e.getMessage(), e);
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                        StringUtil.colorize("&cCould not read layout: " + e.getMessage())));
+                return;
+            }
+            List<NodePlacement> placements = new ArrayList<>(layout.size());
+            for (NodePlacement placement : layout) {
+                placements.add(placement.offset(origin[0], origin[1], origin[2]));
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (placements.size() > maxBulkNodes()) {
+                    sender.sendMessage(StringUtil.colorize("&cLayout holds " + placements.size() + " nodes; the limit is " + maxBulkNodes() + "."));
+                    return;
+                }
+                int placed = activeNodeManager.placeNodes(world, placements);
+                sender.sendMessage(StringUtil.colorize("&aImported &f" + placed + "&a of &f" + placements.size()
+                        + "&a node(s) from '" + args[0] + "'. Blocks update over the next ticks."));
+            });
+        });
+        return true;
+    }
+
+    private boolean handleExportCommand(CommandSender sender, String[] args) {
+        // <layout> <x1 y1 z1> <x2 y2 z2> [world]
+        if (args.length < 7) {
+            sender.sendMessage(StringUtil.colorize("&cUsage: /" + commandName + " export <layout> <x1> <y1> <z1> <x2> <y2> <z2> [world]"));
+            return true;
+        }
+        Path file = resolveLayoutFile(sender, args[0]);
+        if (file == null) {
+            return true;
+        }
+        int[] corners = parseCoordinates(args, 1, 6);
+        if (corners == null) {
+            sender.sendMessage(StringUtil.colorize("&cInvalid coordinates."));
+            return true;
+        }
+        World world = resolveWorld(sender, args.length >= 8 ? args[7] : null);
+        if (world == null) {
+            return true;
+        }
+        int minX = Math.min(corners[0], corners[3]), minY = Math.min(corners[1], corners[4]), minZ = Math.min(corners[2], corners[5]);
+        List<ActiveResourceNode> nodes = activeNodeManager.getNodesInRegion(world, minX, minY, minZ,
+                Math.max(corners[0], corners[3]), Math.max(corners[1], corners[4]), Math.max(corners[2], corners[5]));
+        // Same limit as import, so every exported layout can be placed again.
+        if (nodes.size() > maxBulkNodes()) {
+            sender.sendMessage(StringUtil.colorize("&cRegion holds " + nodes.size() + " nodes; the limit is " + maxBulkNodes() + "."));
+            return true;
+        }
+        // Offsets are relative to the region's minimum corner, which becomes the paste origin on import.
+        List<NodePlacement> placements = new ArrayList<>(nodes.size());
+        for (ActiveResourceNode node : nodes) {
+            Location location = node.getInternalLocation();
+            placements.add(new NodePlacement(location.getBlockX() - minX, location.getBlockY() - minY,
+                    location.getBlockZ() - minZ, node.getNodeTypeId()));
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                int written = NodeLayoutFile.write(file, placements);
+                logger.info(sender.getName() + " exported " + written + " resource node(s) to " + file + ".");
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                        StringUtil.colorize("&aExported &f" + written + "&a node(s) to layout '" + args[0] + "'.")));
+            } catch (IOException e) {
+                logger.severe("Failed to export node layout to " + file + ": " + e.getMessage(), e);
+                Bukkit.getScheduler().runTask(plugin, () -> sender.sendMessage(
+                        StringUtil.colorize("&cNode layout export failed. See console for details.")));
+            }
+        });
+        return true;
+    }
+
+    private Path resolveLayoutFile(CommandSender sender, String name) {
+        if (!LAYOUT_NAME.matcher(name).matches()) {
+            sender.sendMessage(StringUtil.colorize("&cLayout names may only contain letters, digits, '_' and '-'."));
+            return null;
+        }
+        return plugin.getDataFolder().toPath().resolve("node-layouts").resolve(name + ".txt");
+    }
+
+    private World resolveWorld(CommandSender sender, String worldName) {
+        if (worldName != null) {
+            World world = Bukkit.getWorld(worldName);
+            if (world == null) {
+                sender.sendMessage(StringUtil.colorize("&cWorld '" + worldName + "' not found."));
+            }
+            return world;
+        }
+        if (sender instanceof Player) {
+            return ((Player) sender).getWorld();
+        }
+        sender.sendMessage(StringUtil.colorize("&cConsole must specify a world."));
+        return null;
+    }
+
+    private static int[] parseCoordinates(String[] args, int from, int count) {
+        int[] values = new int[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                values[i] = Integer.parseInt(args[from + i]);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return values;
+    }
+
+    private int maxBulkNodes() {
+        int configured = plugin.getConfigService().getInt("resource-nodes.bulk.max-nodes");
+        return configured > 0 ? configured : DEFAULT_MAX_BULK_NODES;
+    }
+
+
     @Override
     public List<String> onTabComplete(CommandSender sender, String[] args) {
         if (args.length == 1) {
-            return List.of("place", "remove", "info").stream()
+            return List.of("place", "remove", "info", "fill", "import", "export").stream()
                     .filter(s -> s.startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
         }
-        if (args.length > 1 && "place".equalsIgnoreCase(args[0])) {
+        if (args.length > 1 && ("place".equalsIgnoreCase(args[0]) || "fill".equalsIgnoreCase(args[0]))) {
             if (args.length == 2) { // Suggest nodeTypeId
                 return nodeRegistryService.getAllNodeTypes().stream()
                         .map(ResourceNodeType::getTypeId)
                         .filter(id -> id.toLowerCase().startsWith(args[1].toLowerCase()))
                         .collect(Collectors.toList());
             }
-            if (args.length == 3) { // Suggest world names
+            if (args.length == 3 && "place".equalsIgnoreCase(args[0])) { // Suggest world names
                  return Bukkit.getWorlds().stream()
                         .map(World::getName)
                         .filter(name -> name.toLowerCase().startsWith(args[2].toLowerCase()))
@@ -214,5 +441,8 @@ public class ResourceAdminCommand extends AbstractPluginCommand {
         sender.sendMessage(StringUtil.colorize("&e/" + commandName + " place <nodeTypeId> [world x y z] &7- Places a node. Uses target block if no coords."));
         sender.sendMessage(StringUtil.colorize("&e/" + commandName + " remove &7- Removes node at target block."));
         sender.sendMessage(StringUtil.colorize("&e/" + commandName + " info &7- Shows info about node at target block."));
+        sender.sendMessage(StringUtil.colorize("&e/" + commandName + " fill <nodeTypeId> <x1 y1 z1> <x2 y2 z2> [world] &7- Fills a region with nodes."));
+        sender.sendMessage(StringUtil.colorize("&e/" + commandName + " import <layout> [world x y z] &7- Pastes a node layout at the target block or coords."));
+        sender.sendMessage(StringUtil.colorize("&e/" + commandName + " export <layout> <x1 y1 z1> <x2 y2 z2> [world] &7- Saves the nodes in a region as a layout."));
     }
 }
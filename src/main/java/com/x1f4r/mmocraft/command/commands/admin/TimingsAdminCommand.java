@@ -0,0 +1,67 @@
+package com.x1f4r.mmocraft.command.commands.admin;
+
+import com.x1f4r.mmocraft.command.AbstractPluginCommand;
+import com.x1f4r.mmocraft.core.MMOCraftPlugin;
+import com.x1f4r.mmocraft.core.scheduler.TickScheduler;
+import com.x1f4r.mmocraft.core.scheduler.TickTaskStats;
+import com.x1f4r.mmocraft.util.StringUtil;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class TimingsAdminCommand extends AbstractPluginCommand {
+
+    private static final String PERMISSION = "mmocraft.admin.timings";
+    private final MMOCraftPlugin plugin;
+
+    public TimingsAdminCommand(MMOCraftPlugin plugin) {
+        super("timings", PERMISSION, "Show per-task timings of the central tick scheduler.");
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, String[] args) {
+        TickScheduler scheduler = plugin.getTickScheduler();
+        if (scheduler == null) {
+            sender.sendMessage(StringUtil.colorize("&cTick scheduler is not running."));
+            return true;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("reset")) {
+            scheduler.resetStats();
+            sender.sendMessage(StringUtil.colorize("&aTick scheduler timings reset."));
+            return true;
+        }
+
+        sender.sendMessage(StringUtil.colorize("&6--- MMOCraft Tick Timings (tick " + scheduler.getCurrentTick() + ") ---"));
+        for (TickTaskStats stats : scheduler.getStats()) {
+            String budget = stats.budgetMillis() > 0 ? String.format(Locale.ROOT, "%.2f", stats.budgetMillis()) : "-";
+            StringBuilder line = new StringBuilder()
+                    .append("&e").append(stats.name())
+                    .append(" &7every ").append(stats.periodTicks()).append("t")
+                    .append(String.format(Locale.ROOT, " &favg %.3f &7/ max %.3f / last %.3f ms",
+                            stats.averageMillis(), stats.maxMillis(), stats.lastMillis()))
+                    .append(" &7budget ").append(budget)
+                    .append(" &7runs ").append(stats.runs());
+            if (stats.overBudgetRuns() > 0) {
+                line.append(" &cover ").append(stats.overBudgetRuns());
+            }
+            if (stats.bucketed()) {
+                line.append(" &7items ").append(stats.itemsProcessed())
+                        .append(" pending ").append(stats.pendingItems());
+            }
+            sender.sendMessage(StringUtil.colorize(line.toString()));
+        }
+        sender.sendMessage(StringUtil.colorize("&7Use &e/mmocadm timings reset &7to clear the counters."));
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, String[] args) {
+        if (args.length == 1 && "reset".startsWith(args[0].toLowerCase(Locale.ROOT))) {
+            return List.of("reset");
+        }
+        return Collections.emptyList();
+    }
+}
@@ -1,10 +1,16 @@
 package com.x1f4r.mmocraft.core;
 
+import com.x1f4r.mmocraft.combat.feedback.CombatFeedbackAggregator;
 import com.x1f4r.mmocraft.combat.listeners.PlayerCombatListener;
+import com.x1f4r.mmocraft.combat.listeners.ThreatListener;
+import com.x1f4r.mmocraft.combat.log.CombatEventLog;
+import com.x1f4r.mmocraft.combat.threat.ThreatService;
+import com.x1f4r.mmocraft.combat.listeners.WeaponStatsCacheListener;
 import com.x1f4r.mmocraft.combat.service.BasicDamageCalculationService;
 import com.x1f4r.mmocraft.combat.service.DamageCalculationService;
 import com.x1f4r.mmocraft.combat.service.DefaultMobStatProvider;
 import com.x1f4r.mmocraft.combat.service.MobStatProvider;
+import com.x1f4r.mmocraft.combat.service.WeaponStatsResolver;
 import com.x1f4r.mmocraft.command.BasicCommandRegistryService;
 import com.x1f4r.mmocraft.command.CommandRegistryService;
 import com.x1f4r.mmocraft.command.commands.CustomCraftCommand;
@@ -15,6 +21,8 @@ import com.x1f4r.mmocraft.config.BasicConfigService;
 import com.x1f4r.mmocraft.config.ConfigService;
 import com.x1f4r.mmocraft.config.gameplay.GameplayConfigIssue;
 import com.x1f4r.mmocraft.config.gameplay.GameplayConfigService;
+import com.x1f4r.mmocraft.core.scheduler.PlayerBucketListener;
+import com.x1f4r.mmocraft.core.scheduler.TickScheduler;
 import com.x1f4r.mmocraft.content.BasicContentPackService;
 import com.x1f4r.mmocraft.content.ContentIndex;
 import com.x1f4r.mmocraft.content.ContentPackIssue;
@@ -45,28 +53,38 @@ import com.x1f4r.mmocraft.persistence.PersistenceService;
 import com.x1f4r.mmocraft.persistence.SqlitePersistenceService;
 import com.x1f4r.mmocraft.playerdata.BasicPlayerDataService;
 import com.x1f4r.mmocraft.playerdata.PlayerDataService;
+import com.x1f4r.mmocraft.playerdata.events.PlayerLevelUpEvent;
 import com.x1f4r.mmocraft.playerdata.listeners.PlayerJoinQuitListener;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.model.Stat;
 import com.x1f4r.mmocraft.playerdata.runtime.PlayerRuntimeAttributeListener;
 import com.x1f4r.mmocraft.playerdata.runtime.PlayerRuntimeAttributeService;
+import com.x1f4r.mmocraft.playerdata.hud.HudTemplate;
 import com.x1f4r.mmocraft.playerdata.hud.PlayerHudService;
 import com.x1f4r.mmocraft.skill.service.BasicSkillRegistryService;
 import com.x1f4r.mmocraft.skill.service.SkillRegistryService;
+import com.x1f4r.mmocraft.statuseffect.listeners.StatusEffectLifecycleListener;
 import com.x1f4r.mmocraft.statuseffect.manager.BasicStatusEffectManager;
 import com.x1f4r.mmocraft.statuseffect.manager.StatusEffectManager;
 import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.util.RandomService;
 import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRepository;
 import com.x1f4r.mmocraft.world.spawning.service.BasicCustomSpawningService;
 import com.x1f4r.mmocraft.world.spawning.service.CustomSpawningService;
 import com.x1f4r.mmocraft.world.zone.listeners.PlayerZoneTrackerListener;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
 import com.x1f4r.mmocraft.world.zone.runtime.ZoneStatApplier;
 import com.x1f4r.mmocraft.world.zone.service.BasicZoneManager;
+import com.x1f4r.mmocraft.world.zone.service.ZoneSectionCache;
 import com.x1f4r.mmocraft.world.zone.service.ZoneManager;
 import com.x1f4r.mmocraft.world.resourcegathering.listeners.ResourceNodeInteractionListener;
+import com.x1f4r.mmocraft.world.resourcegathering.listeners.ResourceNodeWorldListener;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ActiveNodeManager;
+import com.x1f4r.mmocraft.world.resourcegathering.service.ResourceNodePersistenceBuffer;
 import com.x1f4r.mmocraft.world.resourcegathering.service.BasicResourceNodeRegistryService;
+import com.x1f4r.mmocraft.world.resourcegathering.service.GatheringService;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ResourceNodeRegistryService;
 import com.x1f4r.mmocraft.world.spawning.listeners.MobNameplateListener;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -80,9 +98,24 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.UUID;
 
 public final class MMOCraftPlugin extends JavaPlugin {
 
+    // Central tick scheduler task names; budgets are read from scheduler.budget-ms.<name>.
+    private static final String TASK_STATUS_EFFECTS = "status-effects";
+    private static final String TASK_COMBAT_FEEDBACK = "combat-feedback";
+    private static final String TASK_THREAT_DECAY = "threat-decay";
+    private static final String TASK_PLAYER_HUD = "player-hud";
+    private static final String TASK_COMPANION_PETS = "companion-pets";
+    private static final String TASK_CUSTOM_SPAWNING = "custom-spawning";
+    private static final String TASK_RESOURCE_NODES = "resource-nodes";
+    private static final String TASK_NODE_VERIFICATION = "node-verification";
+    private static final String TASK_NODE_PLACEMENT = "node-placement";
+    private static final String TASK_GATHERING = "gathering";
+    private static final String TASK_RUNTIME_ATTRIBUTES = "runtime-attributes";
+    private static final String TASK_ZONE_TRACKING = "zone-tracking";
+
     private ConfigService configService;
     private EventBusService eventBusService;
     private PersistenceService persistenceService;
@@ -93,6 +126,7 @@ public final class MMOCraftPlugin extends JavaPlugin {
     private StatusEffectManager statusEffectManager;
     private PlayerRuntimeAttributeService playerRuntimeAttributeService;
     private MobStatProvider mobStatProvider;
+    private WeaponStatsResolver weaponStatsResolver;
     private CustomItemRegistry customItemRegistry;
     private PlayerEquipmentManager playerEquipmentManager;
     private LootService lootService;
@@ -100,24 +134,26 @@ public final class MMOCraftPlugin extends JavaPlugin {
     private CraftingUIManager craftingUIManager;
     private CustomSpawningService customSpawningService;
     private ZoneManager zoneManager;
+    private PlayerZoneTrackerListener playerZoneTrackerListener;
     private ZoneStatApplier zoneStatApplier;
     private ResourceNodeRegistryService resourceNodeRegistryService;
     private ResourceNodeRepository resourceNodeRepository;
     private ActiveNodeManager activeNodeManager;
+    private GatheringService gatheringService;
     private LoggingUtil loggingUtil;
+    private RandomService randomService;
     private GameplayConfigService gameplayConfigService;
     private LootTableRegistry lootTableRegistry;
     private CraftingRecipeLoader craftingRecipeLoader;
     private CompanionPetService companionPetService;
     private PlayerHudService playerHudService;
+    private CombatFeedbackAggregator combatFeedbackAggregator;
+    private CombatEventLog combatEventLog;
+    private ThreatService threatService;
     private DemoContentSettings demoSettings = DemoContentSettings.disabled();
     private DemoContentModule demoContentModule;
-    private BukkitTask statusEffectTickTask;
-    private BukkitTask customSpawningTask;
-    private BukkitTask resourceNodeTickTask;
-    private BukkitTask runtimeAttributeTask;
-    private BukkitTask companionPetTask;
-    private BukkitTask playerHudTask;
+    private TickScheduler tickScheduler;
+    private BukkitTask tickSchedulerTask;
     private PluginDiagnosticsService diagnosticsService;
     private ContentPackService contentPackService;
     private ContentIndex contentIndex = ContentIndex.empty();
@@ -175,29 +211,9 @@ public final class MMOCraftPlugin extends JavaPlugin {
             demoContentModule.unload();
         }
 
-        if (resourceNodeTickTask != null && !resourceNodeTickTask.isCancelled()) {
-            resourceNodeTickTask.cancel();
-            loggingUtil.info("ActiveNodeManager task scheduler cancelled.");
-        }
-        if (customSpawningTask != null && !customSpawningTask.isCancelled()) {
-            customSpawningTask.cancel();
-            loggingUtil.info("CustomSpawningService task scheduler cancelled.");
-        }
-        if (statusEffectTickTask != null && !statusEffectTickTask.isCancelled()) {
-            statusEffectTickTask.cancel();
-            loggingUtil.info("StatusEffect tick scheduler cancelled.");
-        }
-        if (runtimeAttributeTask != null && !runtimeAttributeTask.isCancelled()) {
-            runtimeAttributeTask.cancel();
-            loggingUtil.info("Runtime attribute sync scheduler cancelled.");
-        }
-        if (playerHudTask != null && !playerHudTask.isCancelled()) {
-            playerHudTask.cancel();
-            loggingUtil.info("Player HUD scheduler cancelled.");
-        }
-        if (companionPetTask != null && !companionPetTask.isCancelled()) {
-            companionPetTask.cancel();
-            loggingUtil.info("Companion pet scheduler cancelled.");
+        if (tickSchedulerTask != null && !tickSchedulerTask.isCancelled()) {
+            tickSchedulerTask.cancel();
+            loggingUtil.info("Central tick scheduler cancelled.");
         }
 
         if (playerDataService instanceof BasicPlayerDataService) {
@@ -212,9 +228,15 @@ public final class MMOCraftPlugin extends JavaPlugin {
         if (zoneStatApplier != null) {
             zoneStatApplier.shutdown();
         }
+        if (playerRuntimeAttributeService != null) {
+            playerRuntimeAttributeService.shutdown();
+        }
         if (customSpawningService instanceof BasicCustomSpawningService) {
             ((BasicCustomSpawningService) customSpawningService).shutdown();
         }
+        if (gatheringService != null) {
+            gatheringService.shutdown();
+        }
         if (activeNodeManager != null) {
             activeNodeManager.shutdown();
         }
@@ -291,21 +313,76 @@ public final class MMOCraftPlugin extends JavaPlugin {
         return false;
     }
 
+    private void configureThreatService() {
+        threatService.configure(configService.getDouble("combat.threat.decay-factor"),
+                configService.getDouble("combat.threat.retarget-threshold"),
+                configService.getDouble("combat.threat.healing-multiplier"),
+                configService.getDouble("combat.threat.minimum-threat"));
+    }
+
+    private double tickBudget(String taskName) {
+        return configService.getDouble("scheduler.budget-ms." + taskName);
+    }
+
+    private void applyTickBudgets() {
+        for (String taskName : List.of(TASK_STATUS_EFFECTS, TASK_COMBAT_FEEDBACK, TASK_THREAT_DECAY, TASK_PLAYER_HUD,
+                TASK_COMPANION_PETS, TASK_CUSTOM_SPAWNING, TASK_RESOURCE_NODES, TASK_NODE_VERIFICATION, TASK_NODE_PLACEMENT,
+                TASK_GATHERING, TASK_ZONE_TRACKING, TASK_RUNTIME_ATTRIBUTES)) {
+            tickScheduler.setBudget(taskName, tickBudget(taskName));
+        }
+    }
+
+    private void configurePlayerHud() {
+        playerHudService.configureHud(HudTemplate.parse(configService.getString("hud.action-bar.template")),
+                configService.getInt("hud.action-bar.resend-interval-ticks"));
+    }
+
+    private void configureZoneManager() {
+        if (zoneManager instanceof BasicZoneManager basicZoneManager) {
+            int sectionCacheSize = configService.getInt("zones.section-cache-size");
+            basicZoneManager.setSectionCacheCapacity(sectionCacheSize > 0 ? sectionCacheSize : ZoneSectionCache.DEFAULT_CAPACITY);
+        }
+    }
+
+    private void configureZoneTracking() {
+        String modeName = configService.getString("zones.tracking.mode");
+        PlayerZoneTrackerListener.TrackingMode mode = PlayerZoneTrackerListener.TrackingMode.EVENT;
+        if (modeName != null && !modeName.isBlank()) {
+            try {
+                mode = PlayerZoneTrackerListener.TrackingMode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                loggingUtil.warning("Unknown zones.tracking.mode '" + modeName + "'. Falling back to EVENT.");
+            }
+        }
+        int maxDelay = configService.getInt("zones.tracking.max-sample-delay-ticks");
+        playerZoneTrackerListener.configure(mode,
+                maxDelay > 0 ? maxDelay : PlayerZoneTrackerListener.DEFAULT_MAX_SAMPLE_DELAY_TICKS);
+    }
+
     private void initGameplayServices() {
+        randomService = new RandomService();
         customItemRegistry = new BasicCustomItemRegistry(this, loggingUtil);
         mobStatProvider = new DefaultMobStatProvider();
-        damageCalculationService = new BasicDamageCalculationService(playerDataService, loggingUtil, mobStatProvider, gameplayConfigService);
+        weaponStatsResolver = new WeaponStatsResolver(customItemRegistry);
+        damageCalculationService = new BasicDamageCalculationService(playerDataService, loggingUtil, mobStatProvider, gameplayConfigService, randomService);
         playerEquipmentManager = new PlayerEquipmentManager(this, playerDataService, customItemRegistry, loggingUtil);
         skillRegistryService = new BasicSkillRegistryService(loggingUtil);
         playerRuntimeAttributeService = new PlayerRuntimeAttributeService(playerDataService, gameplayConfigService.getRuntimeStatConfig(), loggingUtil);
         companionPetService = new BasicCompanionPetService(this, playerDataService, playerRuntimeAttributeService, loggingUtil);
-        playerHudService = new PlayerHudService(playerDataService, loggingUtil);
+        combatFeedbackAggregator = new CombatFeedbackAggregator();
+        combatEventLog = new CombatEventLog(configService.getInt("combat.event-log.capacity"),
+                configService.getBoolean("combat.event-log.enabled"));
+        threatService = new ThreatService(loggingUtil);
+        configureThreatService();
+        playerHudService = new PlayerHudService(playerDataService, loggingUtil, combatFeedbackAggregator);
+        configurePlayerHud();
         statusEffectManager = new BasicStatusEffectManager(this, loggingUtil, playerDataService, playerRuntimeAttributeService);
         lootService = new BasicLootService(this, loggingUtil);
         recipeRegistryService = new BasicRecipeRegistryService(this, loggingUtil, customItemRegistry);
         craftingUIManager = new CraftingUIManager(this, recipeRegistryService, playerDataService, customItemRegistry, loggingUtil);
-        customSpawningService = new BasicCustomSpawningService(this, loggingUtil, mobStatProvider, lootService, customItemRegistry, playerDataService, gameplayConfigService);
+        customSpawningService = new BasicCustomSpawningService(this, loggingUtil, mobStatProvider, lootService, customItemRegistry, playerDataService, gameplayConfigService, randomService);
         zoneManager = new BasicZoneManager(this, loggingUtil, eventBusService, demoSettings.zonesEnabled());
+        configureZoneManager();
         zoneStatApplier = new ZoneStatApplier(zoneManager, playerDataService, eventBusService, playerRuntimeAttributeService, loggingUtil);
         zoneStatApplier.register();
 
@@ -317,7 +394,12 @@ public final class MMOCraftPlugin extends JavaPlugin {
         resourceNodeRegistryService = new BasicResourceNodeRegistryService(loggingUtil);
         resourceNodeRepository = new ResourceNodeRepository(persistenceService, loggingUtil);
         resourceNodeRepository.initDatabaseSchema();
-        activeNodeManager = new ActiveNodeManager(this, loggingUtil, resourceNodeRegistryService, resourceNodeRepository, lootService, customItemRegistry);
+        long nodeFlushInterval = configService.getInt("resource-nodes.persistence.flush-interval-ms");
+        ResourceNodePersistenceBuffer nodePersistenceBuffer = new ResourceNodePersistenceBuffer(resourceNodeRepository, loggingUtil,
+                nodeFlushInterval > 0 ? nodeFlushInterval : ResourceNodePersistenceBuffer.DEFAULT_FLUSH_INTERVAL_MILLIS);
+        activeNodeManager = new ActiveNodeManager(this, loggingUtil, resourceNodeRegistryService, resourceNodeRepository,
+                nodePersistenceBuffer, lootService, customItemRegistry);
+        gatheringService = new GatheringService(new NamespacedKey(this, "gathering_break_speed"), activeNodeManager, loggingUtil);
 
         loggingUtil.info("All gameplay services initialized.");
 
@@ -340,10 +422,16 @@ public final class MMOCraftPlugin extends JavaPlugin {
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new PlayerJoinQuitListener(playerDataService, loggingUtil, playerHudService), this);
         getServer().getPluginManager().registerEvents(new PlayerRuntimeAttributeListener(playerRuntimeAttributeService, loggingUtil), this);
-        getServer().getPluginManager().registerEvents(new PlayerZoneTrackerListener(zoneManager, loggingUtil, eventBusService), this);
-        getServer().getPluginManager().registerEvents(new PlayerCombatListener(damageCalculationService, playerDataService, loggingUtil, mobStatProvider, statusEffectManager, playerRuntimeAttributeService), this);
+        playerZoneTrackerListener = new PlayerZoneTrackerListener(zoneManager, loggingUtil, eventBusService);
+        configureZoneTracking();
+        getServer().getPluginManager().registerEvents(playerZoneTrackerListener, this);
+        getServer().getPluginManager().registerEvents(new PlayerCombatListener(damageCalculationService, playerDataService, loggingUtil, mobStatProvider, statusEffectManager, playerRuntimeAttributeService, combatFeedbackAggregator, weaponStatsResolver, combatEventLog, threatService), this);
+        getServer().getPluginManager().registerEvents(new ThreatListener(threatService, loggingUtil), this);
+        getServer().getPluginManager().registerEvents(new WeaponStatsCacheListener(weaponStatsResolver, loggingUtil), this);
+        getServer().getPluginManager().registerEvents(new StatusEffectLifecycleListener(statusEffectManager, loggingUtil), this);
         getServer().getPluginManager().registerEvents(new PlayerEquipmentListener(this, playerEquipmentManager, loggingUtil), this);
-        getServer().getPluginManager().registerEvents(new ResourceNodeInteractionListener(this, activeNodeManager, resourceNodeRegistryService, lootService, customItemRegistry, playerDataService, gameplayConfigService, loggingUtil), this);
+        getServer().getPluginManager().registerEvents(new ResourceNodeInteractionListener(this, activeNodeManager, gatheringService, resourceNodeRegistryService, lootService, customItemRegistry, playerDataService, gameplayConfigService, loggingUtil), this);
+        getServer().getPluginManager().registerEvents(new ResourceNodeWorldListener(activeNodeManager, loggingUtil), this);
         getServer().getPluginManager().registerEvents(new MobDeathLootListener(lootService, customItemRegistry, this, loggingUtil), this);
         getServer().getPluginManager().registerEvents(new CustomItemAbilityListener(this), this);
         getServer().getPluginManager().registerEvents(new CompanionPetListener(companionPetService, loggingUtil), this);
@@ -360,48 +448,78 @@ public final class MMOCraftPlugin extends JavaPlugin {
     }
 
     private void startSchedulers() {
-        long statusEffectTickInterval = 20L;
-        statusEffectTickTask = getServer().getScheduler().runTaskTimer(this, () -> {
+        tickScheduler = new TickScheduler(loggingUtil);
+        // Tasks run in registration order every tick.
+        tickScheduler.registerPeriodic(TASK_STATUS_EFFECTS, 1L, tickBudget(TASK_STATUS_EFFECTS), () -> {
             if (statusEffectManager != null) statusEffectManager.tickAllActiveEffects();
-        }, statusEffectTickInterval, statusEffectTickInterval);
-        loggingUtil.info("StatusEffect tick scheduler started.");
-
-        long runtimeAttributeInterval = 40L;
-        runtimeAttributeTask = getServer().getScheduler().runTaskTimer(this, () -> {
-            if (playerRuntimeAttributeService != null) playerRuntimeAttributeService.updateAllPlayers();
-        }, 20L, runtimeAttributeInterval);
-        loggingUtil.info("Runtime attribute sync scheduler started.");
-
-        long playerHudInterval = 10L;
-        playerHudTask = getServer().getScheduler().runTaskTimer(this, () -> {
-            if (playerHudService != null) playerHudService.tick(playerHudInterval / 20.0);
-        }, 20L, playerHudInterval);
-        loggingUtil.info("Player HUD scheduler started.");
-
-        long companionPetInterval = 20L;
-        companionPetTask = getServer().getScheduler().runTaskTimer(this, () -> {
-            if (companionPetService != null) companionPetService.tick();
-        }, 40L, companionPetInterval);
-        loggingUtil.info("Companion pet scheduler started.");
-
-        long spawningInterval = 200L;
-        customSpawningTask = getServer().getScheduler().runTaskTimer(this, () -> {
-            if (customSpawningService != null) customSpawningService.attemptSpawns();
-        }, spawningInterval, spawningInterval);
-        loggingUtil.info("CustomSpawningService task scheduler started.");
-
-        long resourceNodeTickInterval = 100L;
-        resourceNodeTickTask = getServer().getScheduler().runTaskTimer(this, () -> {
-            if (activeNodeManager != null) activeNodeManager.tickNodes();
-        }, resourceNodeTickInterval, resourceNodeTickInterval);
-        loggingUtil.info("ActiveNodeManager task scheduler started.");
+        });
+        tickScheduler.registerPeriodic(TASK_COMBAT_FEEDBACK, 1L, tickBudget(TASK_COMBAT_FEEDBACK), () -> {
+            if (combatFeedbackAggregator != null) combatFeedbackAggregator.flush();
+        });
+        long threatDecayInterval = Math.max(1L, configService.getInt("combat.threat.decay-interval-ticks"));
+        tickScheduler.registerPeriodic(TASK_THREAT_DECAY, threatDecayInterval, tickBudget(TASK_THREAT_DECAY), () -> {
+            if (threatService != null) threatService.tick();
+        });
+        // Per-player tasks hold UUIDs assigned to a bucket on join; a tick only visits its own bucket.
+        TickScheduler.BucketedTask<UUID> hudTask = tickScheduler.<UUID>registerBucketed(TASK_PLAYER_HUD, 10L, tickBudget(TASK_PLAYER_HUD),
+                UUID::hashCode,
+                playerId -> {
+                    Player player = getServer().getPlayer(playerId);
+                    if (player != null && playerHudService != null) playerHudService.updatePlayer(player, tickScheduler.getCurrentTick());
+                });
+        // tickPet returns straight away for players without an active pet.
+        TickScheduler.BucketedTask<UUID> petTask = tickScheduler.<UUID>registerBucketed(TASK_COMPANION_PETS, 20L, tickBudget(TASK_COMPANION_PETS),
+                UUID::hashCode,
+                ownerId -> {
+                    if (companionPetService != null) companionPetService.tickPet(ownerId);
+                });
+        TickScheduler.BucketedTask<UUID> spawningTask = tickScheduler.<UUID>registerBucketed(TASK_CUSTOM_SPAWNING, 200L, tickBudget(TASK_CUSTOM_SPAWNING),
+                UUID::hashCode,
+                playerId -> {
+                    Player player = getServer().getPlayer(playerId);
+                    if (player != null && customSpawningService != null) customSpawningService.attemptSpawnsAround(player);
+                });
+        PlayerBucketListener playerBucketListener = new PlayerBucketListener(List.of(hudTask, petTask, spawningTask));
+        getServer().getPluginManager().registerEvents(playerBucketListener, this);
+        playerBucketListener.trackOnlinePlayers();
+        tickScheduler.registerPeriodic(TASK_RESOURCE_NODES, 1L, tickBudget(TASK_RESOURCE_NODES), () -> {
+            if (activeNodeManager != null) activeNodeManager.tickRespawns(System.currentTimeMillis());
+        });
+        int chunksPerSweep = Math.max(1, configService.getInt("resource-nodes.verification.chunks-per-sweep"));
+        tickScheduler.registerPeriodic(TASK_NODE_VERIFICATION, 20L, tickBudget(TASK_NODE_VERIFICATION), () -> {
+            if (activeNodeManager != null) activeNodeManager.sweepLoadedChunks(chunksPerSweep);
+        });
+        // Block updates from bulk placement in small per-chunk batches; leftovers past the budget carry over.
+        tickScheduler.<ActiveNodeManager.PlacementBatch>registerQueue(TASK_NODE_PLACEMENT, tickBudget(TASK_NODE_PLACEMENT),
+                () -> activeNodeManager != null ? activeNodeManager.drainPlacementBatches() : List.of(),
+                batch -> activeNodeManager.applyPlacementBatch(batch));
+        tickScheduler.registerPeriodic(TASK_GATHERING, 1L, tickBudget(TASK_GATHERING), () -> {
+            if (gatheringService != null) gatheringService.tick();
+        });
+        tickScheduler.registerPeriodic(TASK_ZONE_TRACKING, 1L, tickBudget(TASK_ZONE_TRACKING), () -> {
+            if (playerZoneTrackerListener != null) {
+                playerZoneTrackerListener.sampleTick(tickScheduler.getCurrentTick(), getServer().getOnlinePlayers());
+            }
+        });
+        // Last, so attribute changes made by any task above are flushed together.
+        tickScheduler.registerPeriodic(TASK_RUNTIME_ATTRIBUTES, 1L, tickBudget(TASK_RUNTIME_ATTRIBUTES), () -> {
+            if (playerRuntimeAttributeService != null) playerRuntimeAttributeService.flushDirty();
+        });
+        tickSchedulerTask = getServer().getScheduler().runTaskTimer(this, tickScheduler::tick, 1L, 1L);
+        loggingUtil.info("Central tick scheduler started.");
 
         if (eventBusService != null) {
             eventBusService.register(PluginReloadedEvent.class, event -> {
                 loggingUtil.info("PluginReloadedEvent handled: Configuration has been reloaded.");
                 if (playerRuntimeAttributeService != null) {
                     playerRuntimeAttributeService.updateRuntimeConfig(gameplayConfigService.getRuntimeStatConfig());
-                    playerRuntimeAttributeService.updateAllPlayers();
+                    playerRuntimeAttributeService.markAllPlayersDirty();
+                }
+            });
+            eventBusService.register(PlayerLevelUpEvent.class, event -> {
+                Player player = getServer().getPlayer(event.getPlayerUUID());
+                if (player != null && playerRuntimeAttributeService != null) {
+                    playerRuntimeAttributeService.markDirty(player);
                 }
             });
         } else {
@@ -418,6 +536,7 @@ public final class MMOCraftPlugin extends JavaPlugin {
     public SkillRegistryService getSkillRegistryService() { return skillRegistryService; }
     public StatusEffectManager getStatusEffectManager() { return statusEffectManager; }
     public MobStatProvider getMobStatProvider() { return mobStatProvider; }
+    public WeaponStatsResolver getWeaponStatsResolver() { return weaponStatsResolver; }
     public CustomItemRegistry getCustomItemRegistry() { return customItemRegistry; }
     public PlayerEquipmentManager getPlayerEquipmentManager() { return playerEquipmentManager; }
     public LootService getLootService() { return lootService; }
@@ -428,6 +547,7 @@ public final class MMOCraftPlugin extends JavaPlugin {
     public ResourceNodeRegistryService getResourceNodeRegistryService() { return resourceNodeRegistryService; }
     public ActiveNodeManager getActiveNodeManager() { return activeNodeManager; }
     public LoggingUtil getLoggingUtil() { return loggingUtil; }
+    public RandomService getRandomService() { return randomService; }
     public GameplayConfigService getGameplayConfigService() { return gameplayConfigService; }
     public DemoContentSettings getDemoSettings() { return demoSettings; }
     public PluginDiagnosticsService getDiagnosticsService() { return diagnosticsService; }
@@ -436,6 +556,10 @@ public final class MMOCraftPlugin extends JavaPlugin {
     public PlayerRuntimeAttributeService getPlayerRuntimeAttributeService() { return playerRuntimeAttributeService; }
     public CompanionPetService getCompanionPetService() { return companionPetService; }
     public PlayerHudService getPlayerHudService() { return playerHudService; }
+    public TickScheduler getTickScheduler() { return tickScheduler; }
+    public CombatFeedbackAggregator getCombatFeedbackAggregator() { return combatFeedbackAggregator; }
+    public CombatEventLog getCombatEventLog() { return combatEventLog; }
+    public ThreatService getThreatService() { return threatService; }
 
     private DemoContentSettings applySetupPreferenceOverrides(DemoContentSettings baseSettings) {
         if (baseSettings == null) {
@@ -495,6 +619,9 @@ public final class MMOCraftPlugin extends JavaPlugin {
         }
         if (zoneManager != null) {
             zoneManager.loadZones();
+            if (playerZoneTrackerListener != null) {
+                playerZoneTrackerListener.invalidatePositions();
+            }
         }
         refreshCraftingRecipes();
     }
@@ -522,10 +649,27 @@ public final class MMOCraftPlugin extends JavaPlugin {
             }
             if (playerRuntimeAttributeService != null) {
                 playerRuntimeAttributeService.updateRuntimeConfig(gameplayConfigService.getRuntimeStatConfig());
-                playerRuntimeAttributeService.updateAllPlayers();
+                playerRuntimeAttributeService.markAllPlayersDirty();
             }
             if (playerHudService != null) {
                 playerHudService.clearAll();
+                configurePlayerHud();
+            }
+            if (weaponStatsResolver != null) {
+                weaponStatsResolver.invalidateAll();
+            }
+            if (combatEventLog != null) {
+                combatEventLog.setEnabled(configService.getBoolean("combat.event-log.enabled"));
+            }
+            if (threatService != null) {
+                configureThreatService();
+            }
+            if (tickScheduler != null) {
+                applyTickBudgets();
+            }
+            configureZoneManager();
+            if (playerZoneTrackerListener != null) {
+                configureZoneTracking();
             }
             DemoContentSettings reloadedSettings = DemoContentSettings.fromDemoConfig(
                     gameplayConfigService.getDemoContentConfig(), loggingUtil);
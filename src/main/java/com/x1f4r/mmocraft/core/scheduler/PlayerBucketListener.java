@@ -0,0 +1,53 @@
+package com.x1f4r.mmocraft.core.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps per-player bucketed tasks in step with who is online: players are tracked by UUID on join and
+ * untracked on quit, so the tasks never hold on to a {@link Player} that has left.
+ */
+public class PlayerBucketListener implements Listener {
+
+    private final List<TickScheduler.BucketedTask<UUID>> tasks;
+
+    public PlayerBucketListener(List<TickScheduler.BucketedTask<UUID>> tasks) {
+        this.tasks = List.copyOf(tasks);
+    }
+
+    /**
+     * Tracks players that were already online when the listener was created, e.g. after a reload.
+     */
+    public void trackOnlinePlayers() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            track(player.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        track(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        for (TickScheduler.BucketedTask<UUID> task : tasks) {
+            task.untrack(playerId);
+        }
+    }
+
+    private void track(UUID playerId) {
+        for (TickScheduler.BucketedTask<UUID> task : tasks) {
+            task.track(playerId);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.x1f4r.mmocraft.core.scheduler;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Single per-tick driver for the plugin's recurring work.
+ * <p>
+ * Periodic tasks run every {@code periodTicks} as one unit. Bucketed tasks spread their items across the
+ * period instead: an item is assigned to bucket {@code floorMod(key, period)} once, when it is tracked, and
+ * each tick only visits its own bucket, so a 200-tick spawning pass over 100 players handles roughly one
+ * player per two ticks rather than all of them at once. Queue tasks run each submitted item once.
+ * Bucketed and queue tasks honour a per-task millisecond budget; items left over when the budget runs out are
+ * deferred to the next tick, ahead of that tick's own bucket.
+ * <p>
+ * Tasks run in registration order on the main thread, and {@link #getStats()} reports per-task timings.
+ */
+public class TickScheduler {
+
+    private final LoggingUtil logger;
+    private final LongSupplier nanoClock;
+    private final List<ScheduledTask> tasks = new CopyOnWriteArrayList<>();
+    private final Map<String, ScheduledTask> tasksByName = new ConcurrentHashMap<>();
+    private long currentTick;
+
+    public TickScheduler(LoggingUtil logger) {
+        this(logger, System::nanoTime);
+    }
+
+    public TickScheduler(LoggingUtil logger, LongSupplier nanoClock) {
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+    }
+
+    /**
+     * Registers work that runs as a single unit every {@code periodTicks}. The budget cannot split such work;
+     * it is only used to count over-budget runs in the timing report.
+     */
+    public void registerPeriodic(String name, long periodTicks, double budgetMillis, Runnable action) {
+        Objects.requireNonNull(action, "action");
+        register(new PeriodicTask(name, periodTicks, budgetMillis, action));
+    }
+
+    /**
+     * Registers per-item work spread across {@code periodTicks}. Items are added and removed through the
+     * returned handle; every tracked item is visited once per period, on the tick selected by its
+     * {@code bucketKey}. Hold IDs rather than live objects, so an untracked or stale item costs nothing but a
+     * lookup in the action.
+     */
+    public <T> BucketedTask<T> registerBucketed(String name, long periodTicks, double budgetMillis,
+                                                ToIntFunction<? super T> bucketKey,
+                                                Consumer<? super T> action) {
+        TrackedTask<T> task = new TrackedTask<>(name, periodTicks, budgetMillis,
+                Objects.requireNonNull(bucketKey, "bucketKey"),
+                Objects.requireNonNull(action, "action"));
+        register(task);
+        return task;
+    }
+
+    /**
+     * Registers a work queue that runs every tick under the budget. Every item handed over by {@code drain}
+     * runs once; leftovers carry over to the next tick. The supplier is called every tick, so it should only
+     * return new items, typically by draining a queue.
+     */
+    public <T> void registerQueue(String name, double budgetMillis,
+                                  Supplier<? extends Iterable<? extends T>> drain,
+                                  Consumer<? super T> action) {
+        register(new QueueTask<>(name, budgetMillis,
+                Objects.requireNonNull(drain, "drain"),
+                Objects.requireNonNull(action, "action")));
+    }
+
+    private void register(ScheduledTask task) {
+        if (tasksByName.putIfAbsent(task.name, task) != null) {
+            throw new IllegalArgumentException("A tick task named '" + task.name + "' is already registered.");
+        }
+        tasks.add(task);
+        logger.debug("Registered tick task '" + task.name + "' (period " + task.periodTicks + " ticks, budget " + task.budgetMillis + " ms).");
+    }
+
+    /**
+     * @return false if no task with the given name is registered.
+     */
+    public boolean setBudget(String name, double budgetMillis) {
+        ScheduledTask task = tasksByName.get(name);
+        if (task == null) {
+            return false;
+        }
+        task.setBudget(budgetMillis);
+        return true;
+    }
+
+    /**
+     * Advances the scheduler by one tick. Intended to be called once per server tick.
+     */
+    public void tick() {
+        long tick = ++currentTick;
+        for (ScheduledTask task : tasks) {
+            long start = nanoClock.getAsLong();
+            boolean ran;
+            try {
+                ran = task.run(tick, start);
+            } catch (Exception ex) {
+                ran = true;
+                logger.severe("Tick task '" + task.name + "' failed: " + ex.getMessage(), ex);
+            }
+            if (ran) {
+                task.recordRun(nanoClock.getAsLong() - start);
+            }
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public List<TickTaskStats> getStats() {
+        List<TickTaskStats> stats = new ArrayList<>(tasks.size());
+        for (ScheduledTask task : tasks) {
+            stats.add(task.snapshot());
+        }
+        return stats;
+    }
+
+    public void resetStats() {
+        tasks.forEach(ScheduledTask::resetStats);
+    }
+
+    private abstract class ScheduledTask {
+        final String name;
+        final long periodTicks;
+        volatile double budgetMillis;
+        volatile long budgetNanos;
+        long runs;
+        long totalNanos;
+        long maxNanos;
+        long lastNanos;
+        long overBudgetRuns;
+        long itemsProcessed;
+
+        ScheduledTask(String name, long periodTicks, double budgetMillis) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Tick task name must not be blank.");
+            }
+            this.name = name;
+            this.periodTicks = Math.max(1L, periodTicks);
+            setBudget(budgetMillis);
+        }
+
+        final void setBudget(double budgetMillis) {
+            this.budgetMillis = Math.max(0.0, budgetMillis);
+            this.budgetNanos = (long) (this.budgetMillis * 1_000_000.0);
+        }
+
+        /**
+         * @return true if the task did any work this tick.
+         */
+        abstract boolean run(long tick, long startNanos);
+
+        abstract boolean bucketed();
+
+        int pendingItems() {
+            return 0;
+        }
+
+        void recordRun(long elapsedNanos) {
+            runs++;
+            totalNanos += elapsedNanos;
+            lastNanos = elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+
+        void resetStats() {
+            runs = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+            lastNanos = 0;
+            overBudgetRuns = 0;
+            itemsProcessed = 0;
+        }
+
+        TickTaskStats snapshot() {
+            return new TickTaskStats(name, periodTicks, budgetMillis, bucketed(), runs, totalNanos, maxNanos,
+                    lastNanos, overBudgetRuns, itemsProcessed, pendingItems());
+        }
+    }
+
+    private final class PeriodicTask extends ScheduledTask {
+        private final Runnable action;
+
+        PeriodicTask(String name, long periodTicks, double budgetMillis, Runnable action) {
+            super(name, periodTicks, budgetMillis);
+            this.action = action;
+        }
+
+        @Override
+        boolean run(long tick, long startNanos) {
+            if (tick % periodTicks != 0) {
+                return false;
+            }
+            action.run();
+            if (budgetNanos > 0 && nanoClock.getAsLong() - startNanos > budgetNanos) {
+                overBudgetRuns++;
+            }
+            return true;
+        }
+
+        @Override
+        boolean bucketed() {
+            return false;
+        }
+    }
+
+    /**
+     * Membership of a bucketed task. Main thread only, like the scheduler itself.
+     */
+    public interface BucketedTask<T> {
+
+        /**
+         * Adds the item to its bucket; it is first visited on that bucket's next tick.
+         */
+        void track(T item);
+
+        /**
+         * Removes the item, including any deferred visit.
+         */
+        void untrack(T item);
+
+        int trackedCount();
+    }
+
+    private abstract class ItemTask<T> extends ScheduledTask {
+        private final Consumer<? super T> action;
+        // Insertion-ordered so deferred items are served before the current tick's bucket.
+        final Set<T> pending = new LinkedHashSet<>();
+
+        ItemTask(String name, long periodTicks, double budgetMillis, Consumer<? super T> action) {
+            super(name, periodTicks, budgetMillis);
+            this.action = action;
+        }
+
+        final boolean runPending(long startNanos) {
+            if (pending.isEmpty()) {
+                return false;
+            }
+            Iterator<T> iterator = pending.iterator();
+            int processed = 0;
+            while (iterator.hasNext()) {
+                // Always make progress on at least one item, even with a tiny budget.
+                if (processed > 0 && budgetNanos > 0 && nanoClock.getAsLong() - startNanos >= budgetNanos) {
+                    overBudgetRuns++;
+                    break;
+                }
+                T item = iterator.next();
+                iterator.remove();
+                processed++;
+                try {
+                    action.accept(item);
+                } catch (Exception ex) {
+                    logger.severe("Tick task '" + name + "' failed for " + item + ": " + ex.getMessage(), ex);
+                }
+            }
+            itemsProcessed += processed;
+            return true;
+        }
+
+        @Override
+        boolean bucketed() {
+            return true;
+        }
+
+        @Override
+        int pendingItems() {
+            return pending.size();
+        }
+    }
+
+    private final class TrackedTask<T> extends ItemTask<T> implements BucketedTask<T> {
+        private final ToIntFunction<? super T> bucketKey;
+        private final List<Set<T>> buckets;
+        private int trackedCount;
+
+        TrackedTask(String name, long periodTicks, double budgetMillis,
+                    ToIntFunction<? super T> bucketKey, Consumer<? super T> action) {
+            super(name, periodTicks, budgetMillis, action);
+            this.bucketKey = bucketKey;
+            this.buckets = new ArrayList<>((int) this.periodTicks);
+            for (int i = 0; i < this.periodTicks; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        @Override
+        public void track(T item) {
+            if (item != null && bucketFor(item).add(item)) {
+                trackedCount++;
+            }
+        }
+
+        @Override
+        public void untrack(T item) {
+            if (item != null && bucketFor(item).remove(item)) {
+                trackedCount--;
+            }
+            pending.remove(item);
+        }
+
+        @Override
+        public int trackedCount() {
+            return trackedCount;
+        }
+
+        private Set<T> bucketFor(T item) {
+            return buckets.get((int) Math.floorMod(bucketKey.applyAsInt(item), periodTicks));
+        }
+
+        @Override
+        boolean run(long tick, long startNanos) {
+            pending.addAll(buckets.get((int) (tick % periodTicks)));
+            return runPending(startNanos);
+        }
+    }
+
+    private final class QueueTask<T> extends ItemTask<T> {
+        private final Supplier<? extends Iterable<? extends T>> drain;
+
+        QueueTask(String name, double budgetMillis, Supplier<? extends Iterable<? extends T>> drain,
+                  Consumer<? super T> action) {
+            super(name, 1L, budgetMillis, action);
+            this.drain = drain;
+        }
+
+        @Override
+        boolean run(long tick, long startNanos) {
+            Iterable<? extends T> items = drain.get();
+            if (items != null) {
+                for (T item : items) {
+                    if (item != null) {
+                        pending.add(item);
+                    }
+                }
+            }
+            return runPending(startNanos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.x1f4r.mmocraft.core.scheduler;
+
+/**
+ * Timing snapshot for a single task registered with the {@link TickScheduler}.
+ *
+ * @param runs           Ticks on which the task did any work.
+ * @param overBudgetRuns Runs that hit the budget: bucketed tasks deferred work, periodic tasks simply ran long.
+ * @param pendingItems   Bucketed items deferred to the next tick at the time of the snapshot.
+ */
+public record TickTaskStats(String name, long periodTicks, double budgetMillis, boolean bucketed,
+                            long runs, long totalNanos, long maxNanos, long lastNanos,
+                            long overBudgetRuns, long itemsProcessed, int pendingItems) {
+
+    public double averageMillis() {
+        return runs == 0 ? 0.0 : totalNanos / (double) runs / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return maxNanos / 1_000_000.0;
+    }
+
+    public double lastMillis() {
+        return lastNanos / 1_000_000.0;
+    }
+}
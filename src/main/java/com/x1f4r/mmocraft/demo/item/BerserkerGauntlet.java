@@ -56,6 +56,11 @@ public class BerserkerGauntlet extends CustomItem {
         return mods;
     }
 
+    @Override
+    public double getBaseDamage() {
+        return 12.0;
+    }
+
     @Override
     public ItemRarity getRarity() {
         return ItemRarity.MYTHIC;
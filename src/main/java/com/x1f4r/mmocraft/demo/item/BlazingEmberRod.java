@@ -1,5 +1,6 @@
 package com.x1f4r.mmocraft.demo.item;
 
+import com.x1f4r.mmocraft.combat.model.DamageType;
 import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.demo.skill.InfernoBurstSkill;
 import com.x1f4r.mmocraft.item.model.CustomItem;
@@ -57,6 +58,16 @@ public class BlazingEmberRod extends CustomItem {
         return mods;
     }
 
+    @Override
+    public double getBaseDamage() {
+        return 6.0;
+    }
+
+    @Override
+    public DamageType getDamageType() {
+        return DamageType.MAGICAL;
+    }
+
     @Override
     public ItemRarity getRarity() {
         return ItemRarity.MYTHIC;
@@ -53,6 +53,11 @@ public class SimpleSword extends CustomItem {
         return true;
     }
 
+    @Override
+    public double getBaseDamage() {
+        return 7.0;
+    }
+
     @Override
     public ItemRarity getRarity() {
         return ItemRarity.UNCOMMON;
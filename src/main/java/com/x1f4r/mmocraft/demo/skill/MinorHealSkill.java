@@ -1,5 +1,6 @@
 package com.x1f4r.mmocraft.demo.skill;
 
+import com.x1f4r.mmocraft.combat.threat.ThreatService;
 import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.model.Stat;
@@ -63,6 +64,11 @@ public class MinorHealSkill extends Skill {
             casterPlayer.setHealth(appliedHealth);
         }
 
+        ThreatService threatService = plugin.getThreatService();
+        if (threatService != null && actualHeal > 0) {
+            threatService.addHealingThreat(casterPlayer, casterPlayer, actualHeal);
+        }
+
         casterPlayer.sendMessage(StringUtil.colorize("&aYou cast Minor Heal and restored &f" + actualHeal + "&a health."));
         logger.info(casterPlayer.getName() + " used Minor Heal, restoring " + actualHeal + " health.");
 
@@ -62,14 +62,8 @@ public class ProspectorPulseSkill extends Skill {
         }
 
         int highlighted = 0;
-        for (ActiveResourceNode node : nodeManager.getAllActiveNodesView().values()) {
-            if (node.isDepleted() || node.getLocation().getWorld() == null) {
-                continue;
-            }
-            if (!node.getLocation().getWorld().equals(origin.getWorld())) {
-                continue;
-            }
-            if (node.getLocation().distanceSquared(origin) > NODE_REVEAL_RADIUS * NODE_REVEAL_RADIUS) {
+        for (ActiveResourceNode node : nodeManager.findNodesNear(origin, NODE_REVEAL_RADIUS, null)) {
+            if (node.isDepleted()) {
                 continue;
             }
 
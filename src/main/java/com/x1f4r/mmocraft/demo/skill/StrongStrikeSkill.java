@@ -14,6 +14,8 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
+import java.util.random.RandomGenerator;
+
 /**
  * A targeted melee skill used to demonstrate custom combat calculations.
  */
@@ -64,7 +66,8 @@ public class StrongStrikeSkill extends Skill {
         double skillDamageContribution = BASE_SKILL_DAMAGE + (casterProfile.getStatValue(Stat.STRENGTH) * STRENGTH_SCALING_FACTOR);
         double totalDamagePotential = Math.max(0, skillDamageContribution * DAMAGE_MULTIPLIER);
 
-        boolean isCrit = Math.random() < casterProfile.getCriticalHitChance();
+        RandomGenerator random = plugin.getRandomService().forCombatEvent();
+        boolean isCrit = random.nextDouble() < casterProfile.getCriticalHitChance();
         if (isCrit) {
             totalDamagePotential *= casterProfile.getCriticalDamageBonus();
         }
@@ -73,7 +76,7 @@ public class StrongStrikeSkill extends Skill {
                 ? plugin.getPlayerDataService().getPlayerProfile(playerVictim.getUniqueId())
                 : null;
 
-        if (victimProfile != null && Math.random() < victimProfile.getEvasionChance()) {
+        if (victimProfile != null && random.nextDouble() < victimProfile.getEvasionChance()) {
             casterPlayer.sendMessage(StringUtil.colorize("&eYour Strong Strike was evaded by " + livingTarget.getName() + "!"));
             if (livingTarget instanceof Player) {
                 ((Player) livingTarget).sendMessage(StringUtil.colorize("&aYou evaded a Strong Strike from " + casterPlayer.getName() + "!"));
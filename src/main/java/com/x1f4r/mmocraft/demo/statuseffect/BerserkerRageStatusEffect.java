@@ -94,7 +94,7 @@ public class BerserkerRageStatusEffect extends StatusEffect {
         Objects.requireNonNull(profile, "profile");
         PlayerRuntimeAttributeService runtimeService = plugin.getPlayerRuntimeAttributeService();
         if (runtimeService != null) {
-            runtimeService.syncPlayer(player);
+            runtimeService.markDirty(player);
         }
     }
 
@@ -6,6 +6,7 @@ import com.x1f4r.mmocraft.item.service.CustomItemRegistry;
 import com.x1f4r.mmocraft.playerdata.PlayerDataService;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.model.Stat;
+import com.x1f4r.mmocraft.playerdata.runtime.PlayerRuntimeAttributeService;
 import com.x1f4r.mmocraft.util.LoggingUtil;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -87,5 +88,9 @@ public class PlayerEquipmentManager {
         // Crucial: Recalculate all derived attributes once after all modifiers have been updated.
         profile.recalculateDerivedAttributes();
         logger.fine("Recalculated derived attributes for " + player.getName() + " after equipment update. MaxHP: " + profile.getMaxHealth());
+        PlayerRuntimeAttributeService runtimeService = plugin != null ? plugin.getPlayerRuntimeAttributeService() : null;
+        if (runtimeService != null) {
+            runtimeService.markDirty(player);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.x1f4r.mmocraft.item.model;
 
+import com.x1f4r.mmocraft.combat.model.DamageType;
 import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.item.api.NBTUtil;
 import com.x1f4r.mmocraft.util.StringUtil;
@@ -92,6 +93,21 @@ public abstract class CustomItem {
         return Collections.emptyMap();
     }
 
+    /**
+     * @return The base weapon damage dealt when attacking with this item. Values of 0 or less
+     *         fall back to the vanilla damage of {@link #getMaterial()}. Defaults to 0.
+     */
+    public double getBaseDamage() {
+        return 0.0;
+    }
+
+    /**
+     * @return The {@link DamageType} dealt when attacking with this item. Defaults to {@link DamageType#PHYSICAL}.
+     */
+    public DamageType getDamageType() {
+        return DamageType.PHYSICAL;
+    }
+
     /**
      * @return Ability descriptors linked to this item for tooltip and metadata generation.
      */
@@ -8,8 +8,8 @@ import java.util.ArrayList;
 import java.util.Collections; // Added
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a collection of possible loot drops, typically associated with a mob type or a chest.
@@ -18,7 +18,6 @@ public class LootTable {
 
     private final String lootTableId;
     private final List<LootTableEntry> entries;
-    private final Random random = ThreadLocalRandom.current(); // Efficient random for concurrent use if needed
 
     /**
      * Constructs a new LootTable.
@@ -60,6 +59,19 @@ public class LootTable {
      * @return A list of {@link ItemStack}s that were determined to drop. The list may be empty.
      */
     public List<ItemStack> generateLoot(CustomItemRegistry itemRegistry, MMOCraftPlugin plugin) {
+        RandomGenerator random = plugin != null && plugin.getRandomService() != null
+                ? plugin.getRandomService().current()
+                : ThreadLocalRandom.current();
+        return generateLoot(itemRegistry, plugin, random);
+    }
+
+    /**
+     * Generates loot using the supplied generator for drop and amount rolls.
+     *
+     * @param random The generator to roll with. Must only be used on the calling thread.
+     * @see #generateLoot(CustomItemRegistry, MMOCraftPlugin)
+     */
+    public List<ItemStack> generateLoot(CustomItemRegistry itemRegistry, MMOCraftPlugin plugin, RandomGenerator random) {
         List<ItemStack> generatedItems = new ArrayList<>();
         if (itemRegistry == null || plugin == null || plugin.getLoggingUtil() == null) {
             System.err.println("LootTable.generateLoot: A required service (itemRegistry, plugin, or logger) is null! Cannot generate loot.");
@@ -7,6 +7,12 @@ import java.util.Optional;
 
 public interface PersistenceService {
     Connection getConnection() throws SQLException;
+
+    /**
+     * Opens a new connection that is not shared with {@link #getConnection()} callers, for work that needs
+     * its own transaction, such as a background batch writer. The caller owns and closes it.
+     */
+    Connection openDedicatedConnection() throws SQLException;
     void initDatabase() throws SQLException;
     void close() throws SQLException;
 
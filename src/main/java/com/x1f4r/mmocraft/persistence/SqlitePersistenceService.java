@@ -13,6 +13,8 @@ import java.util.Optional;
 
 public class SqlitePersistenceService implements PersistenceService {
 
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
+
     // private final JavaPlugin plugin; // Keep for getDataFolder, or pass LoggingUtil separately
     private final LoggingUtil log;
     private Connection connection;
@@ -60,6 +62,19 @@ public class SqlitePersistenceService implements PersistenceService {
         return connection;
     }
 
+    @Override
+    public Connection openDedicatedConnection() throws SQLException {
+        Connection dedicated = DriverManager.getConnection(dbUrl);
+        try (Statement stmt = dedicated.createStatement()) {
+            // Wait for the shared connection's writes instead of failing with SQLITE_BUSY.
+            stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MILLIS);
+        } catch (SQLException e) {
+            dedicated.close();
+            throw e;
+        }
+        return dedicated;
+    }
+
     @Override
     public void initDatabase() throws SQLException {
         String createPluginInfoTableSql = "CREATE TABLE IF NOT EXISTS plugin_info (" +
@@ -70,7 +70,7 @@ public class BasicCompanionPetService implements CompanionPetService {
         }
         String statSourceKey = STAT_SOURCE_PREFIX + definition.id();
         applyStatBonuses(profile, definition.statBonuses(), statSourceKey);
-        runtimeAttributeService.syncPlayer(player);
+        runtimeAttributeService.markDirty(player);
         activePets.put(player.getUniqueId(), new ActiveCompanionPet(player.getUniqueId(), entity, definition, statSourceKey));
         player.sendMessage(StringUtil.colorize("&a" + definition.displayName() + " answers your call."));
     }
@@ -101,7 +101,7 @@ public class BasicCompanionPetService implements CompanionPetService {
             profile.clearTemporaryStatModifiers(active.statSourceKey());
             Player owner = Bukkit.getPlayer(playerId);
             if (owner != null && owner.isOnline()) {
-                runtimeAttributeService.syncPlayer(owner);
+                runtimeAttributeService.markDirty(owner);
             }
         }
     }
@@ -113,19 +113,28 @@ public class BasicCompanionPetService implements CompanionPetService {
 
     @Override
     public void tick() {
-        for (ActiveCompanionPet active : activePets.values()) {
-            Player owner = Bukkit.getPlayer(active.ownerId());
-            if (owner == null || !owner.isOnline()) {
-                dismissPet(active.ownerId());
-                continue;
-            }
-            LivingEntity pet = active.entity();
-            if (pet == null || pet.isDead()) {
-                dismissPet(active.ownerId());
-                continue;
-            }
-            keepPetNearOwner(owner, pet);
+        for (UUID ownerId : activePets.keySet()) {
+            tickPet(ownerId);
+        }
+    }
+
+    @Override
+    public void tickPet(UUID ownerId) {
+        ActiveCompanionPet active = ownerId != null ? activePets.get(ownerId) : null;
+        if (active == null) {
+            return;
+        }
+        Player owner = Bukkit.getPlayer(active.ownerId());
+        if (owner == null || !owner.isOnline()) {
+            dismissPet(active.ownerId());
+            return;
+        }
+        LivingEntity pet = active.entity();
+        if (pet == null || pet.isDead()) {
+            dismissPet(active.ownerId());
+            return;
         }
+        keepPetNearOwner(owner, pet);
     }
 
     private void keepPetNearOwner(Player owner, LivingEntity pet) {
@@ -22,6 +22,11 @@ public interface CompanionPetService {
 
     void tick();
 
+    /**
+     * Runs the per-tick upkeep (follow owner, dismiss if invalid) for a single owner's pet.
+     */
+    void tickPet(UUID ownerId);
+
     void handlePlayerQuit(UUID playerId);
 
     void handlePlayerDeath(UUID playerId);
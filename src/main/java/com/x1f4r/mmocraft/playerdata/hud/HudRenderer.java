@@ -0,0 +1,97 @@
+package com.x1f4r.mmocraft.playerdata.hud;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the last rendered action bar per player and only rebuilds it when the displayed values change.
+ * <p>
+ * Unchanged bars are resent every {@code resendIntervalTicks} so the client does not fade them out;
+ * vanilla keeps an action bar fully visible for roughly three seconds.
+ */
+public class HudRenderer {
+
+    public static final int DEFAULT_RESEND_INTERVAL_TICKS = 40;
+
+    private static final long NEVER_SENT = Long.MIN_VALUE / 2;
+
+    private final Map<UUID, RenderedHud> renderedByPlayer = new ConcurrentHashMap<>();
+    private volatile HudTemplate template;
+    private volatile int resendIntervalTicks;
+
+    public HudRenderer() {
+        this(HudTemplate.parse(HudTemplate.DEFAULT_TEMPLATE), DEFAULT_RESEND_INTERVAL_TICKS);
+    }
+
+    public HudRenderer(HudTemplate template, int resendIntervalTicks) {
+        configure(template, resendIntervalTicks);
+    }
+
+    /**
+     * Replaces the template and resend interval. Cached bars are dropped so every player is redrawn.
+     */
+    public void configure(HudTemplate template, int resendIntervalTicks) {
+        this.template = Objects.requireNonNull(template, "template");
+        this.resendIntervalTicks = Math.max(1, resendIntervalTicks);
+        renderedByPlayer.clear();
+    }
+
+    /**
+     * @param currentTick Monotonic tick counter supplied by the caller.
+     * @return The component to send, or {@code null} if the player's bar is current and not about to fade.
+     */
+    public Component render(UUID playerId, HudSnapshot snapshot, long currentTick) {
+        RenderedHud rendered = renderedByPlayer.get(playerId);
+        if (rendered == null || !rendered.snapshot.equals(snapshot)) {
+            rendered = new RenderedHud(snapshot, template.render(snapshot));
+            renderedByPlayer.put(playerId, rendered);
+        } else if (currentTick - rendered.lastSentTick < resendIntervalTicks) {
+            return null;
+        }
+        rendered.lastSentTick = currentTick;
+        return rendered.component;
+    }
+
+    /**
+     * Forces the cached bar to be resent on the next render, e.g. after another message replaced it.
+     */
+    public void markStale(UUID playerId) {
+        RenderedHud rendered = renderedByPlayer.get(playerId);
+        if (rendered != null) {
+            rendered.lastSentTick = NEVER_SENT;
+        }
+    }
+
+    public void clear(UUID playerId) {
+        if (playerId != null) {
+            renderedByPlayer.remove(playerId);
+        }
+    }
+
+    public void clearAll() {
+        renderedByPlayer.clear();
+    }
+
+    public HudTemplate getTemplate() {
+        return template;
+    }
+
+    public int getResendIntervalTicks() {
+        return resendIntervalTicks;
+    }
+
+    private static final class RenderedHud {
+        private final HudSnapshot snapshot;
+        private final Component component;
+        private volatile long lastSentTick = NEVER_SENT;
+
+        private RenderedHud(HudSnapshot snapshot, Component component) {
+            this.snapshot = snapshot;
+            this.component = component;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.x1f4r.mmocraft.playerdata.hud;
+
+/**
+ * The values shown on a player's action bar, already rounded to display precision so that two
+ * snapshots compare equal exactly when they would render the same text.
+ *
+ * @param manaRegenTenths Mana regeneration per second in tenths, e.g. {@code 15} renders as {@code 1.5}.
+ */
+public record HudSnapshot(long health, long maxHealth, long mana, long maxMana, long manaRegenTenths, int level) {
+
+    public static HudSnapshot of(double health, double maxHealth, long mana, long maxMana, double manaRegen, int level) {
+        return new HudSnapshot(Math.round(health), Math.round(maxHealth), mana, maxMana, Math.round(manaRegen * 10.0), level);
+    }
+}
@@ -0,0 +1,182 @@
+package com.x1f4r.mmocraft.playerdata.hud;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Action bar layout parsed once from a legacy {@code &}-coded template such as
+ * {@code "&c❤ {health}/{max_health}  &6Lvl {level}"}.
+ * <p>
+ * Colour codes are resolved at parse time, so static text becomes pre-built components and each
+ * placeholder remembers the style active where it appeared. Rendering only formats numbers.
+ */
+public final class HudTemplate {
+
+    public static final String DEFAULT_TEMPLATE =
+            "&c❤ {health}/{max_health}  &b✦ {mana}/{max_mana}  &3⇑ {mana_regen}/s  &6Lvl {level}";
+
+    private static final char LEGACY_CHAR = '&';
+
+    private final String source;
+    private final List<Part> parts;
+
+    private HudTemplate(String source, List<Part> parts) {
+        this.source = source;
+        this.parts = List.copyOf(parts);
+    }
+
+    /**
+     * Parses a template. Unknown placeholders are kept as literal text; a blank template falls back to
+     * {@link #DEFAULT_TEMPLATE}.
+     */
+    public static HudTemplate parse(String template) {
+        String source = template == null || template.isBlank() ? DEFAULT_TEMPLATE : template;
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Style style = Style.empty();
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c == LEGACY_CHAR && i + 1 < length) {
+                LegacyFormat format = LegacyComponentSerializer.parseChar(source.charAt(i + 1));
+                if (format != null) {
+                    flushLiteral(parts, literal, style);
+                    style = applyFormat(style, format);
+                    i += 2;
+                    continue;
+                }
+            }
+            if (c == '{') {
+                int end = source.indexOf('}', i + 1);
+                Placeholder placeholder = end > i ? Placeholder.byKey(source.substring(i + 1, end)) : null;
+                if (placeholder != null) {
+                    flushLiteral(parts, literal, style);
+                    parts.add(new ValuePart(placeholder, style));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        flushLiteral(parts, literal, style);
+        return new HudTemplate(source, parts);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Builds the action bar component for the given values.
+     */
+    public Component render(HudSnapshot snapshot) {
+        var builder = Component.text();
+        for (Part part : parts) {
+            if (part instanceof LiteralPart literal) {
+                builder.append(literal.component());
+            } else if (part instanceof ValuePart value) {
+                builder.append(Component.text(value.placeholder().format(snapshot), value.style()));
+            }
+        }
+        return builder.build();
+    }
+
+    private static void flushLiteral(List<Part> parts, StringBuilder literal, Style style) {
+        if (literal.isEmpty()) {
+            return;
+        }
+        parts.add(new LiteralPart(Component.text(literal.toString(), style)));
+        literal.setLength(0);
+    }
+
+    private static Style applyFormat(Style style, LegacyFormat format) {
+        if (format.reset()) {
+            return Style.empty();
+        }
+        TextColor color = format.color();
+        if (color != null) {
+            // Legacy semantics: a colour code clears any decorations set before it.
+            return Style.style(color);
+        }
+        TextDecoration decoration = format.decoration();
+        return decoration != null ? style.decorate(decoration) : style;
+    }
+
+    private sealed interface Part permits LiteralPart, ValuePart {
+    }
+
+    private record LiteralPart(Component component) implements Part {
+    }
+
+    private record ValuePart(Placeholder placeholder, Style style) implements Part {
+    }
+
+    private enum Placeholder {
+        HEALTH("health") {
+            @Override
+            String format(HudSnapshot snapshot) {
+                return Long.toString(snapshot.health());
+            }
+        },
+        MAX_HEALTH("max_health") {
+            @Override
+            String format(HudSnapshot snapshot) {
+                return Long.toString(snapshot.maxHealth());
+            }
+        },
+        MANA("mana") {
+            @Override
+            String format(HudSnapshot snapshot) {
+                return Long.toString(snapshot.mana());
+            }
+        },
+        MAX_MANA("max_mana") {
+            @Override
+            String format(HudSnapshot snapshot) {
+                return Long.toString(snapshot.maxMana());
+            }
+        },
+        MANA_REGEN("mana_regen") {
+            @Override
+            String format(HudSnapshot snapshot) {
+                long tenths = snapshot.manaRegenTenths();
+                // Sign first: -5 tenths must render as "-0.5", not "0.5".
+                return (tenths < 0 ? "-" : "") + Math.abs(tenths / 10) + "." + Math.abs(tenths % 10);
+            }
+        },
+        LEVEL("level") {
+            @Override
+            String format(HudSnapshot snapshot) {
+                return Integer.toString(snapshot.level());
+            }
+        };
+
+        private final String key;
+
+        Placeholder(String key) {
+            this.key = key;
+        }
+
+        abstract String format(HudSnapshot snapshot);
+
+        private static Placeholder byKey(String key) {
+            String normalized = key.trim().toLowerCase(Locale.ROOT);
+            for (Placeholder placeholder : values()) {
+                if (placeholder.key.equals(normalized)) {
+                    return placeholder;
+                }
+            }
+            return null;
+        }
+    }
+}
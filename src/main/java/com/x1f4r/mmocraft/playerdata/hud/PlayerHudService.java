@@ -1,107 +1,102 @@
 package com.x1f4r.mmocraft.playerdata.hud;
 
+import com.x1f4r.mmocraft.combat.feedback.CombatFeedbackAggregator;
 import com.x1f4r.mmocraft.playerdata.PlayerDataService;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
-import com.x1f4r.mmocraft.playerdata.model.Stat;
 import com.x1f4r.mmocraft.util.LoggingUtil;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.Bukkit;
+import net.kyori.adventure.text.Component;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.entity.Player;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Handles lightweight HUD updates such as health/mana action bars and passive mana regeneration.
+ * Handles lightweight HUD updates such as health/mana action bars. Mana regeneration is evaluated
+ * lazily by {@link PlayerProfile#getCurrentMana()}, so this service never mutates profiles.
+ * Action bars are rendered through a {@link HudRenderer}, so players whose values did not change
+ * only receive a periodic resend to keep the bar from fading.
  */
 public class PlayerHudService {
 
     private final PlayerDataService playerDataService;
     private final LoggingUtil logger;
-    private final Map<UUID, Double> manaRemainder = new ConcurrentHashMap<>();
+    private final CombatFeedbackAggregator combatFeedback;
+    private final HudRenderer hudRenderer;
 
     public PlayerHudService(PlayerDataService playerDataService, LoggingUtil logger) {
+        this(playerDataService, logger, null);
+    }
+
+    public PlayerHudService(PlayerDataService playerDataService, LoggingUtil logger, CombatFeedbackAggregator combatFeedback) {
+        this(playerDataService, logger, combatFeedback, new HudRenderer());
+    }
+
+    public PlayerHudService(PlayerDataService playerDataService, LoggingUtil logger, CombatFeedbackAggregator combatFeedback,
+                            HudRenderer hudRenderer) {
         this.playerDataService = playerDataService;
         this.logger = logger;
+        this.combatFeedback = combatFeedback;
+        this.hudRenderer = hudRenderer;
     }
 
     /**
-     * Updates all online players, regenerating mana and refreshing their action bar HUD.
-     *
-     * @param deltaSeconds time elapsed since the previous tick invocation.
+     * Applies a freshly parsed action bar template, e.g. after a configuration reload.
      */
-    public void tick(double deltaSeconds) {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!player.isOnline()) {
-                continue;
-            }
-            PlayerProfile profile = playerDataService.getPlayerProfile(player.getUniqueId());
-            if (profile == null) {
-                continue;
-            }
-            try {
-                regenerateMana(profile, deltaSeconds);
-                sendActionBar(player, profile);
-            } catch (Exception ex) {
-                logger.severe("Failed to update HUD for " + player.getName() + ": " + ex.getMessage(), ex);
-            }
-        }
+    public void configureHud(HudTemplate template, int resendIntervalTicks) {
+        hudRenderer.configure(template, resendIntervalTicks);
     }
 
-    private void regenerateMana(PlayerProfile profile, double deltaSeconds) {
-        long maxMana = Math.max(0L, profile.getMaxMana());
-        if (maxMana <= 0) {
-            manaRemainder.remove(profile.getPlayerUUID());
-            profile.setCurrentMana(0);
+    /**
+     * Refreshes a single player's action bar HUD. Callers spread players across ticks, so this is invoked
+     * for each online player once per HUD interval.
+     *
+     * @param currentTick monotonic tick counter used to pace resends of unchanged bars.
+     */
+    public void updatePlayer(Player player, long currentTick) {
+        if (player == null || !player.isOnline()) {
             return;
         }
-        if (profile.getCurrentMana() >= maxMana) {
-            manaRemainder.remove(profile.getPlayerUUID());
-            profile.setCurrentMana(Math.min(profile.getCurrentMana(), maxMana));
+        PlayerProfile profile = playerDataService.getPlayerProfile(player.getUniqueId());
+        if (profile == null) {
             return;
         }
-        double regenRate = Math.max(0.0, profile.getStatValue(Stat.MANA_REGEN));
-        double accumulated = manaRemainder.getOrDefault(profile.getPlayerUUID(), 0.0);
-        accumulated += regenRate * deltaSeconds;
-        long wholePoints = (long) Math.floor(accumulated);
-        if (wholePoints > 0) {
-            long newMana = Math.min(maxMana, profile.getCurrentMana() + wholePoints);
-            profile.setCurrentMana(newMana);
-            accumulated -= wholePoints;
+        try {
+            if (combatFeedback != null && combatFeedback.isHoldingActionBar(player.getUniqueId())) {
+                hudRenderer.markStale(player.getUniqueId());
+                return;
+            }
+            sendActionBar(player, profile, currentTick);
+        } catch (Exception ex) {
+            logger.severe("Failed to update HUD for " + player.getName() + ": " + ex.getMessage(), ex);
         }
-        manaRemainder.put(profile.getPlayerUUID(), accumulated);
     }
 
-    private void sendActionBar(Player player, PlayerProfile profile) {
+    private void sendActionBar(Player player, PlayerProfile profile, long currentTick) {
         AttributeInstance healthAttribute = player.getAttribute(Attribute.MAX_HEALTH);
         double maxHealth = healthAttribute != null ? healthAttribute.getValue() : profile.getMaxHealth();
         double currentHealth = Math.min(player.getHealth(), maxHealth);
 
-        long currentMana = profile.getCurrentMana();
-        long maxMana = Math.max(1L, profile.getMaxMana());
-        double regenRate = Math.max(0.0, profile.getStatValue(Stat.MANA_REGEN));
-
-        String message = String.format(
-                "&c❤ %.0f/%.0f  &b✦ %d/%d  &3⇑ %.1f/s  &6Lvl %d",
+        HudSnapshot snapshot = HudSnapshot.of(
                 currentHealth,
                 maxHealth,
-                currentMana,
-                maxMana,
-                regenRate,
+                profile.getCurrentMana(),
+                Math.max(1L, profile.getMaxMana()),
+                profile.getManaRegenPerSecond(),
                 profile.getLevel());
-        player.sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize(message));
+        Component actionBar = hudRenderer.render(player.getUniqueId(), snapshot, currentTick);
+        if (actionBar != null) {
+            player.sendActionBar(actionBar);
+        }
     }
 
     public void clearCache(UUID playerId) {
         if (playerId != null) {
-            manaRemainder.remove(playerId);
+            hudRenderer.clear(playerId);
         }
     }
 
     public void clearAll() {
-        manaRemainder.clear();
+        hudRenderer.clearAll();
     }
 }
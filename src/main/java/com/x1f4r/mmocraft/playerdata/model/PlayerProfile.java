@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -22,8 +23,11 @@ public class PlayerProfile {
     // Primary Attributes (managed by this class, influenced by stats)
     private long currentHealth;
     private long maxHealth;
-    private long currentMana;
     private long maxMana;
+    // Mana is evaluated lazily: the value at the anchor time plus regeneration since then, capped at maxMana.
+    private double manaAnchor;
+    private long manaAnchorNanos;
+    private double manaRegenPerSecond;
 
     // Progression
     private int level;
@@ -54,6 +58,7 @@ public class PlayerProfile {
     private double magicDamageReduction;    // Percentage
 
     private static volatile StatScalingConfig statScalingConfig = StatScalingConfig.defaults();
+    private static volatile LongSupplier nanoClock = System::nanoTime;
 
     public static void setStatScalingConfig(StatScalingConfig config) {
         statScalingConfig = config == null ? StatScalingConfig.defaults() : config;
@@ -63,6 +68,13 @@ public class PlayerProfile {
         return statScalingConfig;
     }
 
+    /**
+     * Replaces the monotonic clock used for mana regeneration. Intended for tests.
+     */
+    static void setNanoClock(LongSupplier clock) {
+        nanoClock = clock == null ? System::nanoTime : clock;
+    }
+
     private void ensureAllStatsInitialized() {
         StatScalingConfig config = getStatScalingConfig();
         for (Stat stat : Stat.values()) {
@@ -103,7 +115,7 @@ public class PlayerProfile {
         recalculateDerivedAttributes(); // Initial calculation
         // After maxHealth/maxMana are calculated, set current to max for new profile
         this.currentHealth = this.maxHealth;
-        this.currentMana = this.maxMana;
+        setCurrentMana(this.maxMana);
     }
 
     /**
@@ -130,7 +142,7 @@ public class PlayerProfile {
 
         // Set current health/mana, ensuring they don't exceed the (potentially newly calculated) max values
         this.currentHealth = Math.min(currentHealth, this.maxHealth);
-        this.currentMana = Math.min(currentMana, this.maxMana);
+        setCurrentMana(currentMana);
     }
 
     // --- Getters for Primary Attributes & Progression ---
@@ -138,7 +150,11 @@ public class PlayerProfile {
     public String getPlayerName() { return playerName; }
     public long getCurrentHealth() { return currentHealth; }
     public long getMaxHealth() { return maxHealth; } // Now calculated
-    public long getCurrentMana() { return currentMana; }
+
+    /**
+     * @return Current mana including passive regeneration accrued since the last change.
+     */
+    public long getCurrentMana() { return (long) Math.floor(currentManaExact()); }
     public long getMaxMana() { return maxMana; } // Now calculated
     public int getLevel() { return level; }
     public long getExperience() { return experience; }
@@ -194,7 +210,29 @@ public class PlayerProfile {
     // setMaxHealth is now implicitly handled by recalculateDerivedAttributes via stats/level
 
     public void setCurrentMana(long currentMana) {
-        this.currentMana = Math.max(0L, Math.min(currentMana, this.maxMana));
+        this.manaAnchor = clamp(0.0, this.maxMana, currentMana);
+        this.manaAnchorNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return Passive mana regeneration in points per second, taken from the MANA_REGEN stat.
+     */
+    public double getManaRegenPerSecond() { return manaRegenPerSecond; }
+
+    private double currentManaExact() {
+        if (manaRegenPerSecond <= 0.0 || manaAnchor >= maxMana) {
+            return Math.min(manaAnchor, maxMana);
+        }
+        double elapsedSeconds = Math.max(0L, nanoClock.getAsLong() - manaAnchorNanos) / 1_000_000_000.0;
+        return Math.min(maxMana, manaAnchor + manaRegenPerSecond * elapsedSeconds);
+    }
+
+    /**
+     * Folds regeneration accrued so far into the anchor. Must run before the rate or cap changes.
+     */
+    private void settleMana() {
+        this.manaAnchor = currentManaExact();
+        this.manaAnchorNanos = nanoClock.getAsLong();
     }
     // setMaxMana is now implicitly handled by recalculateDerivedAttributes via stats/level
 
@@ -345,6 +383,7 @@ public class PlayerProfile {
      */
     public void recalculateDerivedAttributes() {
         StatScalingConfig config = getStatScalingConfig();
+        settleMana(); // Regeneration up to now accrues at the old rate and cap
 
         effectiveStats.clear();
         for (Stat stat : Stat.values()) {
@@ -362,7 +401,8 @@ public class PlayerProfile {
         double manaStat = effectiveStats.getOrDefault(Stat.INTELLIGENCE,
                 config.getStatRule(Stat.INTELLIGENCE).compute(0.0, this.level));
         this.maxMana = Math.max(0L, Math.round(manaStat));
-        this.currentMana = Math.max(0L, Math.min(this.currentMana, this.maxMana));
+        this.manaAnchor = clamp(0.0, this.maxMana, this.manaAnchor);
+        this.manaRegenPerSecond = Math.max(0.0, effectiveStats.getOrDefault(Stat.MANA_REGEN, 0.0));
 
         double critChancePercent = effectiveStats.getOrDefault(Stat.CRITICAL_CHANCE, 0.0);
         this.criticalHitChance = clamp(0.0, 1.0, critChancePercent / 100.0);
@@ -458,7 +498,8 @@ public class PlayerProfile {
 
     public void consumeMana(long amount) {
         if (amount <= 0) return;
-        setCurrentMana(this.currentMana - amount);
+        settleMana(); // Keeps the fractional regeneration progress
+        this.manaAnchor = Math.max(0.0, this.manaAnchor - amount);
     }
 
     private static double clamp(double min, double max, double value) {
@@ -485,7 +526,7 @@ public class PlayerProfile {
                ", playerName='" + playerName + '\'' +
                ", level=" + level +
                ", currentHealth=" + currentHealth + "/" + maxHealth +
-               ", currentMana=" + currentMana + "/" + maxMana +
+               ", currentMana=" + getCurrentMana() + "/" + maxMana +
                ", experience=" + experience +
                ", currency=" + currency +
                ", coreStats=" + coreStats.entrySet().stream()
@@ -11,7 +11,7 @@ import org.bukkit.event.player.PlayerRespawnEvent;
 import java.util.Objects;
 
 /**
- * Triggers immediate synchronisation of player runtime attributes on key lifecycle events.
+ * Triggers synchronisation of player runtime attributes on key lifecycle events.
  */
 public class PlayerRuntimeAttributeListener implements Listener {
 
@@ -31,12 +31,13 @@ public class PlayerRuntimeAttributeListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerRespawn(PlayerRespawnEvent event) {
-        runtimeAttributeService.syncPlayer(event.getPlayer());
-        logger.finer("Applied runtime attributes on respawn for " + event.getPlayer().getName());
+        // The player is not fully respawned yet; apply once the tick completes.
+        runtimeAttributeService.markDirty(event.getPlayer());
+        logger.finer("Queued runtime attributes on respawn for " + event.getPlayer().getName());
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
-        runtimeAttributeService.clearCache(event.getPlayer().getUniqueId());
+        runtimeAttributeService.releasePlayer(event.getPlayer());
     }
 }
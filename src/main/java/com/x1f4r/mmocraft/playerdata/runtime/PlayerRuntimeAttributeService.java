@@ -12,6 +12,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -22,6 +23,10 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * Synchronises calculated player stats with live Bukkit entity attributes.
  * This service is responsible for translating profile values such as SPEED,
  * ATTACK_SPEED and MINING_SPEED into the corresponding runtime effects.
+ * <p>
+ * Gameplay code calls {@link #markDirty(Player)} whenever a profile change may affect live attributes;
+ * {@link #flushDirty()} runs once at the end of every tick and applies a single snapshot per dirty player,
+ * no matter how many stat changes happened during that tick.
  */
 public class PlayerRuntimeAttributeService {
 
@@ -29,6 +34,7 @@ public class PlayerRuntimeAttributeService {
     private volatile RuntimeStatConfig runtimeStatConfig;
     private final LoggingUtil logger;
     private final Map<UUID, PlayerAttributeSnapshot> lastAppliedSnapshots = new ConcurrentHashMap<>();
+    private final Map<UUID, Player> dirtyPlayers = new ConcurrentHashMap<>();
     private final HasteEffectApplier hasteEffectApplier;
     private final AttributeResolver attributeResolver;
 
@@ -67,10 +73,38 @@ public class PlayerRuntimeAttributeService {
     }
 
     /**
-     * Applies attribute updates to all currently online players.
+     * Queues the player for synchronisation at the end of the current tick. Repeated calls within the
+     * same tick collapse into a single attribute update.
+     *
+     * @param player Bukkit player whose profile changed.
      */
-    public void updateAllPlayers() {
+    public void markDirty(Player player) {
+        if (player != null) {
+            dirtyPlayers.put(player.getUniqueId(), player);
+        }
+    }
+
+    /**
+     * Queues every online player for synchronisation, e.g. after a configuration reload.
+     */
+    public void markAllPlayersDirty() {
         for (Player player : Bukkit.getOnlinePlayers()) {
+            markDirty(player);
+        }
+    }
+
+    /**
+     * Applies pending attribute updates for all players marked dirty since the last flush.
+     * Intended to run once every server tick.
+     */
+    public void flushDirty() {
+        if (dirtyPlayers.isEmpty()) {
+            return;
+        }
+        Iterator<Player> iterator = dirtyPlayers.values().iterator();
+        while (iterator.hasNext()) {
+            Player player = iterator.next();
+            iterator.remove();
             try {
                 syncPlayer(player);
             } catch (Exception ex) {
@@ -80,7 +114,15 @@ public class PlayerRuntimeAttributeService {
     }
 
     /**
-     * Ensures the provided player's live attributes match their {@link PlayerProfile} values.
+     * @return true if the player has a pending synchronisation queued for the next flush.
+     */
+    public boolean isDirty(UUID playerId) {
+        return playerId != null && dirtyPlayers.containsKey(playerId);
+    }
+
+    /**
+     * Ensures the provided player's live attributes match their {@link PlayerProfile} values immediately.
+     * Prefer {@link #markDirty(Player)} from gameplay code so updates are batched per tick.
      *
      * @param player Bukkit player to update.
      */
@@ -98,12 +140,41 @@ public class PlayerRuntimeAttributeService {
         lastAppliedSnapshots.put(player.getUniqueId(), desired);
     }
 
+    /**
+     * Removes the runtime effects this service applied and forgets the player. Called on quit, so the
+     * infinite Haste is not saved with the player's data and carried into a later session.
+     */
+    public void releasePlayer(Player player) {
+        if (player == null) {
+            return;
+        }
+        PlayerAttributeSnapshot previous = lastAppliedSnapshots.get(player.getUniqueId());
+        try {
+            hasteEffectApplier.apply(player, -1, previous != null ? previous.hasteAmplifier : HasteEffectApplier.UNKNOWN_AMPLIFIER);
+        } catch (Exception ex) {
+            logger.severe("Failed to remove runtime effects from " + player.getName() + ": " + ex.getMessage(), ex);
+        }
+        clearCache(player.getUniqueId());
+    }
+
+    /**
+     * Releases every online player, e.g. when the plugin is disabled.
+     */
+    public void shutdown() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            releasePlayer(player);
+        }
+        lastAppliedSnapshots.clear();
+        dirtyPlayers.clear();
+    }
+
     /**
      * Clears cached attribute information for a player, e.g. on quit.
      */
     public void clearCache(UUID playerId) {
         if (playerId != null) {
             lastAppliedSnapshots.remove(playerId);
+            dirtyPlayers.remove(playerId);
         }
     }
 
@@ -154,8 +225,10 @@ public class PlayerRuntimeAttributeService {
             }
         }
 
-        int previousHaste = previous != null ? previous.hasteAmplifier : -1;
-        if (desired.hasteAmplifier >= 0 || previousHaste >= 0) {
+        // Without a previous snapshot (first sync after join) a Haste left over from an earlier session may
+        // still be on the player, so the applier has to check.
+        int previousHaste = previous != null ? previous.hasteAmplifier : HasteEffectApplier.UNKNOWN_AMPLIFIER;
+        if (desired.hasteAmplifier >= 0 || previousHaste != -1) {
             hasteEffectApplier.apply(player, desired.hasteAmplifier, previousHaste);
         }
 
@@ -172,6 +245,13 @@ public class PlayerRuntimeAttributeService {
 
     @FunctionalInterface
     public interface HasteEffectApplier {
+        /** Passed as the previous amplifier when it is not known what this service last applied. */
+        int UNKNOWN_AMPLIFIER = Integer.MIN_VALUE;
+
+        /**
+         * @param desiredAmplifier  The amplifier to apply, or -1 for no Haste.
+         * @param previousAmplifier The amplifier last applied, -1 for none, or {@link #UNKNOWN_AMPLIFIER}.
+         */
         void apply(Player player, int desiredAmplifier, int previousAmplifier);
     }
 
@@ -186,15 +266,24 @@ public class PlayerRuntimeAttributeService {
         @Override
         public void apply(Player player, int desiredAmplifier, int previousAmplifier) {
             PotionEffectType hasteType = resolveHasteEffectType();
-            if (hasteType == null || desiredAmplifier < 0) {
+            if (hasteType == null) {
                 return;
             }
             PotionEffect current = player.getPotionEffect(hasteType);
+            if (desiredAmplifier < 0) {
+                // Only strip the effect we applied ourselves; other haste sources keep a finite duration.
+                // An unknown previous state covers an infinite Haste saved with the player in an earlier session.
+                if (previousAmplifier != -1 && current != null && current.isInfinite()) {
+                    player.removePotionEffect(hasteType);
+                }
+                return;
+            }
+            // Infinite duration: without a periodic poll nothing would be around to refresh a timed effect.
             boolean needsUpdate = current == null
                     || current.getAmplifier() != desiredAmplifier
-                    || current.getDuration() <= 20;
+                    || !current.isInfinite();
             if (needsUpdate) {
-                player.addPotionEffect(new PotionEffect(hasteType, 60, desiredAmplifier, false, false, false));
+                player.addPotionEffect(new PotionEffect(hasteType, PotionEffect.INFINITE_DURATION, desiredAmplifier, false, false, false));
             }
         }
 
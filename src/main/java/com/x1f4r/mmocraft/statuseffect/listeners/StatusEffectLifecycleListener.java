@@ -0,0 +1,44 @@
+package com.x1f4r.mmocraft.statuseffect.listeners;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.x1f4r.mmocraft.statuseffect.manager.StatusEffectManager;
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Releases status effect state as soon as its target dies or leaves the world, instead of
+ * waiting for the next due timer to notice the entity is gone.
+ */
+public class StatusEffectLifecycleListener implements Listener {
+
+    private final StatusEffectManager statusEffectManager;
+
+    public StatusEffectLifecycleListener(StatusEffectManager statusEffectManager, LoggingUtil logger) {
+        this.statusEffectManager = statusEffectManager;
+        logger.debug("StatusEffectLifecycleListener initialized.");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        // Runs removal callbacks so temporary stat modifiers do not survive a respawn.
+        statusEffectManager.removeAllEffects(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        // Players are also removed from a world when they change dimension; they are handled on quit.
+        if (!(event.getEntity() instanceof Player)) {
+            statusEffectManager.forgetTarget(event.getEntity().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        statusEffectManager.forgetTarget(event.getPlayer().getUniqueId());
+    }
+}
@@ -6,11 +6,13 @@ import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.playerdata.model.Stat;
 import com.x1f4r.mmocraft.playerdata.runtime.PlayerRuntimeAttributeService;
 import com.x1f4r.mmocraft.statuseffect.model.ActiveStatusEffect;
+import com.x1f4r.mmocraft.statuseffect.model.StackingRule;
 import com.x1f4r.mmocraft.statuseffect.model.StatusEffect;
 import com.x1f4r.mmocraft.statuseffect.model.StatusEffectType;
+import com.x1f4r.mmocraft.statuseffect.scheduler.Timeout;
+import com.x1f4r.mmocraft.statuseffect.scheduler.TimingWheel;
 import com.x1f4r.mmocraft.util.LoggingUtil;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
@@ -21,15 +23,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+/**
+ * Default {@link StatusEffectManager}. Effect ticks and expirations are scheduled on a
+ * {@link TimingWheel} driven once per server tick, so only effects that are actually due are touched.
+ */
 public class BasicStatusEffectManager implements StatusEffectManager {
 
+    private static final double TICKS_PER_SECOND = 20.0;
+
     private final MMOCraftPlugin plugin;
     private final LoggingUtil logger;
     private final PlayerDataService playerDataService;
     private final PlayerRuntimeAttributeService runtimeAttributeService;
-    private final Map<UUID, List<ActiveStatusEffect>> activeEffectsMap = new ConcurrentHashMap<>();
+    private final Map<UUID, TargetEffects> activeEffectsMap = new ConcurrentHashMap<>();
+    private final Map<ActiveStatusEffect, EffectTimers> timersByEffect = new ConcurrentHashMap<>();
+    private final TimingWheel<EffectTimer> timingWheel = new TimingWheel<>();
+    private final List<Timeout<EffectTimer>> dueTimers = new ArrayList<>();
 
     public BasicStatusEffectManager(MMOCraftPlugin plugin,
                                    LoggingUtil logger,
@@ -59,20 +69,34 @@ public class BasicStatusEffectManager implements StatusEffectManager {
             }
         }
 
-        // Stacking / Overwriting / Refreshing logic would go here.
-        // For now, simple: remove existing of same type, then add new one.
-        // A more advanced system would check effect.canStackWith(existingEffect) or similar.
-        List<ActiveStatusEffect> existingEffectsOfType = getActiveEffectsByTypeInternal(targetId, effect.getEffectType());
-        for (ActiveStatusEffect existing : existingEffectsOfType) {
-            // Example: if new effect is stronger or has longer duration, remove old one.
-            // Or if stackable, increment stack count.
-            // For simplicity now: remove all existing of this type.
-            removeEffectInstanceInternal(target, existing, false); // false = don't call onRemove yet, batch it or let onApply handle
+        TargetEffects targetEffects = activeEffectsMap.computeIfAbsent(targetId, k -> new TargetEffects(target));
+        targetEffects.rebind(target);
+        StatusEffectType type = effect.getEffectType();
+        StackingRule rule = effect.getStackingRule();
+        ActiveStatusEffect current = targetEffects.first(type);
+
+        if (current != null) {
+            switch (rule.policy()) {
+                case STACK -> {
+                    stackEffect(targetEffects, target, targetProfile, current, effect, rule);
+                    return;
+                }
+                case STRONGEST_WINS -> {
+                    if (current.getStatusEffect().getPotency() > effect.getPotency()) {
+                        logger.finer("Ignored weaker " + type + " on " + target.getName() + " (strongest wins).");
+                        return;
+                    }
+                    replaceType(targetEffects, target, type);
+                }
+                case REFRESH -> replaceType(targetEffects, target, type);
+                case INDEPENDENT -> {
+                }
+            }
         }
 
-
         ActiveStatusEffect activeEffect = new ActiveStatusEffect(effect, targetId);
-        activeEffectsMap.computeIfAbsent(targetId, k -> new ArrayList<>()).add(activeEffect);
+        targetEffects.add(activeEffect);
+        scheduleTimers(targetEffects, activeEffect);
 
         try {
             effect.onApply(target, targetProfile); // Apply initial effect logic
@@ -87,13 +111,52 @@ public class BasicStatusEffectManager implements StatusEffectManager {
         } catch (Exception e) {
             logger.severe("Error during onApply for " + effect.getEffectType() + " on " + target.getName(), e);
             // Attempt to clean up if onApply failed badly
-            activeEffectsMap.getOrDefault(targetId, new ArrayList<>()).remove(activeEffect);
-            if (activeEffectsMap.getOrDefault(targetId, new ArrayList<>()).isEmpty()) {
-                activeEffectsMap.remove(targetId);
+            cancelTimers(activeEffect);
+            targetEffects.remove(activeEffect);
+            if (targetEffects.isEmpty()) {
+                activeEffectsMap.remove(targetId, targetEffects);
             }
         }
     }
 
+    private void replaceType(TargetEffects targetEffects, LivingEntity target, StatusEffectType type) {
+        for (ActiveStatusEffect existing : targetEffects.removeType(type)) {
+            cancelTimers(existing);
+            removeEffectInstanceInternal(target, existing, false); // Replaced, not removed: skip onRemove
+        }
+    }
+
+    private void stackEffect(TargetEffects targetEffects, LivingEntity target, PlayerProfile targetProfile,
+                             ActiveStatusEffect current, StatusEffect application, StackingRule rule) {
+        int stacks = Math.min(rule.maxStacks(), current.getStacks() + 1);
+        boolean changed = stacks != current.getStacks();
+        current.setStacks(stacks);
+        EffectTimers timers = timersByEffect.get(current);
+        if (!application.isPermanent() && !current.getStatusEffect().isPermanent() && timers != null) {
+            current.refreshDuration(application.getDurationSeconds());
+            if (timers.expiry != null) {
+                timers.expiry.cancel();
+            }
+            timers.expiry = timingWheel.schedule(new EffectTimer(targetEffects, current, true),
+                    toTicks(application.getDurationSeconds()));
+        }
+        if (!changed) {
+            logger.finer("Refreshed " + current.getStatusEffect().getEffectType() + " on " + target.getName() + " at max stacks.");
+            return;
+        }
+        try {
+            current.getStatusEffect().onStacksChanged(target, targetProfile, stacks);
+            if (targetProfile != null && isStatModifyingEffect(current.getStatusEffect().getEffectType())) {
+                applyTemporaryStatModifiers(targetProfile, current);
+                targetProfile.recalculateDerivedAttributes();
+                syncRuntimeAttributesIfPlayer(target);
+            }
+            logger.fine("Stacked status effect " + current.getStatusEffect().getEffectType() + " on " + target.getName() + " to " + stacks);
+        } catch (Exception e) {
+            logger.severe("Error during onStacksChanged for " + current.getStatusEffect().getEffectType() + " on " + target.getName(), e);
+        }
+    }
+
     private boolean isStatModifyingEffect(StatusEffectType type) {
         // Helper to identify effects that change core stats and require recalculation
         return type.name().startsWith("STAT_BUFF_") || type.name().startsWith("STAT_DEBUFF_");
@@ -130,21 +193,15 @@ public class BasicStatusEffectManager implements StatusEffectManager {
         if (target == null || effectType == null) return;
         UUID targetId = target.getUniqueId();
 
-        List<ActiveStatusEffect> entityEffects = activeEffectsMap.get(targetId);
-        if (entityEffects != null) {
-            List<ActiveStatusEffect> toRemove = new ArrayList<>();
-            for (ActiveStatusEffect activeEffect : entityEffects) {
-                if (activeEffect.getStatusEffect().getEffectType() == effectType) {
-                    toRemove.add(activeEffect);
-                }
-            }
-            for (ActiveStatusEffect activeEffect : toRemove) {
-                entityEffects.remove(activeEffect);
+        TargetEffects targetEffects = activeEffectsMap.get(targetId);
+        if (targetEffects != null) {
+            for (ActiveStatusEffect activeEffect : targetEffects.removeType(effectType)) {
+                cancelTimers(activeEffect);
                 removeEffectInstanceInternal(target, activeEffect, true);
                 logger.fine("Removed status effect " + effectType + " from " + target.getName());
             }
-            if (entityEffects.isEmpty()) {
-                activeEffectsMap.remove(targetId);
+            if (targetEffects.isEmpty()) {
+                activeEffectsMap.remove(targetId, targetEffects);
             }
         }
     }
@@ -153,13 +210,14 @@ public class BasicStatusEffectManager implements StatusEffectManager {
     public void removeEffectInstance(LivingEntity target, ActiveStatusEffect activeEffectToRemove) {
         if (target == null || activeEffectToRemove == null) return;
         UUID targetId = target.getUniqueId();
-        List<ActiveStatusEffect> entityEffects = activeEffectsMap.get(targetId);
-        if (entityEffects != null) {
-            if (entityEffects.remove(activeEffectToRemove)) {
+        TargetEffects targetEffects = activeEffectsMap.get(targetId);
+        if (targetEffects != null) {
+            if (targetEffects.remove(activeEffectToRemove)) {
+                cancelTimers(activeEffectToRemove);
                 removeEffectInstanceInternal(target, activeEffectToRemove, true);
                 logger.fine("Removed specific instance of " + activeEffectToRemove.getStatusEffect().getEffectType() + " from " + target.getName());
-                if (entityEffects.isEmpty()) {
-                    activeEffectsMap.remove(targetId);
+                if (targetEffects.isEmpty()) {
+                    activeEffectsMap.remove(targetId, targetEffects);
                 }
             }
         }
@@ -169,44 +227,37 @@ public class BasicStatusEffectManager implements StatusEffectManager {
     public void removeAllEffects(LivingEntity target) {
         if (target == null) return;
         UUID targetId = target.getUniqueId();
-        List<ActiveStatusEffect> entityEffects = activeEffectsMap.remove(targetId);
-        if (entityEffects != null) {
-            for (ActiveStatusEffect activeEffect : entityEffects) {
+        TargetEffects targetEffects = activeEffectsMap.remove(targetId);
+        if (targetEffects != null) {
+            for (ActiveStatusEffect activeEffect : targetEffects.all()) {
+                 cancelTimers(activeEffect);
                  removeEffectInstanceInternal(target, activeEffect, true);
             }
-            logger.info("Removed all status effects from " + target.getName());
+            logger.fine("Removed all status effects from " + target.getName());
         }
     }
 
     @Override
     public boolean hasEffect(LivingEntity target, StatusEffectType effectType) {
         if (target == null || effectType == null) return false;
-        List<ActiveStatusEffect> entityEffects = activeEffectsMap.get(target.getUniqueId());
-        if (entityEffects != null) {
-            for (ActiveStatusEffect activeEffect : entityEffects) {
-                if (activeEffect.getStatusEffect().getEffectType() == effectType && !activeEffect.isExpired()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        // Expiry is driven by the timing wheel, so slot occupancy is authoritative.
+        TargetEffects targetEffects = activeEffectsMap.get(target.getUniqueId());
+        return targetEffects != null && targetEffects.has(effectType);
     }
 
     @Override
     public List<ActiveStatusEffect> getActiveEffectsOnEntity(LivingEntity target) {
         if (target == null) return Collections.emptyList();
-        List<ActiveStatusEffect> effects = activeEffectsMap.get(target.getUniqueId());
-        if (effects == null) return Collections.emptyList();
-        // Return a copy to prevent external modification, filter out expired ones just in case.
-        return effects.stream().filter(e -> !e.isExpired()).collect(Collectors.toList());
+        TargetEffects targetEffects = activeEffectsMap.get(target.getUniqueId());
+        if (targetEffects == null) return Collections.emptyList();
+        // Return a copy to prevent external modification.
+        return targetEffects.all();
     }
 
     private List<ActiveStatusEffect> getActiveEffectsByTypeInternal(UUID targetId, StatusEffectType effectType) {
-        List<ActiveStatusEffect> effects = activeEffectsMap.get(targetId);
-        if (effects == null) return Collections.emptyList();
-        return effects.stream()
-                .filter(ae -> ae.getStatusEffect().getEffectType() == effectType && !ae.isExpired())
-                .collect(Collectors.toList());
+        TargetEffects targetEffects = activeEffectsMap.get(targetId);
+        if (targetEffects == null) return Collections.emptyList();
+        return targetEffects.ofType(effectType);
     }
 
 
@@ -218,74 +269,125 @@ public class BasicStatusEffectManager implements StatusEffectManager {
 
     @Override
     public void tickAllActiveEffects() {
-        long currentTime = System.currentTimeMillis();
-        for (Map.Entry<UUID, List<ActiveStatusEffect>> entry : activeEffectsMap.entrySet()) {
-            UUID targetId = entry.getKey();
-            List<ActiveStatusEffect> effects = entry.getValue();
-            LivingEntity target = null; // Lazily get the entity only if needed
-
-            List<ActiveStatusEffect> toRemove = new ArrayList<>();
-            List<ActiveStatusEffect> toTick = new ArrayList<>();
-
-            for (ActiveStatusEffect activeEffect : effects) {
-                if (activeEffect.getExpirationTimeMillis() <= currentTime && !activeEffect.getStatusEffect().isPermanent()) {
-                    toRemove.add(activeEffect);
-                } else if (activeEffect.getStatusEffect().doesTick() && activeEffect.getNextTickTimeMillis() <= currentTime) {
-                    toTick.add(activeEffect);
-                }
+        dueTimers.clear();
+        timingWheel.advance(dueTimers);
+        if (dueTimers.isEmpty()) {
+            return;
+        }
+        long now = timingWheel.getCurrentTick();
+        for (Timeout<EffectTimer> timeout : dueTimers) {
+            EffectTimer timer = timeout.getPayload();
+            ActiveStatusEffect activeEffect = timer.activeEffect();
+            EffectTimers timers = timersByEffect.get(activeEffect);
+            if (timers == null) {
+                continue; // Effect was removed earlier in this pass.
             }
-
-            if (!toRemove.isEmpty() || !toTick.isEmpty()) {
-                target = Bukkit.getEntity(targetId) instanceof LivingEntity ? (LivingEntity) Bukkit.getEntity(targetId) : null;
-                if (target == null || target.isDead()) {
-                    // Target is no longer valid or dead, clear all effects
-                    if(target != null) logger.fine("Target " + target.getName() + " is dead or invalid, clearing effects.");
-                    else logger.fine("Target UUID " + targetId + " no longer valid, clearing effects.");
-                    activeEffectsMap.remove(targetId); // Remove all effects for this UUID
-                    continue; // Move to the next entry in activeEffectsMap
-                }
+            if (!timer.expiry() && timers.expiry != null && timers.expiry.getDeadline() <= now) {
+                continue; // Expiring this tick; expiry wins over a final tick.
             }
 
-            PlayerProfile targetProfile = (target instanceof Player) ? playerDataService.getPlayerProfile(targetId) : null;
-
-            for (ActiveStatusEffect effectToRemove : toRemove) {
-                effects.remove(effectToRemove);
-                try {
-                    effectToRemove.getStatusEffect().onExpire(target, targetProfile);
-                    logger.finer("Expired status effect " + effectToRemove.getStatusEffect().getEffectType() + " from " + target.getName());
-                    if (targetProfile != null && isStatModifyingEffect(effectToRemove.getStatusEffect().getEffectType())) {
-                        targetProfile.clearTemporaryStatModifiers(buildSourceKey(effectToRemove));
-                        targetProfile.recalculateDerivedAttributes();
-                        syncRuntimeAttributesIfPlayer(target);
-                    }
-                } catch (Exception e) {
-                    logger.severe("Error during onExpire for " + effectToRemove.getStatusEffect().getEffectType() + " on " + target.getName(), e);
-                }
+            TargetEffects targetEffects = timer.target();
+            LivingEntity target = targetEffects.entity();
+            if (target == null || target.isDead()) {
+                // Target is no longer valid or dead, clear all effects
+                if(target != null) logger.fine("Target " + target.getName() + " is dead or invalid, clearing effects.");
+                else logger.fine("Target UUID " + targetEffects.getTargetId() + " no longer valid, clearing effects.");
+                discardTarget(targetEffects);
+                continue;
             }
 
-            for (ActiveStatusEffect effectToTick : toTick) {
-                try {
-                    effectToTick.getStatusEffect().onTick(target, targetProfile);
-                    effectToTick.updateNextTickTime(); // Schedule next tick
-                     logger.finest("Ticked status effect " + effectToTick.getStatusEffect().getEffectType() + " on " + target.getName());
-                    // Stat changes from ticks might also require recalculation if they are not direct health/mana changes
-                    if (targetProfile != null && isStatModifyingEffect(effectToTick.getStatusEffect().getEffectType()) && effectToTick.getStatusEffect().getEffectType().name().contains("DURATION_CHANGE_ON_TICK_EXAMPLE")) {
-                        // This is a hypothetical case. Most stat buffs/debuffs apply onApply/onExpire.
-                        // If a tick *changes* a stat value that persists, then recalc is needed.
-                        targetProfile.recalculateDerivedAttributes();
-                        syncRuntimeAttributesIfPlayer(target);
-                    }
-                } catch (Exception e) {
-                     logger.severe("Error during onTick for " + effectToTick.getStatusEffect().getEffectType() + " on " + target.getName(), e);
-                }
+            PlayerProfile targetProfile = (target instanceof Player) ? playerDataService.getPlayerProfile(targetEffects.getTargetId()) : null;
+            if (timer.expiry()) {
+                expireEffect(targetEffects, target, targetProfile, activeEffect);
+            } else {
+                tickEffect(timer, target, targetProfile, timers);
             }
+        }
+        dueTimers.clear();
+    }
 
-            if (effects.isEmpty()) {
-                activeEffectsMap.remove(targetId);
+    private void expireEffect(TargetEffects targetEffects, LivingEntity target, PlayerProfile targetProfile, ActiveStatusEffect effectToRemove) {
+        cancelTimers(effectToRemove);
+        targetEffects.remove(effectToRemove);
+        if (targetEffects.isEmpty()) {
+            activeEffectsMap.remove(targetEffects.getTargetId(), targetEffects);
+        }
+        try {
+            effectToRemove.getStatusEffect().onExpire(target, targetProfile);
+            logger.finer("Expired status effect " + effectToRemove.getStatusEffect().getEffectType() + " from " + target.getName());
+            if (targetProfile != null && isStatModifyingEffect(effectToRemove.getStatusEffect().getEffectType())) {
+                targetProfile.clearTemporaryStatModifiers(buildSourceKey(effectToRemove));
+                targetProfile.recalculateDerivedAttributes();
+                syncRuntimeAttributesIfPlayer(target);
             }
+        } catch (Exception e) {
+            logger.severe("Error during onExpire for " + effectToRemove.getStatusEffect().getEffectType() + " on " + target.getName(), e);
         }
     }
 
+    private void tickEffect(EffectTimer timer, LivingEntity target, PlayerProfile targetProfile, EffectTimers timers) {
+        ActiveStatusEffect effectToTick = timer.activeEffect();
+        try {
+            effectToTick.getStatusEffect().onTick(target, targetProfile, effectToTick.getEffectivePotency());
+            effectToTick.updateNextTickTime(); // Keep the wall-clock view in sync for callers that read it
+            logger.finest("Ticked status effect " + effectToTick.getStatusEffect().getEffectType() + " on " + target.getName());
+        } catch (Exception e) {
+             logger.severe("Error during onTick for " + effectToTick.getStatusEffect().getEffectType() + " on " + target.getName(), e);
+        }
+        // onTick may have removed the effect (e.g. a cleanse); only reschedule if it is still tracked.
+        if (timersByEffect.get(effectToTick) == timers) {
+            timers.tick = timingWheel.schedule(new EffectTimer(timer.target(), effectToTick, false),
+                    toTicks(effectToTick.getStatusEffect().getTickIntervalSeconds()));
+        }
+    }
+
+    private void scheduleTimers(TargetEffects targetEffects, ActiveStatusEffect activeEffect) {
+        StatusEffect effect = activeEffect.getStatusEffect();
+        EffectTimers timers = new EffectTimers();
+        if (!effect.isPermanent()) {
+            timers.expiry = timingWheel.schedule(new EffectTimer(targetEffects, activeEffect, true), toTicks(effect.getDurationSeconds()));
+        }
+        if (effect.doesTick()) {
+            timers.tick = timingWheel.schedule(new EffectTimer(targetEffects, activeEffect, false), toTicks(effect.getTickIntervalSeconds()));
+        }
+        timersByEffect.put(activeEffect, timers);
+    }
+
+    private void cancelTimers(ActiveStatusEffect activeEffect) {
+        EffectTimers timers = timersByEffect.remove(activeEffect);
+        if (timers == null) {
+            return;
+        }
+        if (timers.expiry != null) {
+            timers.expiry.cancel();
+        }
+        if (timers.tick != null) {
+            timers.tick.cancel();
+        }
+    }
+
+    private static long toTicks(double seconds) {
+        return Math.max(1L, Math.round(seconds * TICKS_PER_SECOND));
+    }
+
+    @Override
+    public void forgetTarget(UUID targetId) {
+        if (targetId == null) return;
+        TargetEffects targetEffects = activeEffectsMap.get(targetId);
+        if (targetEffects != null) {
+            discardTarget(targetEffects);
+            logger.finer("Dropped status effects for removed entity " + targetId);
+        }
+    }
+
+    private void discardTarget(TargetEffects targetEffects) {
+        activeEffectsMap.remove(targetEffects.getTargetId(), targetEffects);
+        for (ActiveStatusEffect activeEffect : targetEffects.all()) {
+            cancelTimers(activeEffect);
+        }
+        targetEffects.clear();
+    }
+
     @Override
     public void shutdown() {
         logger.info("BasicStatusEffectManager shutting down. Clearing all active effects...");
@@ -294,13 +396,15 @@ public class BasicStatusEffectManager implements StatusEffectManager {
         // However, since stat modifications are in PlayerProfile (in-memory),
         // they will be gone when PlayerProfile is uncached.
         // If effects grant Bukkit PotionEffects, those should be cleared.
-        for (UUID targetId : activeEffectsMap.keySet()) {
-            LivingEntity target = Bukkit.getEntity(targetId) instanceof LivingEntity ? (LivingEntity) Bukkit.getEntity(targetId) : null;
+        for (TargetEffects targetEffects : activeEffectsMap.values()) {
+            LivingEntity target = targetEffects.entity();
             if (target != null) {
                 removeAllEffects(target); // This will call onRemove/onExpire for each.
             }
         }
         activeEffectsMap.clear();
+        timersByEffect.clear();
+        timingWheel.clear();
         logger.info("All active status effects cleared.");
     }
 
@@ -351,10 +455,14 @@ public class BasicStatusEffectManager implements StatusEffectManager {
         if (runtimeAttributeService == null || !(target instanceof Player player)) {
             return;
         }
-        try {
-            runtimeAttributeService.syncPlayer(player);
-        } catch (Exception ex) {
-            logger.severe("Failed to sync runtime attributes after status effect update for " + player.getName(), ex);
-        }
+        runtimeAttributeService.markDirty(player);
+    }
+
+    private record EffectTimer(TargetEffects target, ActiveStatusEffect activeEffect, boolean expiry) {
+    }
+
+    private static final class EffectTimers {
+        private Timeout<EffectTimer> expiry;
+        private Timeout<EffectTimer> tick;
     }
 }
@@ -78,12 +78,20 @@ public interface StatusEffectManager {
 
     /**
      * Central update tick method for the status effect system.
-     * This method should be called periodically by a scheduler (e.g., every server tick or every second).
-     * It iterates through all entities with active effects, processes ticks for effects
-     * that are ready, and handles the expiration of effects.
+     * This method must be called once per server tick. It processes ticks and expirations
+     * for the effects that are due on this tick; effects that are not due are not visited.
      */
     void tickAllActiveEffects();
 
+    /**
+     * Drops all effect state for an entity that has left the world (unloaded, despawned or logged out)
+     * without running removal callbacks. Effects on an entity that is still present should be cleared with
+     * {@link #removeAllEffects(LivingEntity)} instead.
+     *
+     * @param targetId The UUID of the entity that was removed.
+     */
+    void forgetTarget(UUID targetId);
+
     /**
      * Called when the plugin is shutting down to clean up resources or active effects.
      */
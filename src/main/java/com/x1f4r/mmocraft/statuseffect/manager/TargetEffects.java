@@ -0,0 +1,159 @@
+package com.x1f4r.mmocraft.statuseffect.manager;
+
+import com.x1f4r.mmocraft.statuseffect.model.ActiveStatusEffect;
+import com.x1f4r.mmocraft.statuseffect.model.StatusEffectType;
+import org.bukkit.entity.LivingEntity;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-target bookkeeping for {@link BasicStatusEffectManager}: the target's effects plus a weak
+ * handle to the entity, so due timers can reach the entity without a UUID lookup and without
+ * keeping unloaded entities alive.
+ * <p>
+ * Effects live in slots indexed by {@link StatusEffectType#ordinal()}, with a bit mask of occupied
+ * slots so type checks are O(1). Only {@code INDEPENDENT} effects ever put more than one instance
+ * in a slot.
+ */
+final class TargetEffects {
+
+    private static final StatusEffectType[] TYPES = StatusEffectType.values();
+
+    static {
+        if (TYPES.length > Long.SIZE) {
+            throw new IllegalStateException("TargetEffects supports at most " + Long.SIZE + " status effect types.");
+        }
+    }
+
+    private final UUID targetId;
+    private WeakReference<LivingEntity> handle;
+    @SuppressWarnings("unchecked")
+    private final List<ActiveStatusEffect>[] slots = (List<ActiveStatusEffect>[]) new List[TYPES.length];
+    private long occupiedMask;
+    private int count;
+
+    TargetEffects(LivingEntity target) {
+        this.targetId = target.getUniqueId();
+        this.handle = new WeakReference<>(target);
+    }
+
+    UUID getTargetId() {
+        return targetId;
+    }
+
+    /**
+     * @return The live entity, or null if it was collected or is no longer valid.
+     */
+    LivingEntity entity() {
+        LivingEntity entity = handle.get();
+        return entity != null && entity.isValid() ? entity : null;
+    }
+
+    /**
+     * Points the handle at {@code target} if the cached instance went stale, e.g. after a chunk reload
+     * produced a new wrapper for the same entity.
+     */
+    void rebind(LivingEntity target) {
+        if (handle.get() != target) {
+            handle = new WeakReference<>(target);
+        }
+    }
+
+    boolean has(StatusEffectType type) {
+        return (occupiedMask & (1L << type.ordinal())) != 0;
+    }
+
+    /**
+     * @return The first active instance of {@code type}, or null.
+     */
+    ActiveStatusEffect first(StatusEffectType type) {
+        List<ActiveStatusEffect> slot = slots[type.ordinal()];
+        return slot == null || slot.isEmpty() ? null : slot.get(0);
+    }
+
+    /**
+     * @return A copy of the instances of {@code type}.
+     */
+    List<ActiveStatusEffect> ofType(StatusEffectType type) {
+        List<ActiveStatusEffect> slot = slots[type.ordinal()];
+        return slot == null || slot.isEmpty() ? Collections.emptyList() : new ArrayList<>(slot);
+    }
+
+    /**
+     * @return A copy of every active instance, grouped by type.
+     */
+    List<ActiveStatusEffect> all() {
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<ActiveStatusEffect> all = new ArrayList<>(count);
+        long mask = occupiedMask;
+        while (mask != 0) {
+            int ordinal = Long.numberOfTrailingZeros(mask);
+            all.addAll(slots[ordinal]);
+            mask &= mask - 1;
+        }
+        return all;
+    }
+
+    void add(ActiveStatusEffect activeEffect) {
+        int ordinal = activeEffect.getStatusEffect().getEffectType().ordinal();
+        List<ActiveStatusEffect> slot = slots[ordinal];
+        if (slot == null) {
+            slot = new ArrayList<>(1);
+            slots[ordinal] = slot;
+        }
+        slot.add(activeEffect);
+        occupiedMask |= 1L << ordinal;
+        count++;
+    }
+
+    boolean remove(ActiveStatusEffect activeEffect) {
+        int ordinal = activeEffect.getStatusEffect().getEffectType().ordinal();
+        List<ActiveStatusEffect> slot = slots[ordinal];
+        if (slot == null || !slot.remove(activeEffect)) {
+            return false;
+        }
+        if (slot.isEmpty()) {
+            occupiedMask &= ~(1L << ordinal);
+        }
+        count--;
+        return true;
+    }
+
+    /**
+     * Empties the slot for {@code type}.
+     *
+     * @return The instances that were removed.
+     */
+    List<ActiveStatusEffect> removeType(StatusEffectType type) {
+        int ordinal = type.ordinal();
+        List<ActiveStatusEffect> slot = slots[ordinal];
+        if (slot == null || slot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ActiveStatusEffect> removed = new ArrayList<>(slot);
+        slot.clear();
+        occupiedMask &= ~(1L << ordinal);
+        count -= removed.size();
+        return removed;
+    }
+
+    void clear() {
+        for (List<ActiveStatusEffect> slot : slots) {
+            if (slot != null) {
+                slot.clear();
+            }
+        }
+        occupiedMask = 0L;
+        count = 0;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+}
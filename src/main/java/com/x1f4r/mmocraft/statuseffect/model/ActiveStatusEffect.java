@@ -54,6 +54,11 @@ public class ActiveStatusEffect {
     public long getNextTickTimeMillis() { return nextTickTimeMillis; }
     public int getStacks() { return stacks; }
 
+    /**
+     * @return The effect's potency scaled by the current stack count.
+     */
+    public double getEffectivePotency() { return statusEffect.getPotency() * Math.max(1, stacks); }
+
     // Setters (mainly for internal manager use)
     public void setNextTickTimeMillis(long nextTickTimeMillis) {
         this.nextTickTimeMillis = nextTickTimeMillis;
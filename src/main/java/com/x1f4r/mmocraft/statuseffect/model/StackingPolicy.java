@@ -0,0 +1,15 @@
+package com.x1f4r.mmocraft.statuseffect.model;
+
+/**
+ * How a new application of a status effect interacts with an active effect of the same type.
+ */
+public enum StackingPolicy {
+    /** The new application replaces the active one, restarting its duration. */
+    REFRESH,
+    /** The active instance gains a stack (up to the rule's maximum) and its duration restarts. */
+    STACK,
+    /** The application with the higher potency is kept; weaker applications are ignored. */
+    STRONGEST_WINS,
+    /** Every application runs as its own instance, e.g. one per source. */
+    INDEPENDENT
+}
@@ -0,0 +1,39 @@
+package com.x1f4r.mmocraft.statuseffect.model;
+
+/**
+ * Declarative stacking behaviour for a status effect.
+ *
+ * @param policy    How repeated applications combine.
+ * @param maxStacks The stack cap for {@link StackingPolicy#STACK}; 1 for every other policy.
+ */
+public record StackingRule(StackingPolicy policy, int maxStacks) {
+
+    private static final StackingRule REFRESH = new StackingRule(StackingPolicy.REFRESH, 1);
+    private static final StackingRule STRONGEST_WINS = new StackingRule(StackingPolicy.STRONGEST_WINS, 1);
+    private static final StackingRule INDEPENDENT = new StackingRule(StackingPolicy.INDEPENDENT, 1);
+
+    public StackingRule {
+        if (policy == null) {
+            throw new IllegalArgumentException("Stacking policy cannot be null.");
+        }
+        if (maxStacks < 1) {
+            throw new IllegalArgumentException("maxStacks must be at least 1.");
+        }
+    }
+
+    public static StackingRule refresh() {
+        return REFRESH;
+    }
+
+    public static StackingRule stackUpTo(int maxStacks) {
+        return new StackingRule(StackingPolicy.STACK, maxStacks);
+    }
+
+    public static StackingRule strongestWins() {
+        return STRONGEST_WINS;
+    }
+
+    public static StackingRule independent() {
+        return INDEPENDENT;
+    }
+}
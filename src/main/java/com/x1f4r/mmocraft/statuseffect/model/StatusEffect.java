@@ -51,6 +51,11 @@ public abstract class StatusEffect {
     public boolean isPermanent() { return durationSeconds < 0; }
     public boolean doesTick() { return tickIntervalSeconds > 0; }
 
+    /**
+     * @return The stacking rule for this effect. Defaults to the rule declared on its {@link StatusEffectType}.
+     */
+    public StackingRule getStackingRule() { return effectType.getDefaultStackingRule(); }
+
 
     /**
      * Called when this status effect is first applied to the target entity.
@@ -70,6 +75,20 @@ public abstract class StatusEffect {
      */
     public abstract void onTick(LivingEntity target, PlayerProfile targetProfileIfPlayer);
 
+    /**
+     * Called by the status effect manager on each tick with the active instance's effective potency, which is
+     * {@link #getPotency()} times the current stack count under {@link StackingPolicy#STACK}. Damage or healing
+     * over time that should grow with stacks overrides this overload; the default ignores the stack count and
+     * delegates to {@link #onTick(LivingEntity, PlayerProfile)}.
+     *
+     * @param target The {@link LivingEntity} affected.
+     * @param targetProfileIfPlayer The {@link PlayerProfile} of the target, if the target is a Player. Null otherwise.
+     * @param effectivePotency The potency scaled by the active instance's stacks.
+     */
+    public void onTick(LivingEntity target, PlayerProfile targetProfileIfPlayer, double effectivePotency) {
+        onTick(target, targetProfileIfPlayer);
+    }
+
     /**
      * Called when the status effect expires naturally (its duration runs out).
      * Use this to clean up, such as reverting stat modifications.
@@ -90,6 +109,18 @@ public abstract class StatusEffect {
         onExpire(target, targetProfileIfPlayer); // Default behavior is same as expiry
     }
 
+    /**
+     * Called on the active instance when a repeated application changes its stack count under
+     * {@link StackingPolicy#STACK}. Periodic effects receive the scaled potency through
+     * {@link #onTick(LivingEntity, PlayerProfile, double)}; stat buffs are rescaled by the manager automatically.
+     *
+     * @param target The {@link LivingEntity} affected.
+     * @param targetProfileIfPlayer The {@link PlayerProfile} of the target, if the target is a Player. Null otherwise.
+     * @param stacks The new stack count.
+     */
+    public void onStacksChanged(LivingEntity target, PlayerProfile targetProfileIfPlayer, int stacks) {
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
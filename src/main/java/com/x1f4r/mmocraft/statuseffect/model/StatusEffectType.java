@@ -8,30 +8,30 @@ public enum StatusEffectType {
     // Positive Effects (Buffs)
     HEALTH_REGEN(true, false, "Health Regeneration"), // Regeneration over time
     MANA_REGEN(true, false, "Mana Regeneration"),     // Mana regeneration over time
-    STAT_BUFF_STRENGTH(true, false, "Strength Buff"), // Temporary increase to Strength
-    STAT_BUFF_DEFENSE(true, false, "Defense Buff"),
-    STAT_BUFF_HEALTH(true, false, "Health Buff"),
-    STAT_BUFF_INTELLIGENCE(true, false, "Intelligence Buff"),
-    STAT_BUFF_CRIT_CHANCE(true, false, "Critical Chance Buff"),
-    STAT_BUFF_CRIT_DAMAGE(true, false, "Critical Damage Buff"),
-    STAT_BUFF_ABILITY_POWER(true, false, "Ability Power Buff"),
-    STAT_BUFF_SPEED(true, false, "Speed Buff"),
-    STAT_BUFF_FEROCITY(true, false, "Ferocity Buff"),
-    STAT_BUFF_EVASION(true, false, "Evasion Buff"),
-    MOVEMENT_SPEED_BUFF(true, false, "Speed Buff"),   // Increased movement speed
-    DAMAGE_ABSORPTION_SHIELD(true, false, "Absorption Shield"), // Shield that absorbs a certain amount of damage
+    STAT_BUFF_STRENGTH(true, false, "Strength Buff", StackingRule.strongestWins()), // Temporary increase to Strength
+    STAT_BUFF_DEFENSE(true, false, "Defense Buff", StackingRule.strongestWins()),
+    STAT_BUFF_HEALTH(true, false, "Health Buff", StackingRule.strongestWins()),
+    STAT_BUFF_INTELLIGENCE(true, false, "Intelligence Buff", StackingRule.strongestWins()),
+    STAT_BUFF_CRIT_CHANCE(true, false, "Critical Chance Buff", StackingRule.strongestWins()),
+    STAT_BUFF_CRIT_DAMAGE(true, false, "Critical Damage Buff", StackingRule.strongestWins()),
+    STAT_BUFF_ABILITY_POWER(true, false, "Ability Power Buff", StackingRule.strongestWins()),
+    STAT_BUFF_SPEED(true, false, "Speed Buff", StackingRule.strongestWins()),
+    STAT_BUFF_FEROCITY(true, false, "Ferocity Buff", StackingRule.strongestWins()),
+    STAT_BUFF_EVASION(true, false, "Evasion Buff", StackingRule.strongestWins()),
+    MOVEMENT_SPEED_BUFF(true, false, "Speed Buff", StackingRule.strongestWins()),   // Increased movement speed
+    DAMAGE_ABSORPTION_SHIELD(true, false, "Absorption Shield", StackingRule.strongestWins()), // Shield that absorbs a certain amount of damage
 
     // Negative Effects (Debuffs/Ailments)
-    POISON(false, true, "Poison"),             // Damage over time
-    BLEED(false, true, "Bleed"),               // Damage over time, often physical
+    POISON(false, true, "Poison", StackingRule.stackUpTo(5)),             // Damage over time
+    BLEED(false, true, "Bleed", StackingRule.stackUpTo(5)),               // Damage over time, often physical
     STUN(false, true, "Stun"),                 // Prevents actions
     ROOT(false, true, "Root"),                 // Prevents movement but allows actions
-    SLOW(false, true, "Slow"),                 // Decreased movement speed
-    WEAKNESS(false, true, "Weakness"),         // Reduced physical damage output
-    FRAILTY(false, true, "Frailty"),           // Increased physical damage taken (reduced defense)
+    SLOW(false, true, "Slow", StackingRule.strongestWins()),                 // Decreased movement speed
+    WEAKNESS(false, true, "Weakness", StackingRule.strongestWins()),         // Reduced physical damage output
+    FRAILTY(false, true, "Frailty", StackingRule.strongestWins()),           // Increased physical damage taken (reduced defense)
     SILENCE(false, true, "Silence"),           // Prevents casting magical skills
     BLIND(false, true, "Blind"),               // Reduced vision range or accuracy
-    STAT_DEBUFF_STRENGTH(false, true, "Strength Debuff"), // Temporary decrease to Strength
+    STAT_DEBUFF_STRENGTH(false, true, "Strength Debuff", StackingRule.strongestWins()), // Temporary decrease to Strength
     // ... other stat debuffs
 
     // Neutral or Mixed Effects
@@ -40,11 +40,17 @@ public enum StatusEffectType {
     private final boolean isBuff;
     private final boolean isHarmful;
     private final String displayName;
+    private final StackingRule defaultStackingRule;
 
     StatusEffectType(boolean isBuff, boolean isHarmful, String displayName) {
+        this(isBuff, isHarmful, displayName, StackingRule.refresh());
+    }
+
+    StatusEffectType(boolean isBuff, boolean isHarmful, String displayName, StackingRule defaultStackingRule) {
         this.isBuff = isBuff;
         this.isHarmful = isHarmful;
         this.displayName = displayName;
+        this.defaultStackingRule = defaultStackingRule;
     }
 
     /**
@@ -67,4 +73,12 @@ public enum StatusEffectType {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * @return How repeated applications of this type combine unless an effect overrides
+     *         {@link StatusEffect#getStackingRule()}.
+     */
+    public StackingRule getDefaultStackingRule() {
+        return defaultStackingRule;
+    }
 }
@@ -0,0 +1,53 @@
+package com.x1f4r.mmocraft.statuseffect.scheduler;
+
+/**
+ * Handle for a payload scheduled on a {@link TimingWheel}.
+ *
+ * @param <T> The payload type.
+ */
+public final class Timeout<T> {
+
+    private final TimingWheel<T> wheel;
+    private final T payload;
+    final long deadline;
+    Timeout<T> prev;
+    Timeout<T> next;
+    boolean linked;
+    private boolean cancelled;
+
+    Timeout(TimingWheel<T> wheel, T payload, long deadline) {
+        this.wheel = wheel;
+        this.payload = payload;
+        this.deadline = deadline;
+    }
+
+    public T getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return The wheel tick at which this timeout fires.
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Removes the timeout from its wheel if it has not fired yet.
+     */
+    public void cancel() {
+        cancelled = true;
+        wheel.unlink(this);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return true while the timeout is waiting in its wheel.
+     */
+    public boolean isPending() {
+        return linked;
+    }
+}
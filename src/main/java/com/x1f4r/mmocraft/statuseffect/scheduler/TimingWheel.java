@@ -0,0 +1,123 @@
+package com.x1f4r.mmocraft.statuseffect.scheduler;
+
+import java.util.List;
+
+/**
+ * Hashed timing wheel with server-tick resolution.
+ * <p>
+ * Timeouts are hashed into {@code slots} buckets by their deadline tick. Each {@link #advance(List)}
+ * moves the wheel forward by one tick and inspects only the bucket for that tick, so the per-tick
+ * cost is proportional to the timeouts sharing that bucket rather than to every scheduled timeout.
+ * Timeouts further away than one rotation stay in their bucket and are skipped until their round
+ * comes up. Buckets are intrusive doubly linked lists, so cancelling is O(1).
+ * <p>
+ * Not thread-safe; intended to be driven from the server thread.
+ *
+ * @param <T> The payload carried by each timeout.
+ */
+public final class TimingWheel<T> {
+
+    public static final int DEFAULT_SLOTS = 1024;
+
+    private final Timeout<T>[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    public TimingWheel() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * @param slots Number of buckets. Rounded up to the next power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int slots) {
+        int normalized = Integer.highestOneBit(Math.max(2, slots) - 1) << 1;
+        this.buckets = (Timeout<T>[]) new Timeout[normalized];
+        this.mask = normalized - 1;
+    }
+
+    /**
+     * Schedules {@code payload} to fire {@code delayTicks} ticks from now (at least one tick).
+     */
+    public Timeout<T> schedule(T payload, long delayTicks) {
+        Timeout<T> timeout = new Timeout<>(this, payload, currentTick + Math.max(1L, delayTicks));
+        link(timeout);
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel by one tick and appends every timeout that became due to {@code due}.
+     * Returned timeouts are already unlinked; rescheduling must go through {@link #schedule}.
+     */
+    public void advance(List<Timeout<T>> due) {
+        currentTick++;
+        int index = (int) (currentTick & mask);
+        Timeout<T> node = buckets[index];
+        while (node != null) {
+            Timeout<T> next = node.next;
+            if (node.deadline <= currentTick) {
+                unlink(node);
+                due.add(node);
+            }
+            node = next;
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return The number of pending timeouts.
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            Timeout<T> node = buckets[i];
+            while (node != null) {
+                Timeout<T> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.linked = false;
+                node = next;
+            }
+            buckets[i] = null;
+        }
+        size = 0;
+    }
+
+    private void link(Timeout<T> timeout) {
+        int index = (int) (timeout.deadline & mask);
+        Timeout<T> head = buckets[index];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[index] = timeout;
+        timeout.linked = true;
+        size++;
+    }
+
+    void unlink(Timeout<T> timeout) {
+        if (!timeout.linked) {
+            return;
+        }
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[(int) (timeout.deadline & mask)] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.linked = false;
+        size--;
+    }
+}
@@ -13,43 +13,47 @@ import com.x1f4r.mmocraft.util.StringUtil;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ResourceNodeType;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ActiveNodeManager;
+import com.x1f4r.mmocraft.world.resourcegathering.service.GatheringService;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ResourceNodeRegistryService;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockDamageAbortEvent;
+import org.bukkit.event.block.BlockDamageEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.EnumSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class ResourceNodeInteractionListener implements Listener {
 
     private final MMOCraftPlugin plugin;
     private final ActiveNodeManager activeNodeManager;
+    private final GatheringService gatheringService;
     private final ResourceNodeRegistryService nodeRegistryService;
     private final LootService lootService;
     private final CustomItemRegistry customItemRegistry; // Currently unused, for future expansion
     private final PlayerDataService playerDataService;   // Currently unused, for future expansion
     private final GameplayConfigService gameplayConfigService;
     private final LoggingUtil logger;
-    private final Map<UUID, Long> gatherCooldowns = new ConcurrentHashMap<>();
 
     public ResourceNodeInteractionListener(MMOCraftPlugin plugin, ActiveNodeManager activeNodeManager,
-                                           ResourceNodeRegistryService nodeRegistryService, LootService lootService,
+                                           GatheringService gatheringService, ResourceNodeRegistryService nodeRegistryService, LootService lootService,
                                            CustomItemRegistry customItemRegistry, PlayerDataService playerDataService,
                                            GameplayConfigService gameplayConfigService, LoggingUtil logger) {
         this.plugin = plugin;
         this.activeNodeManager = activeNodeManager;
+        this.gatheringService = gatheringService;
         this.nodeRegistryService = nodeRegistryService;
         this.lootService = lootService;
         this.customItemRegistry = customItemRegistry;
@@ -58,24 +62,24 @@ public class ResourceNodeInteractionListener implements Listener {
         this.logger = logger;
     }
 
+    /**
+     * Starts a gathering session when a player begins digging a node. Progress is driven by the
+     * {@link GatheringService} tick, which calls {@link #completeGathering} once the break time has elapsed.
+     */
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
-    public void onBlockBreak(BlockBreakEvent event) {
-        Player player = event.getPlayer();
-        Location blockLocation = event.getBlock().getLocation();
-
-        Optional<ActiveResourceNode> activeNodeOpt = activeNodeManager.getActiveNode(blockLocation);
-
+    public void onBlockDamage(BlockDamageEvent event) {
+        Block block = event.getBlock();
+        Optional<ActiveResourceNode> activeNodeOpt = activeNodeManager.getActiveNode(block);
         if (activeNodeOpt.isEmpty()) {
             // Not a custom resource node, let vanilla handling take over or other plugins.
             return;
         }
+        // Node blocks are only ever broken by the gathering session.
+        event.setInstaBreak(false);
 
-        // It's a custom resource node, so we take control.
-        event.setCancelled(true); // Prevent vanilla block breaking behavior.
-        // Set drop to 0 to ensure no vanilla drops if not cancelled fully or by other plugins.
-        event.setDropItems(false);
-
+        Player player = event.getPlayer();
         ActiveResourceNode activeNode = activeNodeOpt.get();
+        Location blockLocation = block.getLocation();
 
         if (activeNode.isDepleted()) {
             player.sendMessage(StringUtil.colorize("&cThis resource node is currently depleted."));
@@ -91,6 +95,17 @@ public class ResourceNodeInteractionListener implements Listener {
 
         ResourceNodeType nodeType = nodeTypeOpt.get();
 
+        // 1. Check Tool Requirements
+        if (!nodeType.getRequiredToolTypes().isEmpty()) {
+            ItemStack toolInHand = player.getInventory().getItemInMainHand();
+            if (toolInHand == null || !nodeType.getRequiredToolTypes().contains(toolInHand.getType())) {
+                // TODO: Make this message more descriptive (e.g., list required tools)
+                player.sendMessage(StringUtil.colorize("&cYou do not have the required tool to gather from this node. (" + toolInHand.getType() + ")"));
+                return;
+            }
+        }
+
+        // 2. Break time scaled by mining speed
         PlayerProfile profile = playerDataService.getPlayerProfile(player.getUniqueId());
         RuntimeStatConfig.GatheringSettings gatheringSettings = gameplayConfigService.getRuntimeStatConfig().getGatheringSettings();
         double miningSpeed = profile != null ? profile.getStatValue(Stat.MINING_SPEED) : 0.0;
@@ -99,30 +114,44 @@ public class ResourceNodeInteractionListener implements Listener {
         double effectiveDelaySeconds = nodeType.getBreakTimeSeconds() / Math.max(1.0, 1.0 + speedFactor);
         effectiveDelaySeconds = Math.max(gatheringSettings.getMinimumGatherDelaySeconds(), effectiveDelaySeconds);
 
-        long now = System.currentTimeMillis();
-        long cooldownUntil = gatherCooldowns.getOrDefault(player.getUniqueId(), 0L);
-        if (cooldownUntil > now) {
-            double remainingSeconds = (cooldownUntil - now) / 1000.0;
-            player.sendActionBar(StringUtil.colorize(String.format("&cGathering... %.1fs remaining", remainingSeconds)));
+        gatheringService.start(player, block, activeNode, effectiveDelaySeconds,
+                () -> completeGathering(player, activeNode, nodeType, blockLocation));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onBlockDamageAbort(BlockDamageAbortEvent event) {
+        gatheringService.cancel(event.getPlayer().getUniqueId(), event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        gatheringService.cancel(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        gatheringService.cancel(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        if (activeNodeManager.getActiveNode(event.getBlock()).isEmpty()) {
             return;
         }
-        gatherCooldowns.put(player.getUniqueId(), now + (long) (effectiveDelaySeconds * 1000));
+        // Gathering completes through the session; a vanilla break (e.g. creative mode) must not remove the node.
+        event.setCancelled(true);
+        event.setDropItems(false);
+    }
 
-        // 1. Check Tool Requirements
-        if (!nodeType.getRequiredToolTypes().isEmpty()) {
-            ItemStack toolInHand = player.getInventory().getItemInMainHand();
-            if (toolInHand == null || !nodeType.getRequiredToolTypes().contains(toolInHand.getType())) {
-                // TODO: Make this message more descriptive (e.g., list required tools)
-                player.sendMessage(StringUtil.colorize("&cYou do not have the required tool to gather from this node. (" + toolInHand.getType() + ")"));
-                return;
-            }
+    /**
+     * Distributes loot and depletes the node once a gathering session has run its full break time.
+     */
+    void completeGathering(Player player, ActiveResourceNode activeNode, ResourceNodeType nodeType, Location blockLocation) {
+        if (activeNode.isDepleted()) {
+            return;
         }
-
-        // TODO: 2. Implement Break Time / Interaction Logic
-        // For now, assume instant break if tool is correct.
-        // Future: This might involve initiating a "breaking" state, tracking progress,
-        // and then calling depleteNode and loot distribution upon completion.
-        // This could be managed by a new service or within ActiveNodeManager.
+        PlayerProfile profile = playerDataService.getPlayerProfile(player.getUniqueId());
+        RuntimeStatConfig.GatheringSettings gatheringSettings = gameplayConfigService.getRuntimeStatConfig().getGatheringSettings();
 
         // 3. Distribute Loot
         lootService.getLootTableById(nodeType.getLootTableId()).ifPresentOrElse(lootTable -> {
@@ -0,0 +1,46 @@
+package com.x1f4r.mmocraft.world.resourcegathering.listeners;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.resourcegathering.service.ActiveNodeManager;
+import org.bukkit.Chunk;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Keeps resource nodes in step with the worlds and chunks that are actually loaded: nodes are streamed in when
+ * their world loads, dropped when it unloads, and their blocks are verified the first time each chunk loads.
+ */
+public class ResourceNodeWorldListener implements Listener {
+
+    private final ActiveNodeManager activeNodeManager;
+    private final LoggingUtil logger;
+
+    public ResourceNodeWorldListener(ActiveNodeManager activeNodeManager, LoggingUtil logger) {
+        this.activeNodeManager = activeNodeManager;
+        this.logger = logger;
+        logger.debug("ResourceNodeWorldListener initialized.");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        int loaded = activeNodeManager.loadWorld(event.getWorld());
+        if (loaded > 0) {
+            logger.info("Loaded " + loaded + " resource nodes for world '" + event.getWorld().getName() + "'.");
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        activeNodeManager.unloadWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        activeNodeManager.verifyChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+}
@@ -0,0 +1,12 @@
+package com.x1f4r.mmocraft.world.resourcegathering.model;
+
+/**
+ * A node type at block coordinates, used for bulk placement. Coordinates are absolute when passed to
+ * the node manager and relative to the paste origin inside a layout file.
+ */
+public record NodePlacement(int x, int y, int z, String nodeTypeId) {
+
+    public NodePlacement offset(int dx, int dy, int dz) {
+        return new NodePlacement(x + dx, y + dy, z + dz, nodeTypeId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.x1f4r.mmocraft.world.resourcegathering.persistence;
+
+import com.x1f4r.mmocraft.world.resourcegathering.model.NodePlacement;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes node layouts: plain text with one {@code x y z nodeTypeId} line per node, relative to the
+ * paste origin. Blank lines and lines starting with {@code #} are ignored.
+ */
+public final class NodeLayoutFile {
+
+    static final String HEADER = "# MMOCraft node layout: x y z nodeTypeId, relative to the paste origin";
+
+    private NodeLayoutFile() {
+    }
+
+    public static List<NodePlacement> read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    static List<NodePlacement> read(BufferedReader reader) throws IOException {
+        List<NodePlacement> placements = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            if (parts.length != 4) {
+                throw new IOException("Line " + lineNumber + ": expected 'x y z nodeTypeId' but got '" + line + "'.");
+            }
+            try {
+                placements.add(new NodePlacement(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]), parts[3]));
+            } catch (NumberFormatException e) {
+                throw new IOException("Line " + lineNumber + ": invalid coordinates in '" + line + "'.", e);
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * Writes the placements to {@code file}, creating parent directories as needed.
+     *
+     * @return The number of nodes written.
+     */
+    public static int write(Path file, Collection<NodePlacement> placements) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return write(writer, placements);
+        }
+    }
+
+    static int write(Writer writer, Collection<NodePlacement> placements) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (NodePlacement placement : placements) {
+            writer.write(placement.x() + " " + placement.y() + " " + placement.z() + " " + placement.nodeTypeId());
+            writer.write('\n');
+        }
+        return placements.size();
+    }
+}
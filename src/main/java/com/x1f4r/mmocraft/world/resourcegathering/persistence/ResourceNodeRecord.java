@@ -0,0 +1,19 @@
+package com.x1f4r.mmocraft.world.resourcegathering.persistence;
+
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import org.bukkit.Location;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of a node's persisted columns, taken on the main thread so it can be written from another one.
+ */
+public record ResourceNodeRecord(UUID worldUid, int x, int y, int z, String nodeTypeId,
+                                 boolean depleted, long respawnAtMillis) {
+
+    public static ResourceNodeRecord of(ActiveResourceNode node) {
+        Location location = node.getInternalLocation();
+        return new ResourceNodeRecord(location.getWorld().getUID(), location.getBlockX(), location.getBlockY(),
+                location.getBlockZ(), node.getNodeTypeId(), node.isDepleted(), node.getRespawnAtMillis());
+    }
+}
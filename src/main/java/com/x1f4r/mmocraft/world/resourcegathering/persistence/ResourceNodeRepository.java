@@ -2,24 +2,27 @@ package com.x1f4r.mmocraft.world.resourcegathering.persistence;
 
 import com.x1f4r.mmocraft.persistence.PersistenceService;
 import com.x1f4r.mmocraft.util.LoggingUtil;
-import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class ResourceNodeRepository {
 
     private static final String TABLE_NAME = "active_resource_nodes";
+    private static final String UPSERT_SQL = "REPLACE INTO " + TABLE_NAME + " (world_uid, x, y, z, node_type_id, is_depleted, respawn_at_millis) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int STREAM_FETCH_SIZE = 512;
+    private static final String DELETE_SQL = "DELETE FROM " + TABLE_NAME + " WHERE world_uid = ? AND x = ? AND y = ? AND z = ?";
     private final PersistenceService persistenceService;
     private final LoggingUtil loggingUtil;
+    // Batches run in their own transaction, so they get a connection nobody else issues statements on.
+    private final Object batchLock = new Object();
+    private Connection batchConnection;
 
     public ResourceNodeRepository(PersistenceService persistenceService, LoggingUtil loggingUtil) {
         this.persistenceService = persistenceService;
@@ -48,93 +51,111 @@ public class ResourceNodeRepository {
         }
     }
 
-    public void saveOrUpdateNode(ActiveResourceNode node) {
-        String sql = "REPLACE INTO " + TABLE_NAME + " (world_uid, x, y, z, node_type_id, is_depleted, respawn_at_millis) VALUES (?, ?, ?, ?, ?, ?, ?)";
-
+    /**
+     * Streams the nodes of one world row by row from the database cursor, so memory used by the load itself
+     * stays flat regardless of how many nodes the world has. The {@code (world_uid, x, y, z)} primary key turns
+     * the filter into an index range scan.
+     *
+     * @return The number of nodes delivered to the consumer, or -1 if the query failed.
+     */
+    public int streamNodes(UUID worldUid, Consumer<ResourceNodeRecord> consumer) {
+        String sql = "SELECT x, y, z, node_type_id, is_depleted, respawn_at_millis FROM " + TABLE_NAME + " WHERE world_uid = ?";
+        int count = 0;
         try {
             Connection conn = persistenceService.getConnection();
             try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-                Location loc = node.getInternalLocation();
-                pstmt.setString(1, loc.getWorld().getUID().toString());
-                pstmt.setInt(2, loc.getBlockX());
-                pstmt.setInt(3, loc.getBlockY());
-                pstmt.setInt(4, loc.getBlockZ());
-                pstmt.setString(5, node.getNodeTypeId());
-                pstmt.setInt(6, node.isDepleted() ? 1 : 0);
-                pstmt.setLong(7, node.getRespawnAtMillis());
-
-                pstmt.executeUpdate();
+                pstmt.setFetchSize(STREAM_FETCH_SIZE);
+                pstmt.setString(1, worldUid.toString());
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(new ResourceNodeRecord(worldUid, rs.getInt("x"), rs.getInt("y"), rs.getInt("z"),
+                                rs.getString("node_type_id"), rs.getInt("is_depleted") == 1, rs.getLong("respawn_at_millis")));
+                        count++;
+                    }
+                }
             }
         } catch (SQLException e) {
-            loggingUtil.severe("Failed to save or update resource node at " + node.getLocation(), e);
+            loggingUtil.severe("Failed to load resource nodes for world " + worldUid + " from database.", e);
+            return -1;
         }
+        return count;
     }
 
-    public Map<Location, ActiveResourceNode> loadAllNodes() {
-        Map<Location, ActiveResourceNode> nodes = new HashMap<>();
-        String sql = "SELECT * FROM " + TABLE_NAME;
-
+    /**
+     * Writes all upserts and deletes as batched statements in a single transaction. Either every change is
+     * committed or none is. The transaction runs on a dedicated connection, so statements other services issue
+     * on the shared connection meanwhile are neither pulled into it nor lost on rollback.
+     *
+     * @return True if the transaction committed.
+     */
+    public boolean writeBatch(Collection<ResourceNodeRecord> upserts, Collection<ResourceNodeRecord> deletes) {
+        if (upserts.isEmpty() && deletes.isEmpty()) {
+            return true;
+        }
         try {
-            Connection conn = persistenceService.getConnection();
-            try (Statement stmt = conn.createStatement();
-                 ResultSet rs = stmt.executeQuery(sql)) {
-
-                while (rs.next()) {
-                    try {
-                        UUID worldUid = UUID.fromString(rs.getString("world_uid"));
-                        int x = rs.getInt("x");
-                        int y = rs.getInt("y");
-                        int z = rs.getInt("z");
-                        String nodeTypeId = rs.getString("node_type_id");
-                        boolean isDepleted = rs.getInt("is_depleted") == 1;
-                        long respawnAtMillis = rs.getLong("respawn_at_millis");
-
-                        if (Bukkit.getWorld(worldUid) == null) {
-                            loggingUtil.warning("Could not load resource node in world with UID " + worldUid + " because the world is not loaded. Skipping.");
-                            continue;
-                        }
-
-                        Location location = new Location(Bukkit.getWorld(worldUid), x, y, z);
-                        ActiveResourceNode node = new ActiveResourceNode(location, nodeTypeId);
-                        node.setDepleted(isDepleted);
-                        node.setRespawnAtMillis(respawnAtMillis);
-
-                        nodes.put(location, node);
-                    } catch (IllegalArgumentException e) {
-                        loggingUtil.warning("Could not parse world UID from database. Skipping resource node record.", e);
+            synchronized (batchLock) {
+                Connection conn = batchConnection();
+                try (PreparedStatement upsert = conn.prepareStatement(UPSERT_SQL);
+                     PreparedStatement delete = conn.prepareStatement(DELETE_SQL)) {
+                    for (ResourceNodeRecord record : upserts) {
+                        upsert.setString(1, record.worldUid().toString());
+                        upsert.setInt(2, record.x());
+                        upsert.setInt(3, record.y());
+                        upsert.setInt(4, record.z());
+                        upsert.setString(5, record.nodeTypeId());
+                        upsert.setInt(6, record.depleted() ? 1 : 0);
+                        upsert.setLong(7, record.respawnAtMillis());
+                        upsert.addBatch();
+                    }
+                    for (ResourceNodeRecord record : deletes) {
+                        delete.setString(1, record.worldUid().toString());
+                        delete.setInt(2, record.x());
+                        delete.setInt(3, record.y());
+                        delete.setInt(4, record.z());
+                        delete.addBatch();
                     }
+                    if (!upserts.isEmpty()) {
+                        upsert.executeBatch();
+                    }
+                    if (!deletes.isEmpty()) {
+                        delete.executeBatch();
+                    }
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
                 }
-                loggingUtil.info("Successfully loaded " + nodes.size() + " active resource nodes from the database.");
             }
+            loggingUtil.debug("Persisted " + upserts.size() + " resource node change(s) and " + deletes.size() + " deletion(s) in one transaction.");
+            return true;
         } catch (SQLException e) {
-            loggingUtil.severe("Failed to load resource nodes from database.", e);
-            // Return empty map on failure
-            return new HashMap<>();
+            loggingUtil.severe("Failed to persist a batch of " + (upserts.size() + deletes.size()) + " resource node change(s).", e);
+            return false;
         }
-        return nodes;
     }
 
-    public void deleteNode(ActiveResourceNode node) {
-        String sql = "DELETE FROM " + TABLE_NAME + " WHERE world_uid = ? AND x = ? AND y = ? AND z = ?";
-
-        try {
-            Connection conn = persistenceService.getConnection();
-            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-                Location loc = node.getInternalLocation();
-                pstmt.setString(1, loc.getWorld().getUID().toString());
-                pstmt.setInt(2, loc.getBlockX());
-                pstmt.setInt(3, loc.getBlockY());
-                pstmt.setInt(4, loc.getBlockZ());
+    private Connection batchConnection() throws SQLException {
+        if (batchConnection == null || batchConnection.isClosed()) {
+            batchConnection = persistenceService.openDedicatedConnection();
+            batchConnection.setAutoCommit(false);
+        }
+        return batchConnection;
+    }
 
-                int affectedRows = pstmt.executeUpdate();
-                if (affectedRows > 0) {
-                    loggingUtil.debug("Successfully deleted node at " + node.getLocation() + " from the database.");
-                }
+    /**
+     * Closes the batch writer's connection. Call after the last {@link #writeBatch}.
+     */
+    public void close() {
+        synchronized (batchLock) {
+            if (batchConnection == null) {
+                return;
             }
-        } catch (SQLException e) {
-            loggingUtil.severe("Failed to delete resource node at " + node.getLocation(), e);
+            try {
+                batchConnection.close();
+            } catch (SQLException e) {
+                loggingUtil.severe("Failed to close the resource node batch connection.", e);
+            }
+            batchConnection = null;
         }
     }
 }
@@ -4,65 +4,211 @@ import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.item.service.CustomItemRegistry;
 import com.x1f4r.mmocraft.loot.service.LootService;
 import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.util.LongObjectHashMap;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import com.x1f4r.mmocraft.world.resourcegathering.model.NodePlacement;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ResourceNodeType;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRecord;
 import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRepository;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
 
 public class ActiveNodeManager {
 
+    /** Most block updates a single bulk placement work item makes. */
+    public static final int PLACEMENT_BATCH_SIZE = 64;
+
     private final MMOCraftPlugin plugin;
     private final LoggingUtil logger;
     private final ResourceNodeRegistryService nodeRegistryService;
     private final ResourceNodeRepository resourceNodeRepository;
+    private final ResourceNodePersistenceBuffer persistenceBuffer;
 
-    private final Map<Location, ActiveResourceNode> activeNodes = new ConcurrentHashMap<>();
+    private final ResourceNodeIndex activeNodes = new ResourceNodeIndex();
+    private final RespawnQueue respawnQueue = new RespawnQueue();
+    // Main thread only: filled at load, drained by the background verification sweep.
+    private final Queue<PendingChunk> verificationSweepQueue = new ArrayDeque<>();
+    // Main thread only: block updates from bulk placement, drained by the tick scheduler.
+    private final List<PlacementBatch> placementBatches = new ArrayList<>();
+    private final Set<UUID> loadedWorlds = new HashSet<>();
     private final Material depletedMaterial = Material.BEDROCK;
 
     public ActiveNodeManager(MMOCraftPlugin plugin, LoggingUtil logger,
                              ResourceNodeRegistryService nodeRegistryService,
                              ResourceNodeRepository resourceNodeRepository,
                              LootService lootService, CustomItemRegistry customItemRegistry) {
+        this(plugin, logger, nodeRegistryService, resourceNodeRepository,
+                new ResourceNodePersistenceBuffer(resourceNodeRepository, logger), lootService, customItemRegistry);
+    }
+
+    public ActiveNodeManager(MMOCraftPlugin plugin, LoggingUtil logger,
+                             ResourceNodeRegistryService nodeRegistryService,
+                             ResourceNodeRepository resourceNodeRepository,
+                             ResourceNodePersistenceBuffer persistenceBuffer,
+                             LootService lootService, CustomItemRegistry customItemRegistry) {
         this.plugin = plugin;
         this.logger = logger;
         this.nodeRegistryService = nodeRegistryService;
         this.resourceNodeRepository = resourceNodeRepository;
+        this.persistenceBuffer = persistenceBuffer;
         loadNodes();
     }
 
     private void loadNodes() {
         logger.info("Loading active resource nodes from database...");
-        Map<Location, ActiveResourceNode> loadedNodes = resourceNodeRepository.loadAllNodes();
-        activeNodes.putAll(loadedNodes);
-        logger.info("Finished loading " + activeNodes.size() + " nodes. Verifying world state...");
+        int loaded = 0;
+        for (World world : Bukkit.getWorlds()) {
+            loaded += loadWorld(world);
+        }
+        logger.info("Finished loading " + loaded + " nodes. World state is verified as their chunks load.");
+    }
 
-        runSync(() -> {
-            for (ActiveResourceNode node : activeNodes.values()) {
-                Optional<ResourceNodeType> nodeTypeOpt = nodeRegistryService.getNodeType(node.getNodeTypeId());
-                if (nodeTypeOpt.isEmpty()) {
-                    logger.warning("Could not verify world state for node at " + blockLocationToString(node.getLocation()) + " because its type '" + node.getNodeTypeId() + "' is no longer registered. Skipping.");
-                    continue;
-                }
-                ResourceNodeType nodeType = nodeTypeOpt.get();
-                Block block = node.getLocation().getBlock();
-                Material expectedMaterial = node.isDepleted() ? depletedMaterial : nodeType.getDisplayMaterial();
-                if (block.getType() != expectedMaterial) {
-                    logger.debug("Correcting block state for node at " + blockLocationToString(node.getLocation()) + ". Was " + block.getType() + ", expected " + expectedMaterial);
-                    block.setType(expectedMaterial);
-                }
+    /**
+     * Streams the nodes of a world from the database into the index. Worlds loaded after startup call this
+     * from the world load event; a world that is already loaded is skipped. Must be called on the main thread.
+     *
+     * @return The number of nodes loaded.
+     */
+    public int loadWorld(World world) {
+        if (world == null || !loadedWorlds.add(world.getUID())) {
+            return 0;
+        }
+        // Always flush: a batch the background thread already drained may still be mid-write, and flushing
+        // waits for it. Changes a failed write left queued are newer than the rows and are laid over them.
+        LongObjectHashMap<ResourceNodePersistenceBuffer.Change> queued = persistenceBuffer.flushForRead(world.getUID());
+        int[] loaded = {0};
+        resourceNodeRepository.streamNodes(world.getUID(), record -> {
+            ResourceNodePersistenceBuffer.Change change = queued.isEmpty() ? null
+                    : queued.remove(ResourceNodeIndex.blockKey(record.x(), record.y(), record.z()));
+            if (change == null) {
+                loaded[0] += indexLoadedNode(world, record);
+            } else if (!change.delete()) {
+                loaded[0] += indexLoadedNode(world, change.record());
             }
-            logger.info("World state verification complete.");
         });
+        queued.forEach((key, change) -> {
+            if (!change.delete()) {
+                loaded[0] += indexLoadedNode(world, change.record());
+            }
+        });
+        activeNodes.forEachUnverifiedChunk(world.getUID(), (worldId, chunkX, chunkZ) ->
+                verificationSweepQueue.add(new PendingChunk(worldId, chunkX, chunkZ)));
+        logger.debug("Loaded " + loaded[0] + " resource nodes for world '" + world.getName() + "'.");
+        return loaded[0];
+    }
+
+    private int indexLoadedNode(World world, ResourceNodeRecord record) {
+        ActiveResourceNode node = new ActiveResourceNode(new Location(world, record.x(), record.y(), record.z()), record.nodeTypeId());
+        node.setDepleted(record.depleted());
+        node.setRespawnAtMillis(record.respawnAtMillis());
+        if (!activeNodes.add(node)) {
+            return 0;
+        }
+        if (node.isDepleted()) {
+            respawnQueue.schedule(node, node.getRespawnAtMillis());
+        }
+        return 1;
+    }
+
+    /**
+     * Drops the nodes of an unloading world from memory. Their state is already queued for persistence, and
+     * {@link #loadWorld} streams them back in if the world is loaded again.
+     *
+     * @return The number of nodes dropped.
+     */
+    public int unloadWorld(World world) {
+        if (world == null || !loadedWorlds.remove(world.getUID())) {
+            return 0;
+        }
+        List<ActiveResourceNode> removed = activeNodes.removeWorld(world.getUID());
+        for (ActiveResourceNode node : removed) {
+            respawnQueue.cancel(node);
+        }
+        verificationSweepQueue.removeIf(pending -> pending.worldId().equals(world.getUID()));
+        placementBatches.removeIf(batch -> batch.worldId().equals(world.getUID()));
+        logger.debug("Unloaded " + removed.size() + " resource nodes for world '" + world.getName() + "'.");
+        return removed.size();
+    }
+
+    /**
+     * Verifies the world state of the nodes in a chunk the first time it is seen loaded. Chunks without nodes
+     * cost a single index probe. Must be called on the main thread with the chunk loaded.
+     *
+     * @return The number of blocks that had to be corrected.
+     */
+    public int verifyChunk(World world, int chunkX, int chunkZ) {
+        if (world == null) {
+            return 0;
+        }
+        List<ActiveResourceNode> nodes = activeNodes.claimUnverified(world.getUID(), chunkX, chunkZ);
+        int corrected = 0;
+        for (ActiveResourceNode node : nodes) {
+            if (verifyNode(world, node)) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private boolean verifyNode(World world, ActiveResourceNode node) {
+        Location location = node.getInternalLocation();
+        Optional<ResourceNodeType> nodeTypeOpt = nodeRegistryService.getNodeType(node.getNodeTypeId());
+        if (nodeTypeOpt.isEmpty()) {
+            logger.warning("Could not verify world state for node at " + blockLocationToString(location) + " because its type '" + node.getNodeTypeId() + "' is no longer registered. Skipping.");
+            return false;
+        }
+        ResourceNodeType nodeType = nodeTypeOpt.get();
+        Block block = world.getBlockAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        Material expectedMaterial = node.isDepleted() ? depletedMaterial : nodeType.getDisplayMaterial();
+        if (block.getType() == expectedMaterial) {
+            return false;
+        }
+        logger.debug("Correcting block state for node at " + blockLocationToString(location) + ". Was " + block.getType() + ", expected " + expectedMaterial);
+        block.setType(expectedMaterial);
+        return true;
+    }
+
+    /**
+     * Verifies up to {@code maxChunks} chunks that were already loaded before their nodes were, such as spawn
+     * chunks at startup. Chunks that are not loaded are dropped from the sweep; {@link #verifyChunk} picks them
+     * up from the chunk load event instead, so the sweep never loads a chunk itself.
+     *
+     * @return The number of chunks verified.
+     */
+    public int sweepLoadedChunks(int maxChunks) {
+        int verified = 0;
+        while (verified < maxChunks) {
+            PendingChunk pending = verificationSweepQueue.poll();
+            if (pending == null) {
+                break;
+            }
+            World world = Bukkit.getWorld(pending.worldId());
+            if (world == null || !world.isChunkLoaded(pending.chunkX(), pending.chunkZ())) {
+                continue;
+            }
+            verifyChunk(world, pending.chunkX(), pending.chunkZ());
+            verified++;
+        }
+        return verified;
+    }
+
+    public int getPendingVerificationSweepCount() {
+        return verificationSweepQueue.size();
     }
 
     public void placeNewNode(Location location, String nodeTypeId) {
@@ -78,14 +224,12 @@ public class ActiveNodeManager {
         ResourceNodeType nodeType = nodeTypeOpt.get();
         Location blockLocation = location.getBlock().getLocation();
 
-        if (activeNodes.containsKey(blockLocation)) {
+        ActiveResourceNode newNode = new ActiveResourceNode(blockLocation, nodeTypeId);
+        if (!activeNodes.add(newNode)) {
             logger.warning("Node already exists at " + blockLocation + ". Cannot place new node: " + nodeTypeId);
             return;
         }
-
-        ActiveResourceNode newNode = new ActiveResourceNode(blockLocation, nodeTypeId);
-        activeNodes.put(blockLocation, newNode);
-        resourceNodeRepository.saveOrUpdateNode(newNode); // PERSIST
+        persistenceBuffer.save(newNode); // PERSIST
 
         runSync(() -> {
             blockLocation.getBlock().setType(nodeType.getDisplayMaterial());
@@ -93,18 +237,158 @@ public class ActiveNodeManager {
         });
     }
 
+    /**
+     * Places many nodes at once, such as a region fill or an imported layout. Nodes enter the index right away
+     * and are queued for persistence, so the buffer writes them in one transaction on its next flush.
+     * <p>
+     * Blocks are not changed here. New nodes are grouped per chunk into batches of at most
+     * {@link #PLACEMENT_BATCH_SIZE}, which the tick scheduler drains through {@link #applyPlacementBatch} under
+     * its budget, so even a fully packed chunk is spread over several ticks. Touched chunks are also marked
+     * unverified: chunks that are not loaded when their batch runs get their blocks from {@link #verifyChunk}
+     * when they load, so a large layout never forces chunk loads. Must be called on the main thread.
+     *
+     * @return The number of nodes placed. Occupied blocks, blocks outside the world height and unknown node
+     * types are skipped.
+     */
+    public int placeNodes(World world, Collection<NodePlacement> placements) {
+        if (world == null || placements == null || placements.isEmpty()) {
+            return 0;
+        }
+        UUID worldId = world.getUID();
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        Set<String> unknownTypes = new HashSet<>();
+        Map<Long, List<ActiveResourceNode>> placedByChunk = new LinkedHashMap<>();
+        int placed = 0;
+        for (NodePlacement placement : placements) {
+            if (placement.y() < minY || placement.y() >= maxY) {
+                continue;
+            }
+            if (unknownTypes.contains(placement.nodeTypeId())
+                    || nodeRegistryService.getNodeType(placement.nodeTypeId()).isEmpty()) {
+                unknownTypes.add(placement.nodeTypeId());
+                continue;
+            }
+            ActiveResourceNode node = new ActiveResourceNode(
+                    new Location(world, placement.x(), placement.y(), placement.z()), placement.nodeTypeId());
+            if (!activeNodes.add(node)) {
+                continue;
+            }
+            persistenceBuffer.save(node); // PERSIST
+            placedByChunk.computeIfAbsent(ResourceNodeIndex.chunkKey(placement.x() >> 4, placement.z() >> 4),
+                    key -> new ArrayList<>()).add(node);
+            placed++;
+        }
+        for (Map.Entry<Long, List<ActiveResourceNode>> chunk : placedByChunk.entrySet()) {
+            int chunkX = (int) (chunk.getKey() >> 32);
+            int chunkZ = (int) (long) chunk.getKey();
+            activeNodes.markUnverified(worldId, chunkX, chunkZ);
+            List<ActiveResourceNode> nodes = chunk.getValue();
+            for (int from = 0; from < nodes.size(); from += PLACEMENT_BATCH_SIZE) {
+                placementBatches.add(new PlacementBatch(worldId, chunkX, chunkZ,
+                        List.copyOf(nodes.subList(from, Math.min(nodes.size(), from + PLACEMENT_BATCH_SIZE)))));
+            }
+        }
+        if (!unknownTypes.isEmpty()) {
+            logger.warning("Skipped bulk placements with unknown node types: " + String.join(", ", unknownTypes));
+        }
+        logger.info("Bulk placed " + placed + " of " + placements.size() + " resource nodes across " + placedByChunk.size()
+                + " chunks in world '" + world.getName() + "'.");
+        return placed;
+    }
+
+    /**
+     * Hands the batches queued by {@link #placeNodes} to the caller and clears the queue. Main thread only.
+     */
+    public List<PlacementBatch> drainPlacementBatches() {
+        if (placementBatches.isEmpty()) {
+            return List.of();
+        }
+        List<PlacementBatch> drained = List.copyOf(placementBatches);
+        placementBatches.clear();
+        return drained;
+    }
+
+    /**
+     * Sets the blocks of one batch of freshly placed nodes. Batches for unloaded chunks are skipped; the chunk
+     * stays unverified and is handled from the chunk load event instead.
+     *
+     * @return The number of blocks changed.
+     */
+    public int applyPlacementBatch(PlacementBatch batch) {
+        World world = Bukkit.getWorld(batch.worldId());
+        if (world == null || !world.isChunkLoaded(batch.chunkX(), batch.chunkZ())) {
+            return 0;
+        }
+        int changed = 0;
+        for (ActiveResourceNode node : batch.nodes()) {
+            // Skip nodes removed or replaced since they were placed.
+            if (activeNodes.contains(node) && verifyNode(world, node)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return The nodes inside the inclusive block region. Only chunks that both overlap the region and hold
+     * nodes are visited, so the cost is bounded by the world's node count, not the region's size.
+     */
+    public List<ActiveResourceNode> getNodesInRegion(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (world == null) return List.of();
+        return activeNodes.inRegion(world.getUID(), minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
     public Optional<ActiveResourceNode> getActiveNode(Location location) {
-        if (location == null) return Optional.empty();
-        return Optional.ofNullable(activeNodes.get(location.getBlock().getLocation()));
+        if (location == null || location.getWorld() == null) return Optional.empty();
+        return Optional.ofNullable(activeNodes.get(location.getWorld().getUID(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    /**
+     * Looks up the node at a block without building a {@link Location}. Blocks that hold no node cost a
+     * single primitive hash probe, so this is safe to call from every block break.
+     */
+    public Optional<ActiveResourceNode> getActiveNode(Block block) {
+        if (block == null) return Optional.empty();
+        return Optional.ofNullable(activeNodes.get(block.getWorld().getUID(), block.getX(), block.getY(), block.getZ()));
     }
 
+    /**
+     * @return A snapshot of the nodes inside the given chunk.
+     */
+    public List<ActiveResourceNode> getNodesInChunk(World world, int chunkX, int chunkZ) {
+        if (world == null) return List.of();
+        return activeNodes.inChunk(world.getUID(), chunkX, chunkZ);
+    }
+
+    /**
+     * Counts the tracked nodes of a type, matched case-insensitively, from a counter kept by the index.
+     */
     public long countNodesOfType(String nodeTypeId) {
         if (nodeTypeId == null) {
             return 0;
         }
-        return activeNodes.values().stream()
-                .filter(node -> nodeTypeId.equalsIgnoreCase(node.getNodeTypeId()))
-                .count();
+        return activeNodes.countOfType(nodeTypeId);
+    }
+
+    /**
+     * @return Tracked node counts per node type id.
+     */
+    public Map<String, Integer> getNodeCountsByType() {
+        return activeNodes.countsByType();
+    }
+
+    /**
+     * Finds the nodes whose block lies within {@code radius} blocks of {@code location}, in its world only.
+     * Only the chunks overlapping the radius are visited.
+     *
+     * @param nodeTypeId The node type to match case-insensitively, or null for every type.
+     */
+    public List<ActiveResourceNode> findNodesNear(Location location, double radius, String nodeTypeId) {
+        if (location == null || location.getWorld() == null) return List.of();
+        return activeNodes.near(location.getWorld().getUID(), location.getX(), location.getY(), location.getZ(),
+                radius, nodeTypeId);
     }
 
     public void depleteNode(ActiveResourceNode node) {
@@ -120,7 +404,8 @@ public class ActiveNodeManager {
 
         node.setDepleted(true);
         node.setRespawnAtMillis(System.currentTimeMillis() + (nodeType.getRespawnTimeSeconds() * 1000L));
-        resourceNodeRepository.saveOrUpdateNode(node); // PERSIST
+        respawnQueue.schedule(node, node.getRespawnAtMillis());
+        persistenceBuffer.save(node); // PERSIST
 
         runSync(() -> {
             node.getLocation().getBlock().setType(depletedMaterial);
@@ -139,9 +424,10 @@ public class ActiveNodeManager {
         }
         ResourceNodeType nodeType = nodeTypeOpt.get();
 
+        respawnQueue.cancel(node);
         node.setDepleted(false);
         node.setRespawnAtMillis(0);
-        resourceNodeRepository.saveOrUpdateNode(node); // PERSIST
+        persistenceBuffer.save(node); // PERSIST
 
         runSync(() -> {
             node.getLocation().getBlock().setType(nodeType.getDisplayMaterial());
@@ -150,27 +436,41 @@ public class ActiveNodeManager {
     }
 
     public void tickNodes() {
-        long currentTimeMillis = System.currentTimeMillis();
-        for (ActiveResourceNode node : activeNodes.values()) {
-            if (node.isDepleted() && node.getRespawnAtMillis() <= currentTimeMillis) {
+        tickRespawns(System.currentTimeMillis());
+    }
+
+    /**
+     * Respawns every depleted node whose respawn time has passed. Only due entries are popped from the
+     * respawn queue, so an idle tick is a single comparison against the earliest respawn time.
+     *
+     * @return The number of nodes respawned.
+     */
+    public int tickRespawns(long currentTimeMillis) {
+        if (respawnQueue.nextRespawnAtMillis() > currentTimeMillis) {
+            return 0;
+        }
+        int respawned = 0;
+        for (ActiveResourceNode node : respawnQueue.pollDue(currentTimeMillis)) {
+            // Removal cancels the queue entry, but a node may have been replaced between poll and now.
+            if (activeNodes.contains(node) && node.isDepleted()) {
                 respawnNode(node);
+                respawned++;
             }
         }
+        return respawned;
+    }
+
+    public int getPendingRespawnCount() {
+        return respawnQueue.size();
     }
 
     public int removeNodesByType(String nodeTypeId) {
         if (nodeTypeId == null) {
             return 0;
         }
-        List<Location> locationsToRemove = new ArrayList<>();
-        activeNodes.forEach((location, node) -> {
-            if (nodeTypeId.equalsIgnoreCase(node.getNodeTypeId())) {
-                locationsToRemove.add(location);
-            }
-        });
         int removed = 0;
-        for (Location location : locationsToRemove) {
-            if (removeNode(location)) {
+        for (ActiveResourceNode node : activeNodes.ofType(nodeTypeId)) {
+            if (removeNode(node.getInternalLocation())) {
                 removed++;
             }
         }
@@ -178,10 +478,15 @@ public class ActiveNodeManager {
     }
 
     public boolean removeNode(Location location) {
-        Location blockLocation = location.getBlock().getLocation();
-        ActiveResourceNode node = activeNodes.remove(blockLocation);
+        if (location == null || location.getWorld() == null) {
+            return false;
+        }
+        ActiveResourceNode node = activeNodes.remove(location.getWorld().getUID(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
         if (node != null) {
-            resourceNodeRepository.deleteNode(node); // PERSIST
+            respawnQueue.cancel(node);
+            Location blockLocation = node.getInternalLocation();
+            persistenceBuffer.delete(node); // PERSIST
             runSync(() -> {
                 blockLocation.getBlock().setType(Material.AIR);
                 logger.info("Removed resource node '" + node.getNodeTypeId() + "' from " + blockLocationToString(blockLocation));
@@ -191,8 +496,15 @@ public class ActiveNodeManager {
         return false;
     }
 
-    public Map<Location, ActiveResourceNode> getAllActiveNodesView() {
-        return Collections.unmodifiableMap(activeNodes);
+    /**
+     * @return A snapshot of every tracked node.
+     */
+    public Collection<ActiveResourceNode> getAllActiveNodes() {
+        return activeNodes.snapshot();
+    }
+
+    public int getActiveNodeCount() {
+        return activeNodes.size();
     }
 
     private String blockLocationToString(Location loc) {
@@ -202,10 +514,12 @@ public class ActiveNodeManager {
 
     public void shutdown() {
         logger.info("ActiveNodeManager shutting down. Persisting " + activeNodes.size() + " node states...");
-        for (ActiveResourceNode node : activeNodes.values()) {
-            resourceNodeRepository.saveOrUpdateNode(node);
+        for (ActiveResourceNode node : activeNodes.snapshot()) {
+            persistenceBuffer.save(node);
         }
-        logger.info("All active resource node states have been persisted.");
+        // Queued changes and the full snapshot go out together as one transaction.
+        persistenceBuffer.shutdown();
+        resourceNodeRepository.close();
     }
 
     private void runSync(Runnable task) {
@@ -215,4 +529,13 @@ public class ActiveNodeManager {
             plugin.getServer().getScheduler().runTask(plugin, task);
         }
     }
+
+    private record PendingChunk(UUID worldId, int chunkX, int chunkZ) {
+    }
+
+    /**
+     * Block updates for up to {@link #PLACEMENT_BATCH_SIZE} nodes placed in one chunk.
+     */
+    public record PlacementBatch(UUID worldId, int chunkX, int chunkZ, List<ActiveResourceNode> nodes) {
+    }
 }
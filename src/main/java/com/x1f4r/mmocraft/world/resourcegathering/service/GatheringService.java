@@ -0,0 +1,249 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drives multi-hit gathering of resource nodes from the central tick.
+ * <p>
+ * A session starts when a player begins digging a node and advances by one tick of progress per server tick
+ * until the node's effective break time is reached, at which point the completion callback runs. The crack
+ * animation is sent whenever the visible stage changes. Sessions are cancelled when the player stops digging,
+ * looks away from the block, moves, switches items or leaves, and when the node is depleted or removed by
+ * someone else.
+ * <p>
+ * While a session runs, the player's client-side break speed is zeroed through a transient attribute modifier,
+ * so the client never finishes the block on its own and the server stays authoritative. Only players with an
+ * active session are visited each tick. Main thread only.
+ */
+public class GatheringService {
+
+    public static final int TARGET_REACH = 5;
+    // Tolerance for head bobbing and knockback; anything further counts as walking away.
+    private static final double MOVE_TOLERANCE_SQUARED = 0.5 * 0.5;
+    private static final int CRACK_STAGES = 10;
+
+    private final NamespacedKey breakSpeedModifierKey;
+    private final ActiveNodeManager activeNodeManager;
+    private final LoggingUtil logger;
+    private final Map<UUID, GatheringSession> sessions = new HashMap<>();
+    // Crack animations are tagged with a fake, negative source id per session. Under the player's own entity id
+    // the client would overwrite them with its own (frozen) dig progress.
+    private int nextCrackSourceId = -1;
+
+    public GatheringService(NamespacedKey breakSpeedModifierKey, ActiveNodeManager activeNodeManager, LoggingUtil logger) {
+        this.breakSpeedModifierKey = breakSpeedModifierKey;
+        this.activeNodeManager = activeNodeManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts gathering the node at {@code block}. Digging the node a player is already gathering keeps the
+     * current progress; starting on another node cancels the previous session.
+     *
+     * @return True if a new session was started.
+     */
+    public boolean start(Player player, Block block, ActiveResourceNode node, double breakTimeSeconds, Runnable onComplete) {
+        GatheringSession existing = sessions.get(player.getUniqueId());
+        if (existing != null) {
+            if (existing.node == node) {
+                return false;
+            }
+            end(existing);
+            sessions.remove(player.getUniqueId());
+        }
+        Location origin = player.getLocation();
+        GatheringSession session = new GatheringSession(player, node, block.getWorld(), block.getX(), block.getY(), block.getZ(),
+                totalTicks(breakTimeSeconds), origin.getX(), origin.getY(), origin.getZ(), nextCrackSourceId(), onComplete);
+        sessions.put(player.getUniqueId(), session);
+        freezeClientBreaking(player);
+        logger.finer("Player " + player.getName() + " started gathering node '" + node.getNodeTypeId() + "' (" + session.totalTicks + " ticks).");
+        return true;
+    }
+
+    /**
+     * Cancels the player's session, if any.
+     */
+    public void cancel(UUID playerId) {
+        GatheringSession session = sessions.remove(playerId);
+        if (session != null) {
+            end(session);
+        }
+    }
+
+    /**
+     * Cancels the player's session if it targets the given block.
+     */
+    public void cancel(UUID playerId, Block block) {
+        GatheringSession session = sessions.get(playerId);
+        if (session != null && session.isBlock(block.getWorld(), block.getX(), block.getY(), block.getZ())) {
+            sessions.remove(playerId);
+            end(session);
+        }
+    }
+
+    public boolean isGathering(UUID playerId) {
+        return sessions.containsKey(playerId);
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    public void tick() {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        Iterator<GatheringSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            GatheringSession session = iterator.next();
+            if (!isStillGathering(session)) {
+                iterator.remove();
+                end(session);
+                continue;
+            }
+            session.elapsedTicks++;
+            if (session.elapsedTicks >= session.totalTicks) {
+                iterator.remove();
+                end(session);
+                try {
+                    session.onComplete.run();
+                } catch (RuntimeException e) {
+                    logger.severe("Error while completing gathering for " + session.player.getName() + ".", e);
+                }
+                continue;
+            }
+            int stage = crackStage(session.elapsedTicks, session.totalTicks);
+            if (stage != session.sentStage) {
+                session.sentStage = stage;
+                session.player.sendBlockDamage(session.blockLocation(), stage / (float) CRACK_STAGES, session.crackSourceId);
+            }
+        }
+    }
+
+    private boolean isStillGathering(GatheringSession session) {
+        Player player = session.player;
+        if (!player.isOnline() || session.node.isDepleted()) {
+            return false;
+        }
+        if (activeNodeManager.getActiveNode(session.blockLocation()).orElse(null) != session.node) {
+            return false;
+        }
+        Location location = player.getLocation();
+        if (location.getWorld() != session.world) {
+            return false;
+        }
+        double dx = location.getX() - session.originX;
+        double dy = location.getY() - session.originY;
+        double dz = location.getZ() - session.originZ;
+        if (dx * dx + dy * dy + dz * dz > MOVE_TOLERANCE_SQUARED) {
+            return false;
+        }
+        Block target = player.getTargetBlockExact(TARGET_REACH);
+        return target != null && session.isBlock(target.getWorld(), target.getX(), target.getY(), target.getZ());
+    }
+
+    private void end(GatheringSession session) {
+        Player player = session.player;
+        if (player.isOnline()) {
+            if (session.sentStage > 0) {
+                player.sendBlockDamage(session.blockLocation(), 0.0f, session.crackSourceId);
+            }
+            restoreClientBreaking(player);
+        }
+    }
+
+    private void freezeClientBreaking(Player player) {
+        AttributeInstance breakSpeed = player.getAttribute(Attribute.BLOCK_BREAK_SPEED);
+        if (breakSpeed != null && breakSpeed.getModifier(breakSpeedModifierKey) == null) {
+            breakSpeed.addTransientModifier(new AttributeModifier(breakSpeedModifierKey, -1.0,
+                    AttributeModifier.Operation.MULTIPLY_SCALAR_1));
+        }
+    }
+
+    private void restoreClientBreaking(Player player) {
+        AttributeInstance breakSpeed = player.getAttribute(Attribute.BLOCK_BREAK_SPEED);
+        if (breakSpeed != null) {
+            breakSpeed.removeModifier(breakSpeedModifierKey);
+        }
+    }
+
+    /**
+     * Cancels every session, clearing crack animations and restoring break speed.
+     */
+    public void shutdown() {
+        for (GatheringSession session : sessions.values()) {
+            end(session);
+        }
+        sessions.clear();
+    }
+
+    private int nextCrackSourceId() {
+        int sourceId = nextCrackSourceId;
+        nextCrackSourceId = sourceId == Integer.MIN_VALUE ? -1 : sourceId - 1;
+        return sourceId;
+    }
+
+    static int totalTicks(double breakTimeSeconds) {
+        return Math.max(1, (int) Math.round(breakTimeSeconds * 20.0));
+    }
+
+    static int crackStage(int elapsedTicks, int totalTicks) {
+        return Math.min(CRACK_STAGES - 1, elapsedTicks * CRACK_STAGES / totalTicks);
+    }
+
+    private static final class GatheringSession {
+        private final Player player;
+        private final ActiveResourceNode node;
+        private final World world;
+        private final int blockX;
+        private final int blockY;
+        private final int blockZ;
+        private final int totalTicks;
+        private final double originX;
+        private final double originY;
+        private final double originZ;
+        private final int crackSourceId;
+        private final Runnable onComplete;
+        private int elapsedTicks;
+        private int sentStage;
+
+        GatheringSession(Player player, ActiveResourceNode node, World world, int blockX, int blockY, int blockZ,
+                         int totalTicks, double originX, double originY, double originZ, int crackSourceId,
+                         Runnable onComplete) {
+            this.player = player;
+            this.node = node;
+            this.world = world;
+            this.blockX = blockX;
+            this.blockY = blockY;
+            this.blockZ = blockZ;
+            this.totalTicks = totalTicks;
+            this.originX = originX;
+            this.originY = originY;
+            this.originZ = originZ;
+            this.crackSourceId = crackSourceId;
+            this.onComplete = onComplete;
+        }
+
+        boolean isBlock(World otherWorld, int x, int y, int z) {
+            return world == otherWorld && blockX == x && blockY == y && blockZ == z;
+        }
+
+        Location blockLocation() {
+            return node.getInternalLocation();
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.util.LongObjectHashMap;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-world index of active resource nodes keyed by packed block coordinates.
+ * <p>
+ * Each world holds a primitive map from a packed x/y/z long to its node plus a secondary map from packed
+ * chunk coordinates to the nodes inside that chunk. A lookup for a block without a node is one hash probe and
+ * never allocates, which matters because every block break on the server goes through it.
+ * <p>
+ * Chunks also carry a verified flag so the world state of their nodes is checked once, when the chunk is
+ * actually loaded, instead of touching every node's chunk at startup.
+ * <p>
+ * Nodes are also grouped by type, matched case-insensitively, so per-type counts are a map lookup and
+ * per-type operations only visit nodes of that type. Proximity queries walk the chunks overlapping the
+ * search radius.
+ * <p>
+ * All methods are synchronized on the index; lookups are uncontended in practice because writes only happen
+ * when nodes are placed, removed or loaded.
+ */
+final class ResourceNodeIndex {
+
+    private final Map<UUID, WorldNodes> worlds = new HashMap<>();
+    private final Map<String, TypeNodes> types = new HashMap<>();
+    private int size;
+
+    static long blockKey(int x, int y, int z) {
+        // Same layout as vanilla block positions: 26 bits X, 26 bits Z, 12 bits Y.
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    synchronized ActiveResourceNode get(UUID worldId, int x, int y, int z) {
+        WorldNodes world = worlds.get(worldId);
+        return world == null ? null : world.byBlock.get(blockKey(x, y, z));
+    }
+
+    /**
+     * @return True if the node was added, false if another node already occupies its block.
+     */
+    synchronized boolean add(ActiveResourceNode node) {
+        Location location = node.getInternalLocation();
+        WorldNodes world = worlds.computeIfAbsent(location.getWorld().getUID(), id -> new WorldNodes());
+        long key = blockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        if (world.byBlock.containsKey(key)) {
+            return false;
+        }
+        world.byBlock.put(key, node);
+        long chunk = chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        ChunkNodes chunkNodes = world.byChunk.get(chunk);
+        if (chunkNodes == null) {
+            chunkNodes = new ChunkNodes();
+            world.byChunk.put(chunk, chunkNodes);
+        }
+        chunkNodes.nodes.add(node);
+        types.computeIfAbsent(typeKey(node.getNodeTypeId()), type -> new TypeNodes(node.getNodeTypeId())).nodes.add(node);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return The removed node, or null if the block held none.
+     */
+    synchronized ActiveResourceNode remove(UUID worldId, int x, int y, int z) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null) {
+            return null;
+        }
+        ActiveResourceNode node = world.byBlock.remove(blockKey(x, y, z));
+        if (node == null) {
+            return null;
+        }
+        long chunk = chunkKey(x >> 4, z >> 4);
+        ChunkNodes chunkNodes = world.byChunk.get(chunk);
+        if (chunkNodes != null) {
+            chunkNodes.nodes.remove(node);
+            if (chunkNodes.nodes.isEmpty()) {
+                world.byChunk.remove(chunk);
+            }
+        }
+        if (world.byBlock.isEmpty()) {
+            worlds.remove(worldId);
+        }
+        removeFromType(node);
+        size--;
+        return node;
+    }
+
+    /**
+     * @return True if this exact node instance is still indexed at its block.
+     */
+    synchronized boolean contains(ActiveResourceNode node) {
+        Location location = node.getInternalLocation();
+        if (location.getWorld() == null) {
+            return false;
+        }
+        return get(location.getWorld().getUID(), location.getBlockX(), location.getBlockY(), location.getBlockZ()) == node;
+    }
+
+    /**
+     * @return A snapshot of the nodes inside the chunk.
+     */
+    synchronized List<ActiveResourceNode> inChunk(UUID worldId, int chunkX, int chunkZ) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null) {
+            return Collections.emptyList();
+        }
+        ChunkNodes chunkNodes = world.byChunk.get(chunkKey(chunkX, chunkZ));
+        return chunkNodes == null ? Collections.emptyList() : List.copyOf(chunkNodes.nodes);
+    }
+
+    /**
+     * Marks the chunk as verified and returns its nodes, or an empty list if it holds no nodes or was
+     * already verified. Each chunk is handed out at most once.
+     */
+    synchronized List<ActiveResourceNode> claimUnverified(UUID worldId, int chunkX, int chunkZ) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null) {
+            return Collections.emptyList();
+        }
+        ChunkNodes chunkNodes = world.byChunk.get(chunkKey(chunkX, chunkZ));
+        if (chunkNodes == null || chunkNodes.verified) {
+            return Collections.emptyList();
+        }
+        chunkNodes.verified = true;
+        return List.copyOf(chunkNodes.nodes);
+    }
+
+    /**
+     * Clears the verified flag of a chunk so its nodes are handed out by {@link #claimUnverified} again.
+     *
+     * @return True if the chunk holds nodes.
+     */
+    synchronized boolean markUnverified(UUID worldId, int chunkX, int chunkZ) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null) {
+            return false;
+        }
+        ChunkNodes chunkNodes = world.byChunk.get(chunkKey(chunkX, chunkZ));
+        if (chunkNodes == null) {
+            return false;
+        }
+        chunkNodes.verified = false;
+        return true;
+    }
+
+    /**
+     * Visits every chunk of the world whose nodes have not been verified yet.
+     */
+    synchronized void forEachUnverifiedChunk(UUID worldId, ChunkVisitor visitor) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null) {
+            return;
+        }
+        world.byChunk.forEach((key, chunkNodes) -> {
+            if (!chunkNodes.verified) {
+                visitor.visit(worldId, (int) (key >> 32), (int) key);
+            }
+        });
+    }
+
+    /**
+     * Drops every node of the world from the index.
+     *
+     * @return The removed nodes.
+     */
+    synchronized List<ActiveResourceNode> removeWorld(UUID worldId) {
+        WorldNodes world = worlds.remove(worldId);
+        if (world == null) {
+            return Collections.emptyList();
+        }
+        size -= world.byBlock.size();
+        List<ActiveResourceNode> removed = world.byBlock.values();
+        for (ActiveResourceNode node : removed) {
+            removeFromType(node);
+        }
+        return removed;
+    }
+
+    /**
+     * @return The number of indexed nodes of the type.
+     */
+    synchronized int countOfType(String nodeTypeId) {
+        TypeNodes typeNodes = types.get(typeKey(nodeTypeId));
+        return typeNodes == null ? 0 : typeNodes.nodes.size();
+    }
+
+    /**
+     * @return A snapshot of the indexed nodes of the type.
+     */
+    synchronized List<ActiveResourceNode> ofType(String nodeTypeId) {
+        TypeNodes typeNodes = types.get(typeKey(nodeTypeId));
+        return typeNodes == null ? Collections.emptyList() : List.copyOf(typeNodes.nodes);
+    }
+
+    /**
+     * @return Node counts keyed by the type id as first indexed.
+     */
+    synchronized Map<String, Integer> countsByType() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (TypeNodes typeNodes : types.values()) {
+            counts.put(typeNodes.typeId, typeNodes.nodes.size());
+        }
+        return counts;
+    }
+
+    /**
+     * Collects the nodes whose block position lies within {@code radius} of the given point, optionally
+     * limited to one type. Only chunks overlapping the radius are visited, or the world's occupied chunks
+     * when there are fewer of those.
+     *
+     * @param nodeTypeId The type to match, or null for every type.
+     */
+    synchronized List<ActiveResourceNode> near(UUID worldId, double x, double y, double z, double radius, String nodeTypeId) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null || radius < 0) {
+            return Collections.emptyList();
+        }
+        NearbyCollector collector = new NearbyCollector(x, y, z, radius, nodeTypeId);
+        int minChunkX = (int) Math.floor(x - radius) >> 4;
+        int maxChunkX = (int) Math.floor(x + radius) >> 4;
+        int minChunkZ = (int) Math.floor(z - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(z + radius) >> 4;
+        long chunkArea = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (chunkArea > world.byChunk.size()) {
+            world.byChunk.forEach((key, chunkNodes) -> collector.collect(chunkNodes));
+        } else {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    ChunkNodes chunkNodes = world.byChunk.get(chunkKey(chunkX, chunkZ));
+                    if (chunkNodes != null) {
+                        collector.collect(chunkNodes);
+                    }
+                }
+            }
+        }
+        return collector.found;
+    }
+
+    /**
+     * @return The nodes inside the inclusive block box. Like {@link #near}, the world's occupied chunks are
+     * walked instead of the box's chunk columns when there are fewer of them.
+     */
+    synchronized List<ActiveResourceNode> inRegion(UUID worldId, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        WorldNodes world = worlds.get(worldId);
+        if (world == null || minX > maxX || minY > maxY || minZ > maxZ) {
+            return Collections.emptyList();
+        }
+        RegionCollector collector = new RegionCollector(minX, minY, minZ, maxX, maxY, maxZ);
+        int minChunkX = minX >> 4;
+        int maxChunkX = maxX >> 4;
+        int minChunkZ = minZ >> 4;
+        int maxChunkZ = maxZ >> 4;
+        long chunkArea = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (chunkArea > world.byChunk.size()) {
+            world.byChunk.forEach((key, chunkNodes) -> {
+                int chunkX = (int) (key >> 32);
+                int chunkZ = (int) key;
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    collector.collect(chunkNodes);
+                }
+            });
+        } else {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    ChunkNodes chunkNodes = world.byChunk.get(chunkKey(chunkX, chunkZ));
+                    if (chunkNodes != null) {
+                        collector.collect(chunkNodes);
+                    }
+                }
+            }
+        }
+        return collector.found;
+    }
+
+    /**
+     * @return A snapshot of every indexed node.
+     */
+    synchronized List<ActiveResourceNode> snapshot() {
+        List<ActiveResourceNode> nodes = new ArrayList<>(size);
+        for (WorldNodes world : worlds.values()) {
+            nodes.addAll(world.byBlock.values());
+        }
+        return nodes;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        worlds.clear();
+        types.clear();
+        size = 0;
+    }
+
+    private void removeFromType(ActiveResourceNode node) {
+        String key = typeKey(node.getNodeTypeId());
+        TypeNodes typeNodes = types.get(key);
+        if (typeNodes != null && typeNodes.nodes.remove(node) && typeNodes.nodes.isEmpty()) {
+            types.remove(key);
+        }
+    }
+
+    private static String typeKey(String nodeTypeId) {
+        return nodeTypeId.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class WorldNodes {
+        private final LongObjectHashMap<ActiveResourceNode> byBlock = new LongObjectHashMap<>();
+        private final LongObjectHashMap<ChunkNodes> byChunk = new LongObjectHashMap<>();
+    }
+
+    private static final class ChunkNodes {
+        private final List<ActiveResourceNode> nodes = new ArrayList<>(4);
+        private boolean verified;
+    }
+
+    private static final class TypeNodes {
+        private final String typeId;
+        // Identity-based: a node is indexed once, and replacing it at the same block must not collide.
+        private final Set<ActiveResourceNode> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private TypeNodes(String typeId) {
+            this.typeId = typeId;
+        }
+    }
+
+    private static final class NearbyCollector {
+        private final double x;
+        private final double y;
+        private final double z;
+        private final double radiusSquared;
+        private final String nodeTypeId;
+        private final List<ActiveResourceNode> found = new ArrayList<>();
+
+        private NearbyCollector(double x, double y, double z, double radius, String nodeTypeId) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.radiusSquared = radius * radius;
+            this.nodeTypeId = nodeTypeId;
+        }
+
+        private void collect(ChunkNodes chunkNodes) {
+            for (ActiveResourceNode node : chunkNodes.nodes) {
+                if (nodeTypeId != null && !nodeTypeId.equalsIgnoreCase(node.getNodeTypeId())) {
+                    continue;
+                }
+                Location location = node.getInternalLocation();
+                double dx = location.getBlockX() - x;
+                double dy = location.getBlockY() - y;
+                double dz = location.getBlockZ() - z;
+                if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                    found.add(node);
+                }
+            }
+        }
+    }
+
+    private static final class RegionCollector {
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxX;
+        private final int maxY;
+        private final int maxZ;
+        private final List<ActiveResourceNode> found = new ArrayList<>();
+
+        private RegionCollector(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+
+        private void collect(ChunkNodes chunkNodes) {
+            for (ActiveResourceNode node : chunkNodes.nodes) {
+                Location location = node.getInternalLocation();
+                int x = location.getBlockX();
+                int y = location.getBlockY();
+                int z = location.getBlockZ();
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                    found.add(node);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkVisitor {
+        void visit(UUID worldId, int chunkX, int chunkZ);
+    }
+}
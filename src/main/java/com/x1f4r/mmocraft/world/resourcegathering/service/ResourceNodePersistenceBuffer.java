@@ -0,0 +1,182 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.util.LongObjectHashMap;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRecord;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects resource node writes and flushes them off the main thread in batched transactions.
+ * <p>
+ * Changes are coalesced per block, so a node depleted and respawned between two flushes is written once with
+ * its latest state, and a node placed and removed again ends up as a single delete. Records are copied when
+ * queued, which keeps the flush thread away from live node objects. A batch that fails to commit is queued
+ * again unless a newer change for the same block arrived in the meantime.
+ */
+public class ResourceNodePersistenceBuffer {
+
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 2000L;
+
+    private final ResourceNodeRepository repository;
+    private final LoggingUtil logger;
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "MMOCraft-ResourceNodes-DB");
+        t.setDaemon(true);
+        return t;
+    });
+    // Held while draining and writing so a shutdown flush cannot overtake an older in-flight batch.
+    private final Object flushLock = new Object();
+    private final Map<UUID, LongObjectHashMap<Change>> pending = new HashMap<>();
+    private int pendingCount;
+
+    public ResourceNodePersistenceBuffer(ResourceNodeRepository repository, LoggingUtil logger) {
+        this(repository, logger, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    public ResourceNodePersistenceBuffer(ResourceNodeRepository repository, LoggingUtil logger, long flushIntervalMillis) {
+        this.repository = repository;
+        this.logger = logger;
+        long interval = Math.max(50L, flushIntervalMillis);
+        flushExecutor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void save(ActiveResourceNode node) {
+        enqueue(new Change(ResourceNodeRecord.of(node), false));
+    }
+
+    public void delete(ActiveResourceNode node) {
+        enqueue(new Change(ResourceNodeRecord.of(node), true));
+    }
+
+    private synchronized void enqueue(Change change) {
+        if (put(change, true) == null) {
+            pendingCount++;
+        }
+    }
+
+    private Change put(Change change, boolean replace) {
+        ResourceNodeRecord record = change.record();
+        LongObjectHashMap<Change> world = pending.computeIfAbsent(record.worldUid(), id -> new LongObjectHashMap<>());
+        long key = ResourceNodeIndex.blockKey(record.x(), record.y(), record.z());
+        Change existing = world.get(key);
+        if (existing == null || replace) {
+            world.put(key, change);
+        }
+        return existing;
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Writes every pending change in one transaction on the calling thread.
+     *
+     * @return The number of changes committed.
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            List<Change> batch = drain();
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<ResourceNodeRecord> upserts = new ArrayList<>(batch.size());
+            List<ResourceNodeRecord> deletes = new ArrayList<>();
+            for (Change change : batch) {
+                (change.delete() ? deletes : upserts).add(change.record());
+            }
+            try {
+                if (repository.writeBatch(upserts, deletes)) {
+                    return batch.size();
+                }
+            } catch (RuntimeException e) {
+                // Never let an exception cancel the scheduled flush.
+                logger.severe("Unexpected error while flushing resource node changes.", e);
+            }
+            requeue(batch);
+            return 0;
+        }
+    }
+
+    /**
+     * Flushes, then returns a copy of the changes for one world that are still queued because the write failed.
+     * Flushing waits for a batch the background thread is writing, so once this returns every change not in
+     * the copy is committed, and the copy holds the newest state of its blocks.
+     *
+     * @return The remaining changes keyed by {@link ResourceNodeIndex#blockKey}.
+     */
+    LongObjectHashMap<Change> flushForRead(UUID worldUid) {
+        synchronized (flushLock) {
+            flush();
+            return pendingFor(worldUid);
+        }
+    }
+
+    private synchronized LongObjectHashMap<Change> pendingFor(UUID worldUid) {
+        LongObjectHashMap<Change> copy = new LongObjectHashMap<>();
+        LongObjectHashMap<Change> world = pending.get(worldUid);
+        if (world != null) {
+            world.forEach(copy::put);
+        }
+        return copy;
+    }
+
+    private synchronized List<Change> drain() {
+        if (pendingCount == 0) {
+            return List.of();
+        }
+        List<Change> batch = new ArrayList<>(pendingCount);
+        for (LongObjectHashMap<Change> world : pending.values()) {
+            batch.addAll(world.values());
+        }
+        pending.clear();
+        pendingCount = 0;
+        return batch;
+    }
+
+    private synchronized void requeue(List<Change> batch) {
+        for (Change change : batch) {
+            if (put(change, false) == null) {
+                pendingCount++;
+            }
+        }
+        logger.warning(pendingCount + " resource node change(s) remain queued and will be retried on the next flush.");
+    }
+
+    /**
+     * Stops the background flush and writes whatever is still queued in a single transaction.
+     */
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("Resource node flush thread did not terminate in time, forcing shutdown.");
+                flushExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while waiting for the resource node flush thread to terminate.", e);
+            flushExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        int written = flush();
+        int remaining = getPendingCount();
+        if (remaining > 0) {
+            logger.severe(remaining + " resource node change(s) could not be persisted during shutdown.");
+        } else {
+            logger.info("Persisted " + written + " resource node change(s) in the final flush.");
+        }
+    }
+
+    record Change(ResourceNodeRecord record, boolean delete) {
+    }
+}
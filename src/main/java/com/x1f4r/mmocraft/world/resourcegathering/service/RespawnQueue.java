@@ -0,0 +1,161 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary min-heap of depleted nodes ordered by respawn time.
+ * <p>
+ * Each node appears at most once; scheduling it again moves its entry, and {@link #cancel} removes it in
+ * {@code O(log n)} through a per-node position lookup. {@link #pollDue} only touches entries that are due, so
+ * the per-tick cost is proportional to the number of nodes actually respawning rather than the node count.
+ */
+final class RespawnQueue {
+
+    private Entry[] heap = new Entry[16];
+    private final Map<ActiveResourceNode, Entry> entries = new IdentityHashMap<>();
+    private int size;
+
+    /**
+     * Schedules the node to respawn at the given time, replacing any earlier schedule for it.
+     */
+    synchronized void schedule(ActiveResourceNode node, long respawnAtMillis) {
+        Entry entry = entries.get(node);
+        if (entry != null) {
+            long previous = entry.respawnAtMillis;
+            entry.respawnAtMillis = respawnAtMillis;
+            if (respawnAtMillis < previous) {
+                siftUp(entry.position);
+            } else {
+                siftDown(entry.position);
+            }
+            return;
+        }
+        entry = new Entry(node, respawnAtMillis);
+        entries.put(node, entry);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        heap[size] = entry;
+        entry.position = size;
+        size++;
+        siftUp(entry.position);
+    }
+
+    /**
+     * @return True if the node had a pending respawn.
+     */
+    synchronized boolean cancel(ActiveResourceNode node) {
+        Entry entry = entries.remove(node);
+        if (entry == null) {
+            return false;
+        }
+        removeAt(entry.position);
+        return true;
+    }
+
+    /**
+     * Removes and returns every node whose respawn time is at or before {@code nowMillis}, earliest first.
+     */
+    synchronized List<ActiveResourceNode> pollDue(long nowMillis) {
+        if (size == 0 || heap[0].respawnAtMillis > nowMillis) {
+            return List.of();
+        }
+        List<ActiveResourceNode> due = new ArrayList<>();
+        while (size > 0 && heap[0].respawnAtMillis <= nowMillis) {
+            Entry entry = heap[0];
+            entries.remove(entry.node);
+            removeAt(0);
+            due.add(entry.node);
+        }
+        return due;
+    }
+
+    /**
+     * @return The earliest scheduled respawn time, or {@link Long#MAX_VALUE} when nothing is pending.
+     */
+    synchronized long nextRespawnAtMillis() {
+        return size == 0 ? Long.MAX_VALUE : heap[0].respawnAtMillis;
+    }
+
+    synchronized boolean isScheduled(ActiveResourceNode node) {
+        return entries.containsKey(node);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized void clear() {
+        Arrays.fill(heap, 0, size, null);
+        entries.clear();
+        size = 0;
+    }
+
+    private void removeAt(int position) {
+        size--;
+        Entry last = heap[size];
+        heap[size] = null;
+        if (position == size) {
+            return;
+        }
+        heap[position] = last;
+        last.position = position;
+        siftDown(position);
+        if (heap[position] == last) {
+            siftUp(position);
+        }
+    }
+
+    private void siftUp(int position) {
+        Entry entry = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            Entry parentEntry = heap[parent];
+            if (parentEntry.respawnAtMillis <= entry.respawnAtMillis) {
+                break;
+            }
+            heap[position] = parentEntry;
+            parentEntry.position = position;
+            position = parent;
+        }
+        heap[position] = entry;
+        entry.position = position;
+    }
+
+    private void siftDown(int position) {
+        Entry entry = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = (position << 1) + 1;
+            int right = child + 1;
+            if (right < size && heap[right].respawnAtMillis < heap[child].respawnAtMillis) {
+                child = right;
+            }
+            if (entry.respawnAtMillis <= heap[child].respawnAtMillis) {
+                break;
+            }
+            heap[position] = heap[child];
+            heap[position].position = position;
+            position = child;
+        }
+        heap[position] = entry;
+        entry.position = position;
+    }
+
+    private static final class Entry {
+        private final ActiveResourceNode node;
+        private long respawnAtMillis;
+        private int position;
+
+        Entry(ActiveResourceNode node, long respawnAtMillis) {
+            this.node = node;
+            this.respawnAtMillis = respawnAtMillis;
+        }
+    }
+}
@@ -9,8 +9,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Defines a rule for custom mob spawning, including the mob type, conditions,
@@ -29,7 +29,6 @@ public class CustomSpawnRule {
     private final long spawnIntervalTicks; // Minimum ticks between spawn attempts for this rule in a given area/chunk
 
     private transient long lastSpawnAttemptTickGlobal; // For global cooldown on rule if needed, not per-location
-    private final Random random = ThreadLocalRandom.current();
 
 
     public CustomSpawnRule(String ruleId, MobSpawnDefinition mobSpawnDefinition, List<SpawnCondition> conditions,
@@ -109,6 +108,15 @@ public class CustomSpawnRule {
      * @return True if the random roll succeeds, false otherwise.
      */
     public boolean rollForSpawn() {
+        return rollForSpawn(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Determines if a spawn should occur based on the rule's spawnChance.
+     * @param random The generator to roll with. Must only be used on the calling thread.
+     * @return True if the random roll succeeds, false otherwise.
+     */
+    public boolean rollForSpawn(RandomGenerator random) {
         return random.nextDouble() < this.spawnChance;
     }
 
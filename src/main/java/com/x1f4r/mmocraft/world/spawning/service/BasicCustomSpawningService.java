@@ -9,6 +9,7 @@ import com.x1f4r.mmocraft.loot.service.LootService;
 import com.x1f4r.mmocraft.playerdata.PlayerDataService;
 import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
 import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.util.RandomService;
 import com.x1f4r.mmocraft.world.spawning.model.CustomSpawnRule;
 import com.x1f4r.mmocraft.world.spawning.model.MobSpawnDefinition;
 import net.kyori.adventure.text.Component;
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 public class BasicCustomSpawningService implements CustomSpawningService {
@@ -43,6 +45,7 @@ public class BasicCustomSpawningService implements CustomSpawningService {
     private final CustomItemRegistry customItemRegistry;
     private final PlayerDataService playerDataService;
     private final GameplayConfigService gameplayConfigService;
+    private final RandomService randomService;
 
     private final List<CustomSpawnRule> spawnRules = new CopyOnWriteArrayList<>();
 
@@ -59,6 +62,18 @@ public class BasicCustomSpawningService implements CustomSpawningService {
                                       CustomItemRegistry customItemRegistry,
                                       PlayerDataService playerDataService,
                                       GameplayConfigService gameplayConfigService) {
+        this(plugin, logger, mobStatProvider, lootService, customItemRegistry, playerDataService, gameplayConfigService,
+                new RandomService());
+    }
+
+    public BasicCustomSpawningService(MMOCraftPlugin plugin,
+                                      LoggingUtil logger,
+                                      MobStatProvider mobStatProvider,
+                                      LootService lootService,
+                                      CustomItemRegistry customItemRegistry,
+                                      PlayerDataService playerDataService,
+                                      GameplayConfigService gameplayConfigService,
+                                      RandomService randomService) {
         this.plugin = plugin;
         this.logger = logger;
         this.mobStatProvider = mobStatProvider;
@@ -66,6 +81,7 @@ public class BasicCustomSpawningService implements CustomSpawningService {
         this.customItemRegistry = customItemRegistry;
         this.playerDataService = playerDataService;
         this.gameplayConfigService = gameplayConfigService;
+        this.randomService = randomService;
         logger.debug("BasicCustomSpawningService initialized.");
     }
 
@@ -116,6 +132,19 @@ public class BasicCustomSpawningService implements CustomSpawningService {
         }
     }
 
+    @Override
+    public void attemptSpawnsAround(Player player) {
+        if (player == null || player.isDead() || !player.isValid()) {
+            return;
+        }
+        List<World> worlds = Bukkit.getServer().getWorlds();
+        if (worlds.isEmpty()) {
+            return;
+        }
+        // Rule cooldowns are tracked against the primary world's clock, same as attemptSpawns().
+        attemptSpawnsAroundPlayer(player, worlds.get(0).getFullTime());
+    }
+
     private void attemptSpawnsAroundPlayer(Player player, long currentTick) {
         Location playerLocation = player.getLocation();
         int spawnAttemptRadius = 64;
@@ -124,9 +153,10 @@ public class BasicCustomSpawningService implements CustomSpawningService {
         if (world == null) {
             return;
         }
+        RandomGenerator random = randomService.current();
         for (int i = 0; i < attemptsPerPlayer; i++) {
-            double angle = Math.random() * Math.PI * 2;
-            double distance = 24 + (Math.random() * (spawnAttemptRadius - 24));
+            double angle = random.nextDouble() * Math.PI * 2;
+            double distance = 24 + (random.nextDouble() * (spawnAttemptRadius - 24));
             int x = (int) (playerLocation.getX() + Math.cos(angle) * distance);
             int z = (int) (playerLocation.getZ() + Math.sin(angle) * distance);
             Location potentialLocation = new Location(world, x, world.getHighestBlockYAt(x, z) + 1, z);
@@ -150,7 +180,7 @@ public class BasicCustomSpawningService implements CustomSpawningService {
             if (nearbyCount >= rule.getMaxNearbyEntities()) {
                 continue;
             }
-            if (rule.rollForSpawn()) {
+            if (rule.rollForSpawn(randomService.current())) {
                 spawnMob(loc, rule.getMobSpawnDefinition(), nearestPlayer);
                 rule.setLastSpawnAttemptTickGlobal(currentTick);
                 logger.fine("Successfully spawned " + rule.getMobSpawnDefinition().getDefinitionId() + " via rule " + rule.getRuleId() + " at " + loc.toVector());
@@ -1,6 +1,8 @@
 package com.x1f4r.mmocraft.world.spawning.service;
 
 import com.x1f4r.mmocraft.world.spawning.model.CustomSpawnRule;
+import org.bukkit.entity.Player;
+
 import java.util.List;
 
 /**
@@ -34,6 +36,13 @@ public interface CustomSpawningService {
      */
     void attemptSpawns();
 
+    /**
+     * Attempts custom mob spawns around a single player. Lets a scheduler spread spawn passes
+     * across ticks instead of handling every online player at once.
+     * @param player The player to spawn around.
+     */
+    void attemptSpawnsAround(Player player);
+
     /**
      * Called when the plugin is shutting down to clean up any resources or tasks.
      */
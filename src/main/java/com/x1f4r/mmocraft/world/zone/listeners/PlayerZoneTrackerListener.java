@@ -8,6 +8,7 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import com.x1f4r.mmocraft.world.zone.event.PlayerEnterZoneEvent;
 import com.x1f4r.mmocraft.world.zone.event.PlayerLeaveZoneEvent;
 import com.x1f4r.mmocraft.world.zone.model.Zone;
+import com.x1f4r.mmocraft.world.zone.model.ZoneMembership;
 import com.x1f4r.mmocraft.world.zone.service.ZoneManager;
 
 import org.bukkit.Location;
@@ -20,16 +21,36 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps each player's zone membership current and fires enter/leave events.
+ * <p>
+ * In {@link TrackingMode#EVENT} mode zones are re-evaluated from {@code PlayerMoveEvent}. In
+ * {@link TrackingMode#SAMPLED} mode move events are ignored and {@link #sampleTick(long, Iterable)} polls
+ * positions from the central tick instead: each player is re-sampled after roughly the number of ticks they
+ * need to cover the distance to the nearest possible zone boundary at their current speed, and never less
+ * often than every {@code maxSampleDelayTicks}. Teleports only schedule a sample for the next tick.
+ * <p>
+ * Both modes skip players whose block has not changed since the last evaluation, so a teleport followed
+ * by a move to the same block is handled once.
+ */
 public class PlayerZoneTrackerListener implements Listener {
 
+    public enum TrackingMode { EVENT, SAMPLED }
+
+    public static final int DEFAULT_MAX_SAMPLE_DELAY_TICKS = 10;
+    // Below this speed (blocks per tick) a player is treated as standing still.
+    private static final double MIN_TRACKED_SPEED = 0.05;
+
     private final ZoneManager zoneManager;
     private final LoggingUtil logger;
     private final EventBusService eventBusService;
+    private final Map<UUID, TrackedPosition> trackedPositions = new ConcurrentHashMap<>();
+    private volatile TrackingMode mode = TrackingMode.EVENT;
+    private volatile int maxSampleDelayTicks = DEFAULT_MAX_SAMPLE_DELAY_TICKS;
 
     public PlayerZoneTrackerListener(ZoneManager zoneManager, LoggingUtil logger, EventBusService eventBusService) {
         this.zoneManager = zoneManager;
@@ -38,29 +59,56 @@ public class PlayerZoneTrackerListener implements Listener {
         logger.debug("PlayerZoneTrackerListener initialized.");
     }
 
+    /**
+     * @param maxSampleDelayTicks Upper bound on how late a sampled enter/leave can be detected.
+     */
+    public void configure(TrackingMode mode, int maxSampleDelayTicks) {
+        this.mode = mode != null ? mode : TrackingMode.EVENT;
+        this.maxSampleDelayTicks = Math.max(1, maxSampleDelayTicks);
+        // Re-sample everyone promptly under the new settings.
+        trackedPositions.values().forEach(position -> position.nextSampleTick = Long.MIN_VALUE);
+        logger.info("Zone tracking mode set to " + this.mode + " (max sample delay " + this.maxSampleDelayTicks + " ticks).");
+    }
+
+    public TrackingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Forgets the last evaluated block of every player so the next move or sample re-evaluates zones,
+     * e.g. after zones were reloaded underneath players standing still.
+     */
+    public void invalidatePositions() {
+        trackedPositions.values().forEach(TrackedPosition::invalidate);
+    }
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        updatePlayerZones(player, null, player.getLocation()); // Treat join as a move from null location
+        updatePlayerZones(player, player.getLocation(), Long.MIN_VALUE); // Treat join as a move from nowhere
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
-        Set<String> oldZoneIds = zoneManager.getPlayerCurrentZoneIds(player);
+        ZoneMembership oldMembership = zoneManager.getPlayerZoneMembership(player.getUniqueId());
 
-        for (String zoneId : oldZoneIds) {
-            zoneManager.getZone(zoneId).ifPresent(zone -> {
+        oldMembership.forEach(denseId -> {
+            zoneManager.getZoneByDenseId(denseId).ifPresent(zone -> {
                 eventBusService.call(new PlayerLeaveZoneEvent(player, zone));
                 // No message to player as they are quitting
                 logger.fine("Player " + player.getName() + " left zone " + zone.getZoneName() + " on quit.");
             });
-        }
+        });
         zoneManager.clearPlayerZoneCache(player.getUniqueId());
+        trackedPositions.remove(player.getUniqueId());
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
+        if (mode == TrackingMode.SAMPLED) {
+            return;
+        }
         // Optimization: check if player actually moved to a new block
         if (event.getFrom().getBlockX() == event.getTo().getBlockX() &&
             event.getFrom().getBlockY() == event.getTo().getBlockY() &&
@@ -68,50 +116,132 @@ public class PlayerZoneTrackerListener implements Listener {
             event.getFrom().getWorld().equals(event.getTo().getWorld())) {
             return;
         }
-        updatePlayerZones(event.getPlayer(), event.getFrom(), event.getTo());
+        updatePlayerZones(event.getPlayer(), event.getTo(), Long.MIN_VALUE);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerTeleport(PlayerTeleportEvent event) {
-        // Teleports also trigger PlayerMoveEvent, but handling it explicitly can be clearer
-        // or allow for special logic if PlayerMoveEvent is too noisy.
-        // For now, PlayerMoveEvent should cover teleports as well.
-        // If specific teleport logic (e.g. different messages) is needed, it can be added here.
-        logger.finer("PlayerTeleportEvent for " + event.getPlayer().getName() + ", will be handled by PlayerMoveEvent logic.");
-         updatePlayerZones(event.getPlayer(), event.getFrom(), event.getTo());
+        if (mode == TrackingMode.SAMPLED) {
+            TrackedPosition position = trackedPositions.get(event.getPlayer().getUniqueId());
+            if (position != null) {
+                position.nextSampleTick = Long.MIN_VALUE;
+            }
+            logger.finer("PlayerTeleportEvent for " + event.getPlayer().getName() + ", zones will be sampled next tick.");
+            return;
+        }
+        // PlayerTeleportEvent has its own handler list, so PlayerMoveEvent handlers never see teleports.
+        updatePlayerZones(event.getPlayer(), event.getTo(), Long.MIN_VALUE);
     }
 
+    /**
+     * Samples every due player. Intended to run once per tick while in {@link TrackingMode#SAMPLED} mode.
+     */
+    public void sampleTick(long currentTick, Iterable<? extends Player> onlinePlayers) {
+        if (mode != TrackingMode.SAMPLED) {
+            return;
+        }
+        for (Player player : onlinePlayers) {
+            TrackedPosition position = trackedPositions.get(player.getUniqueId());
+            if (position != null && position.nextSampleTick > currentTick) {
+                continue;
+            }
+            Location location = player.getLocation();
+            updatePlayerZones(player, location, currentTick);
+            TrackedPosition sampled = trackedPositions.get(player.getUniqueId());
+            if (sampled != null) {
+                int clearance = zoneManager.getBoundaryClearance(location);
+                sampled.nextSampleTick = currentTick + nextSampleDelay(clearance, sampled.speedPerTick, maxSampleDelayTicks);
+            }
+        }
+    }
 
-    private void updatePlayerZones(Player player, Location fromLocation, Location toLocation) {
-        if (player == null || toLocation == null) return;
+    /**
+     * A player moving at most {@code speedPerTick} blocks along any axis cannot reach a block outside the
+     * clearance in fewer than {@code clearance / speed} ticks.
+     */
+    static int nextSampleDelay(int clearance, double speedPerTick, int maxDelayTicks) {
+        if (clearance <= 0) {
+            return 1;
+        }
+        double ticks = clearance / Math.max(speedPerTick, MIN_TRACKED_SPEED);
+        return (int) Math.max(1, Math.min(maxDelayTicks, Math.floor(ticks)));
+    }
 
-        List<Zone> zonesAtTo = zoneManager.getZones(toLocation);
-        Set<String> currentZoneIds = zonesAtTo.stream().map(Zone::getZoneId).map(String::toLowerCase).collect(Collectors.toSet());
-        Set<String> previousZoneIds = zoneManager.getPlayerCurrentZoneIds(player); // Already lowercase if stored correctly
+    /**
+     * @param sampleTick The sampling tick, or {@link Long#MIN_VALUE} when driven by an event.
+     */
+    private void updatePlayerZones(Player player, Location toLocation, long sampleTick) {
+        if (player == null || toLocation == null || toLocation.getWorld() == null) return;
+
+        TrackedPosition position = trackedPositions.computeIfAbsent(player.getUniqueId(), uuid -> new TrackedPosition());
+        String worldName = toLocation.getWorld().getName();
+        boolean sameBlock = position.isAt(worldName, toLocation.getBlockX(), toLocation.getBlockY(), toLocation.getBlockZ());
+        position.moveTo(worldName, toLocation, sampleTick);
+        if (sameBlock) {
+            return;
+        }
 
-        // Check for entered zones
-        for (Zone newZone : zonesAtTo) {
-            if (!previousZoneIds.contains(newZone.getZoneId().toLowerCase())) {
-                // Player entered newZone
-                player.sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize("&eNow entering: " + newZone.getZoneName()));
-                // player.sendMessage(StringUtil.colorize("&eNow entering: " + newZone.getZoneName()));
-                eventBusService.call(new PlayerEnterZoneEvent(player, newZone));
-                logger.fine("Player " + player.getName() + " entered zone " + newZone.getZoneName());
-            }
+        ZoneMembership current = zoneManager.getZoneMembership(toLocation);
+        ZoneMembership previous = zoneManager.getPlayerZoneMembership(player.getUniqueId());
+        // Lookups hand out shared instances for unchanged membership, so identity usually settles this.
+        if (current == previous || current.equals(previous)) {
+            return;
         }
+        ZoneMembership changed = current.xor(previous);
+
+        // Check for entered zones
+        changed.and(current).forEach(denseId -> zoneManager.getZoneByDenseId(denseId).ifPresent(newZone -> {
+            player.sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize("&eNow entering: " + newZone.getZoneName()));
+            eventBusService.call(new PlayerEnterZoneEvent(player, newZone));
+            logger.fine("Player " + player.getName() + " entered zone " + newZone.getZoneName());
+        }));
 
         // Check for exited zones
-        for (String oldZoneId : previousZoneIds) {
-            if (!currentZoneIds.contains(oldZoneId)) {
-                zoneManager.getZone(oldZoneId).ifPresent(oldZone -> {
-                    // Player exited oldZone
-                    player.sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize("&7Now leaving: " + oldZone.getZoneName()));
-                    // player.sendMessage(StringUtil.colorize("&7Now leaving: " + oldZone.getZoneName()));
-                    eventBusService.call(new PlayerLeaveZoneEvent(player, oldZone));
-                    logger.fine("Player " + player.getName() + " left zone " + oldZone.getZoneName());
-                });
+        changed.and(previous).forEach(denseId -> zoneManager.getZoneByDenseId(denseId).ifPresent(oldZone -> {
+            player.sendActionBar(LegacyComponentSerializer.legacyAmpersand().deserialize("&7Now leaving: " + oldZone.getZoneName()));
+            eventBusService.call(new PlayerLeaveZoneEvent(player, oldZone));
+            logger.fine("Player " + player.getName() + " left zone " + oldZone.getZoneName());
+        }));
+        zoneManager.updatePlayerZoneMembership(player.getUniqueId(), current);
+    }
+
+    private static final class TrackedPosition {
+        private String worldName;
+        private int blockX, blockY, blockZ;
+        private double x, y, z;
+        private long lastSampleTick = Long.MIN_VALUE;
+        private double speedPerTick;
+        private volatile long nextSampleTick = Long.MIN_VALUE;
+
+        void invalidate() {
+            worldName = null;
+            nextSampleTick = Long.MIN_VALUE;
+        }
+
+        boolean isAt(String world, int bx, int by, int bz) {
+            return world.equals(worldName) && bx == blockX && by == blockY && bz == blockZ;
+        }
+
+        void moveTo(String world, Location location, long sampleTick) {
+            if (sampleTick != Long.MIN_VALUE && lastSampleTick != Long.MIN_VALUE
+                    && sampleTick > lastSampleTick && world.equals(worldName)) {
+                double maxAxisDelta = Math.max(Math.abs(location.getX() - x),
+                        Math.max(Math.abs(location.getY() - y), Math.abs(location.getZ() - z)));
+                speedPerTick = maxAxisDelta / (sampleTick - lastSampleTick);
+            } else if (sampleTick != Long.MIN_VALUE) {
+                // First sample, or the player changed worlds: assume moving until proven otherwise.
+                speedPerTick = Double.MAX_VALUE;
+            }
+            if (sampleTick != Long.MIN_VALUE) {
+                lastSampleTick = sampleTick;
             }
+            worldName = world;
+            blockX = location.getBlockX();
+            blockY = location.getBlockY();
+            blockZ = location.getBlockZ();
+            x = location.getX();
+            y = location.getY();
+            z = location.getZ();
         }
-        zoneManager.updatePlayerCurrentZones(player.getUniqueId(), currentZoneIds);
     }
 }
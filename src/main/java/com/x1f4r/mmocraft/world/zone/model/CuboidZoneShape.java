@@ -0,0 +1,51 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+/**
+ * Axis-aligned box with inclusive corners; the original zone shape.
+ */
+public final class CuboidZoneShape implements ZoneShape {
+
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    public CuboidZoneShape(int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+    }
+
+    @Override public int getMinX() { return minX; }
+    @Override public int getMinY() { return minY; }
+    @Override public int getMinZ() { return minZ; }
+    @Override public int getMaxX() { return maxX; }
+    @Override public int getMaxY() { return maxY; }
+    @Override public int getMaxZ() { return maxZ; }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX &&
+               y >= minY && y <= maxY &&
+               z >= minZ && z <= maxZ;
+    }
+
+    @Override
+    public BoxRelation classify(int boxMinX, int boxMinY, int boxMinZ, int boxMaxX, int boxMaxY, int boxMaxZ) {
+        if (!boundsIntersect(boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ)) {
+            return BoxRelation.OUTSIDE;
+        }
+        if (minX <= boxMinX && maxX >= boxMaxX
+                && minY <= boxMinY && maxY >= boxMaxY
+                && minZ <= boxMinZ && maxZ >= boxMaxZ) {
+            return BoxRelation.INSIDE;
+        }
+        return BoxRelation.PARTIAL;
+    }
+
+    @Override
+    public String toString() {
+        return "cuboid[" + minX + "," + minY + "," + minZ + " -> " + maxX + "," + maxY + "," + maxZ + "]";
+    }
+}
@@ -0,0 +1,82 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+/**
+ * Vertical cylinder around the centre of block ({@code centerX}, {@code centerZ}). A block belongs to the
+ * cylinder when its centre lies within {@code radius} of the centre block's centre.
+ */
+public final class CylinderZoneShape implements ZoneShape {
+
+    private final int centerX, centerZ;
+    private final double radius;
+    private final double radiusSquared;
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    public CylinderZoneShape(int centerX, int centerZ, double radius, int y1, int y2) {
+        if (!(radius >= 0.0) || Double.isInfinite(radius)) {
+            throw new IllegalArgumentException("Cylinder radius must be a finite, non-negative number: " + radius);
+        }
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.radiusSquared = radius * radius;
+        int extent = (int) Math.floor(radius);
+        this.minX = centerX - extent;
+        this.maxX = centerX + extent;
+        this.minZ = centerZ - extent;
+        this.maxZ = centerZ + extent;
+        this.minY = Math.min(y1, y2);
+        this.maxY = Math.max(y1, y2);
+    }
+
+    @Override public int getMinX() { return minX; }
+    @Override public int getMinY() { return minY; }
+    @Override public int getMinZ() { return minZ; }
+    @Override public int getMaxX() { return maxX; }
+    @Override public int getMaxY() { return maxY; }
+    @Override public int getMaxZ() { return maxZ; }
+
+    public int getCenterX() { return centerX; }
+    public int getCenterZ() { return centerZ; }
+    public double getRadius() { return radius; }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        if (y < minY || y > maxY || x < minX || x > maxX || z < minZ || z > maxZ) {
+            return false;
+        }
+        long dx = x - centerX;
+        long dz = z - centerZ;
+        return dx * dx + dz * dz <= radiusSquared;
+    }
+
+    @Override
+    public BoxRelation classify(int boxMinX, int boxMinY, int boxMinZ, int boxMaxX, int boxMaxY, int boxMaxZ) {
+        if (!boundsIntersect(boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ)) {
+            return BoxRelation.OUTSIDE;
+        }
+        long nearX = axisDistance(centerX, boxMinX, boxMaxX);
+        long nearZ = axisDistance(centerZ, boxMinZ, boxMaxZ);
+        if (nearX * nearX + nearZ * nearZ > radiusSquared) {
+            return BoxRelation.OUTSIDE;
+        }
+        long farX = Math.max(Math.abs((long) boxMinX - centerX), Math.abs((long) boxMaxX - centerX));
+        long farZ = Math.max(Math.abs((long) boxMinZ - centerZ), Math.abs((long) boxMaxZ - centerZ));
+        boolean columnInside = farX * farX + farZ * farZ <= radiusSquared;
+        if (columnInside && minY <= boxMinY && maxY >= boxMaxY) {
+            return BoxRelation.INSIDE;
+        }
+        return BoxRelation.PARTIAL;
+    }
+
+    private static long axisDistance(int center, int min, int max) {
+        if (center < min) return (long) min - center;
+        if (center > max) return (long) center - max;
+        return 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "cylinder[center " + centerX + "," + centerZ + ", radius " + radius + ", y " + minY + "-" + maxY + "]";
+    }
+}
@@ -0,0 +1,173 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Vertical prism over a simple polygon given by its block-coordinate vertices in the X/Z plane. Blocks on
+ * the polygon's outline count as inside, matching the inclusive corners of {@link CuboidZoneShape}.
+ * <p>
+ * Construction builds an edge table: the distinct vertex Z values split the polygon into horizontal slabs,
+ * and each slab stores the indices of the edges spanning it. A containment test binary-searches the slab
+ * and runs the crossing test only against that slab's edges, so detailed outlines cost roughly
+ * {@code O(log n + edges per slab)} instead of {@code O(n)}. All arithmetic is exact on longs.
+ */
+public final class PolygonZoneShape implements ZoneShape {
+
+    private final int[] vertexX;
+    private final int[] vertexZ;
+    // Edge i runs from (edgeX1[i], edgeZ1[i]) to (edgeX2[i], edgeZ2[i]).
+    private final int[] edgeX1, edgeZ1, edgeX2, edgeZ2;
+    private final int[] slabZ;
+    private final int[][] slabEdges;
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    public PolygonZoneShape(int[] xs, int[] zs, int y1, int y2) {
+        if (xs == null || zs == null || xs.length != zs.length) {
+            throw new IllegalArgumentException("Polygon needs matching X and Z coordinate arrays.");
+        }
+        if (xs.length < 3) {
+            throw new IllegalArgumentException("Polygon needs at least 3 points, got " + xs.length + ".");
+        }
+        this.vertexX = xs.clone();
+        this.vertexZ = zs.clone();
+        int n = xs.length;
+        this.edgeX1 = new int[n];
+        this.edgeZ1 = new int[n];
+        this.edgeX2 = new int[n];
+        this.edgeZ2 = new int[n];
+        int lowX = Integer.MAX_VALUE, highX = Integer.MIN_VALUE, lowZ = Integer.MAX_VALUE, highZ = Integer.MIN_VALUE;
+        TreeSet<Integer> distinctZ = new TreeSet<>();
+        for (int i = 0; i < n; i++) {
+            int next = (i + 1) % n;
+            edgeX1[i] = xs[i];
+            edgeZ1[i] = zs[i];
+            edgeX2[i] = xs[next];
+            edgeZ2[i] = zs[next];
+            lowX = Math.min(lowX, xs[i]);
+            highX = Math.max(highX, xs[i]);
+            lowZ = Math.min(lowZ, zs[i]);
+            highZ = Math.max(highZ, zs[i]);
+            distinctZ.add(zs[i]);
+        }
+        this.minX = lowX;
+        this.maxX = highX;
+        this.minZ = lowZ;
+        this.maxZ = highZ;
+        this.minY = Math.min(y1, y2);
+        this.maxY = Math.max(y1, y2);
+
+        this.slabZ = distinctZ.stream().mapToInt(Integer::intValue).toArray();
+        this.slabEdges = new int[Math.max(0, slabZ.length - 1)][];
+        for (int slab = 0; slab < slabEdges.length; slab++) {
+            int bottom = slabZ[slab];
+            int top = slabZ[slab + 1];
+            List<Integer> spanning = new ArrayList<>();
+            for (int edge = 0; edge < n; edge++) {
+                if (Math.min(edgeZ1[edge], edgeZ2[edge]) <= bottom && Math.max(edgeZ1[edge], edgeZ2[edge]) >= top) {
+                    spanning.add(edge);
+                }
+            }
+            slabEdges[slab] = spanning.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    @Override public int getMinX() { return minX; }
+    @Override public int getMinY() { return minY; }
+    @Override public int getMinZ() { return minZ; }
+    @Override public int getMaxX() { return maxX; }
+    @Override public int getMaxY() { return maxY; }
+    @Override public int getMaxZ() { return maxZ; }
+
+    public int getVertexCount() {
+        return vertexX.length;
+    }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        if (y < minY || y > maxY || x < minX || x > maxX || z < minZ || z > maxZ) {
+            return false;
+        }
+        int slab = Arrays.binarySearch(slabZ, z);
+        if (slab >= 0) {
+            // The row passes through a vertex, and horizontal edges may lie on it: test every edge.
+            return containsInPlane(x, z, null);
+        }
+        return containsInPlane(x, z, slabEdges[-slab - 2]);
+    }
+
+    /**
+     * Crossing-number test with explicit on-edge detection.
+     *
+     * @param edges Edge indices to test, or null for all edges.
+     */
+    private boolean containsInPlane(int x, int z, int[] edges) {
+        boolean inside = false;
+        int count = edges == null ? edgeX1.length : edges.length;
+        for (int i = 0; i < count; i++) {
+            int edge = edges == null ? i : edges[i];
+            long x1 = edgeX1[edge], z1 = edgeZ1[edge], x2 = edgeX2[edge], z2 = edgeZ2[edge];
+            long cross = (x2 - x1) * (z - z1) - (z2 - z1) * (x - x1);
+            if (cross == 0
+                    && x >= Math.min(x1, x2) && x <= Math.max(x1, x2)
+                    && z >= Math.min(z1, z2) && z <= Math.max(z1, z2)) {
+                return true;
+            }
+            if ((z1 > z) != (z2 > z)) {
+                // x lies left of the edge's crossing point; the sign of cross depends on the edge direction.
+                if (z2 > z1 ? cross > 0 : cross < 0) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    @Override
+    public BoxRelation classify(int boxMinX, int boxMinY, int boxMinZ, int boxMaxX, int boxMaxY, int boxMaxZ) {
+        if (!boundsIntersect(boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ)) {
+            return BoxRelation.OUTSIDE;
+        }
+        for (int edge = 0; edge < edgeX1.length; edge++) {
+            if (segmentTouchesRect(edge, boxMinX, boxMinZ, boxMaxX, boxMaxZ)) {
+                return BoxRelation.PARTIAL;
+            }
+        }
+        // No edge touches the column, so every block in it shares the status of any one block.
+        if (!containsInPlane(boxMinX, boxMinZ, null)) {
+            return BoxRelation.OUTSIDE;
+        }
+        return minY <= boxMinY && maxY >= boxMaxY ? BoxRelation.INSIDE : BoxRelation.PARTIAL;
+    }
+
+    private boolean segmentTouchesRect(int edge, int rectMinX, int rectMinZ, int rectMaxX, int rectMaxZ) {
+        long x1 = edgeX1[edge], z1 = edgeZ1[edge], x2 = edgeX2[edge], z2 = edgeZ2[edge];
+        if (Math.max(x1, x2) < rectMinX || Math.min(x1, x2) > rectMaxX
+                || Math.max(z1, z2) < rectMinZ || Math.min(z1, z2) > rectMaxZ) {
+            return false;
+        }
+        // The segment's bounds overlap the rectangle; it touches it unless all four corners lie strictly
+        // on the same side of the segment's line.
+        long dx = x2 - x1;
+        long dz = z2 - z1;
+        int positive = 0;
+        int negative = 0;
+        long[] cornersX = {rectMinX, rectMaxX, rectMinX, rectMaxX};
+        long[] cornersZ = {rectMinZ, rectMinZ, rectMaxZ, rectMaxZ};
+        for (int i = 0; i < 4; i++) {
+            long side = dx * (cornersZ[i] - z1) - dz * (cornersX[i] - x1);
+            if (side > 0) positive++;
+            else if (side < 0) negative++;
+            else return true;
+        }
+        return positive > 0 && negative > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "polygon[" + vertexX.length + " points, y " + minY + "-" + maxY + "]";
+    }
+}
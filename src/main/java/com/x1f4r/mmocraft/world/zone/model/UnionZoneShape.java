@@ -0,0 +1,82 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+import java.util.List;
+
+/**
+ * A zone made of several shapes; a block is inside if any part contains it. The union's bounding box
+ * rejects points outside all parts before any part is consulted.
+ */
+public final class UnionZoneShape implements ZoneShape {
+
+    private final ZoneShape[] parts;
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    public UnionZoneShape(List<? extends ZoneShape> parts) {
+        if (parts == null || parts.isEmpty()) {
+            throw new IllegalArgumentException("A union shape needs at least one part.");
+        }
+        this.parts = parts.toArray(new ZoneShape[0]);
+        int lowX = Integer.MAX_VALUE, lowY = Integer.MAX_VALUE, lowZ = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE, highY = Integer.MIN_VALUE, highZ = Integer.MIN_VALUE;
+        for (ZoneShape part : this.parts) {
+            lowX = Math.min(lowX, part.getMinX());
+            lowY = Math.min(lowY, part.getMinY());
+            lowZ = Math.min(lowZ, part.getMinZ());
+            highX = Math.max(highX, part.getMaxX());
+            highY = Math.max(highY, part.getMaxY());
+            highZ = Math.max(highZ, part.getMaxZ());
+        }
+        this.minX = lowX;
+        this.minY = lowY;
+        this.minZ = lowZ;
+        this.maxX = highX;
+        this.maxY = highY;
+        this.maxZ = highZ;
+    }
+
+    @Override public int getMinX() { return minX; }
+    @Override public int getMinY() { return minY; }
+    @Override public int getMinZ() { return minZ; }
+    @Override public int getMaxX() { return maxX; }
+    @Override public int getMaxY() { return maxY; }
+    @Override public int getMaxZ() { return maxZ; }
+
+    public List<ZoneShape> getParts() {
+        return List.of(parts);
+    }
+
+    @Override
+    public boolean contains(int x, int y, int z) {
+        if (y < minY || y > maxY || x < minX || x > maxX || z < minZ || z > maxZ) {
+            return false;
+        }
+        for (ZoneShape part : parts) {
+            if (part.contains(x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BoxRelation classify(int boxMinX, int boxMinY, int boxMinZ, int boxMaxX, int boxMaxY, int boxMaxZ) {
+        if (!boundsIntersect(boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ)) {
+            return BoxRelation.OUTSIDE;
+        }
+        boolean anyPartial = false;
+        for (ZoneShape part : parts) {
+            BoxRelation relation = part.classify(boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ);
+            if (relation == BoxRelation.INSIDE) {
+                return BoxRelation.INSIDE;
+            }
+            anyPartial |= relation == BoxRelation.PARTIAL;
+        }
+        return anyPartial ? BoxRelation.PARTIAL : BoxRelation.OUTSIDE;
+    }
+
+    @Override
+    public String toString() {
+        return "union[" + parts.length + " parts]";
+    }
+}
@@ -9,16 +9,16 @@ import java.util.Map;
 import java.util.Objects;
 
 /**
- * Represents a defined geographical area (cuboid) within a specific world,
- * potentially having special properties.
+ * Represents a defined geographical area within a specific world,
+ * potentially having special properties. The area is a {@link ZoneShape};
+ * plain cuboids remain the default.
  */
 public class Zone {
 
     private final String zoneId;
     private final String zoneName; // Optional, displayable name
     private final String worldName;
-    private final int minX, minY, minZ;
-    private final int maxX, maxY, maxZ;
+    private final ZoneShape shape;
     private final Map<String, Object> properties;
 
     /**
@@ -39,16 +39,23 @@ public class Zone {
     public Zone(String zoneId, String zoneName, String worldName,
                 int x1, int y1, int z1, int x2, int y2, int z2,
                 Map<String, Object> properties) {
+        this(zoneId, zoneName, worldName, new CuboidZoneShape(x1, y1, z1, x2, y2, z2), properties);
+    }
+
+    /**
+     * Constructs a new Zone covering an arbitrary shape.
+     *
+     * @param zoneId Unique identifier for the zone.
+     * @param zoneName Displayable name for the zone (can be null).
+     * @param worldName The name of the world this zone belongs to.
+     * @param shape The volume the zone covers.
+     * @param properties A map of custom properties for this zone (can be null or empty).
+     */
+    public Zone(String zoneId, String zoneName, String worldName, ZoneShape shape, Map<String, Object> properties) {
         this.zoneId = Objects.requireNonNull(zoneId, "zoneId cannot be null");
         this.zoneName = zoneName; // Nullable
         this.worldName = Objects.requireNonNull(worldName, "worldName cannot be null");
-
-        this.minX = Math.min(x1, x2);
-        this.minY = Math.min(y1, y2);
-        this.minZ = Math.min(z1, z2);
-        this.maxX = Math.max(x1, x2);
-        this.maxY = Math.max(y1, y2);
-        this.maxZ = Math.max(z1, z2);
+        this.shape = Objects.requireNonNull(shape, "shape cannot be null");
 
         this.properties = (properties != null) ? Collections.unmodifiableMap(new HashMap<>(properties)) : Collections.emptyMap();
     }
@@ -63,12 +70,14 @@ public class Zone {
     public String getZoneId() { return zoneId; }
     public String getZoneName() { return zoneName != null ? zoneName : zoneId; } // Fallback to ID if name is null
     public String getWorldName() { return worldName; }
-    public int getMinX() { return minX; }
-    public int getMinY() { return minY; }
-    public int getMinZ() { return minZ; }
-    public int getMaxX() { return maxX; }
-    public int getMaxY() { return maxY; }
-    public int getMaxZ() { return maxZ; }
+    public ZoneShape getShape() { return shape; }
+    // Bounding box of the shape; exact for cuboids.
+    public int getMinX() { return shape.getMinX(); }
+    public int getMinY() { return shape.getMinY(); }
+    public int getMinZ() { return shape.getMinZ(); }
+    public int getMaxX() { return shape.getMaxX(); }
+    public int getMaxY() { return shape.getMaxY(); }
+    public int getMaxZ() { return shape.getMaxZ(); }
     public Map<String, Object> getProperties() { return properties; } // Already unmodifiable
 
     @SuppressWarnings("unchecked")
@@ -114,9 +123,7 @@ public class Zone {
         if (!this.worldName.equalsIgnoreCase(worldName)) {
             return false;
         }
-        return x >= minX && x <= maxX &&
-               y >= minY && y <= maxY &&
-               z >= minZ && z <= maxZ;
+        return shape.contains(x, y, z);
     }
 
     @Override
@@ -138,8 +145,7 @@ public class Zone {
                "zoneId='" + zoneId + '\'' +
                (zoneName != null ? ", zoneName='" + zoneName + '\'' : "") +
                ", worldName='" + worldName + '\'' +
-               ", minX=" + minX + ", minY=" + minY + ", minZ=" + minZ +
-               ", maxX=" + maxX + ", maxY=" + maxY + ", maxZ=" + maxZ +
+               ", shape=" + shape +
                ", properties=" + properties.size() +
                '}';
     }
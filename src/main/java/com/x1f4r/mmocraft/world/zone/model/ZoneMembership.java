@@ -0,0 +1,158 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable set of dense zone ids backed by a {@code long[]} bitset.
+ * <p>
+ * Dense ids are assigned by the zone manager when a zone is registered, so a player standing in a handful
+ * of zones is represented by one or two words. Set operations work word by word; enter/leave detection is
+ * {@code current.xor(previous)} masked with either side.
+ */
+public final class ZoneMembership {
+
+    public static final ZoneMembership EMPTY = new ZoneMembership(new long[0]);
+
+    private final long[] words;
+
+    private ZoneMembership(long[] words) {
+        this.words = words;
+    }
+
+    public static ZoneMembership of(int... denseIds) {
+        if (denseIds.length == 0) {
+            return EMPTY;
+        }
+        int maxId = -1;
+        for (int id : denseIds) {
+            checkId(id);
+            maxId = Math.max(maxId, id);
+        }
+        long[] words = new long[(maxId >>> 6) + 1];
+        for (int id : denseIds) {
+            words[id >>> 6] |= 1L << id;
+        }
+        return new ZoneMembership(words);
+    }
+
+    private static void checkId(int denseId) {
+        if (denseId < 0) {
+            throw new IllegalArgumentException("Dense zone id must not be negative: " + denseId);
+        }
+    }
+
+    private static ZoneMembership trimmed(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0L) {
+            length--;
+        }
+        if (length == 0) {
+            return EMPTY;
+        }
+        return new ZoneMembership(length == words.length ? words : Arrays.copyOf(words, length));
+    }
+
+    public boolean contains(int denseId) {
+        int word = denseId >>> 6;
+        return denseId >= 0 && word < words.length && (words[word] & (1L << denseId)) != 0L;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public ZoneMembership with(int denseId) {
+        checkId(denseId);
+        if (contains(denseId)) {
+            return this;
+        }
+        long[] result = Arrays.copyOf(words, Math.max(words.length, (denseId >>> 6) + 1));
+        result[denseId >>> 6] |= 1L << denseId;
+        return new ZoneMembership(result);
+    }
+
+    public ZoneMembership without(int denseId) {
+        if (!contains(denseId)) {
+            return this;
+        }
+        long[] result = words.clone();
+        result[denseId >>> 6] &= ~(1L << denseId);
+        return trimmed(result);
+    }
+
+    public ZoneMembership or(ZoneMembership other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] |= shorter[i];
+        }
+        return new ZoneMembership(result);
+    }
+
+    public ZoneMembership xor(ZoneMembership other) {
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] ^= shorter[i];
+        }
+        return trimmed(result);
+    }
+
+    public ZoneMembership and(ZoneMembership other) {
+        int length = Math.min(words.length, other.words.length);
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return trimmed(result);
+    }
+
+    /**
+     * Visits set ids in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0L) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ZoneMembership other)) return false;
+        return Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ZoneMembership{");
+        forEach(id -> builder.append(builder.length() > 15 ? "," : "").append(id));
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,47 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+/**
+ * The volume a {@link Zone} covers, in block coordinates.
+ * <p>
+ * Every shape exposes an inclusive axis-aligned bounding box that callers (and the shape itself) use to
+ * reject points cheaply before running the exact test. Horizontal tests for non-box shapes are made
+ * against block centres, so a block is either fully in or fully out.
+ */
+public interface ZoneShape {
+
+    /**
+     * How a shape relates to an axis-aligned box of blocks.
+     */
+    enum BoxRelation {
+        /** Every block in the box is inside the shape. */
+        INSIDE,
+        /** No block in the box is inside the shape. */
+        OUTSIDE,
+        /** Some blocks may be inside and some outside; callers must test individual blocks. */
+        PARTIAL
+    }
+
+    int getMinX();
+    int getMinY();
+    int getMinZ();
+    int getMaxX();
+    int getMaxY();
+    int getMaxZ();
+
+    boolean contains(int x, int y, int z);
+
+    /**
+     * Classifies an inclusive box of blocks against this shape. Implementations may answer
+     * {@link BoxRelation#PARTIAL} whenever they cannot cheaply prove either of the other answers.
+     */
+    BoxRelation classify(int minX, int minY, int minZ, int maxX, int maxY, int maxZ);
+
+    /**
+     * @return True if the inclusive box overlaps this shape's bounding box.
+     */
+    default boolean boundsIntersect(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return getMaxX() >= minX && getMinX() <= maxX
+                && getMaxY() >= minY && getMinY() <= maxY
+                && getMaxZ() >= minZ && getMinZ() <= maxZ;
+    }
+}
@@ -67,7 +67,7 @@ public class ZoneStatApplier {
             return;
         }
         profile.clearTemporaryStatModifiers(buildSourceKey(event.getZone().getZoneId()));
-        runtimeAttributeService.syncPlayer(player);
+        runtimeAttributeService.markDirty(player);
     }
 
     private void applyZoneModifiers(Player player, Zone zone) {
@@ -82,7 +82,7 @@ public class ZoneStatApplier {
         } else {
             profile.setTemporaryStatModifiers(sourceKey, modifiers);
         }
-        runtimeAttributeService.syncPlayer(player);
+        runtimeAttributeService.markDirty(player);
     }
 
     private Map<Stat, Double> extractModifiers(Zone zone) {
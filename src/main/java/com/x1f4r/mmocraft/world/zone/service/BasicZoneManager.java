@@ -4,14 +4,19 @@ import com.x1f4r.mmocraft.config.ConfigManager;
 import com.x1f4r.mmocraft.core.MMOCraftPlugin;
 import com.x1f4r.mmocraft.eventbus.EventBusService;
 import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.zone.model.CuboidZoneShape;
+import com.x1f4r.mmocraft.world.zone.model.CylinderZoneShape;
+import com.x1f4r.mmocraft.world.zone.model.PolygonZoneShape;
+import com.x1f4r.mmocraft.world.zone.model.UnionZoneShape;
 import com.x1f4r.mmocraft.world.zone.model.Zone;
+import com.x1f4r.mmocraft.world.zone.model.ZoneMembership;
+import com.x1f4r.mmocraft.world.zone.model.ZoneShape;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 public class BasicZoneManager implements ZoneManager {
 
@@ -21,7 +26,15 @@ public class BasicZoneManager implements ZoneManager {
     private volatile boolean copyDefaultZoneFile;
 
     private final Map<String, Zone> zonesById = new ConcurrentHashMap<>();
-    private final Map<UUID, Set<String>> playerCurrentZoneIds = new ConcurrentHashMap<>();
+    private final Map<UUID, ZoneMembership> playerMemberships = new ConcurrentHashMap<>();
+    // Dense ids are interned per lowercase zone id and never reused, so a stale bit can only ever refer
+    // to the same zone id (or to a slot that is now empty).
+    private final Map<String, Integer> denseIdsByZoneKey = new ConcurrentHashMap<>();
+    private volatile Zone[] zonesByDenseId = new Zone[0];
+    // Rebuilt from zonesById on every change and swapped in whole, so lookups never see a partial index.
+    private volatile ZoneSpatialIndex spatialIndex = ZoneSpatialIndex.empty();
+    private volatile int sectionCacheCapacity = ZoneSectionCache.DEFAULT_CAPACITY;
+    private volatile ZoneSectionCache sectionCache = new ZoneSectionCache(spatialIndex, this::denseIdOf, sectionCacheCapacity);
 
     public BasicZoneManager(MMOCraftPlugin plugin, LoggingUtil logger, EventBusService eventBusService, boolean copyDefaultZoneFile) {
         this.plugin = plugin;
@@ -36,9 +49,11 @@ public class BasicZoneManager implements ZoneManager {
         ConfigManager zoneConfigManager = new ConfigManager(plugin, "zones.yml", logger, copyDefaultZoneFile);
         ConfigurationSection root = zoneConfigManager.getConfig();
         zonesById.clear();
+        clearDenseSlots();
         logger.info("Loading zones from zones.yml...");
 
         if (root == null) {
+            rebuildSpatialIndex();
             logger.warning("zones.yml is empty or could not be read. No zones will be loaded.");
             return;
         }
@@ -59,12 +74,7 @@ public class BasicZoneManager implements ZoneManager {
                     continue;
                 }
 
-                int minX = root.getInt(path + ".min-x");
-                int minY = root.getInt(path + ".min-y");
-                int minZ = root.getInt(path + ".min-z");
-                int maxX = root.getInt(path + ".max-x");
-                int maxZ = root.getInt(path + ".max-z");
-                int maxY = root.getInt(path + ".max-y", 256);
+                ZoneShape shape = parseShape(root.getConfigurationSection(path), zoneId);
 
                 Map<String, Object> properties = new HashMap<>();
                 ConfigurationSection propertiesSection = root.getConfigurationSection(path + ".properties");
@@ -74,38 +84,140 @@ public class BasicZoneManager implements ZoneManager {
                     }
                 }
 
-                Zone zone = new Zone(zoneId, name, world, minX, minY, minZ, maxX, maxY, maxZ, properties);
-                registerZone(zone);
+                Zone zone = new Zone(zoneId, name, world, shape, properties);
+                putZone(zone);
                 loadedCount++;
             } catch (Exception e) {
                 logger.severe("Failed to load zone with ID '" + zoneId + "' from zones.yml. Please check configuration.", e);
             }
         }
+        rebuildSpatialIndex();
         logger.info("Successfully loaded " + loadedCount + " zones.");
     }
 
 
+    /**
+     * Reads a zone's shape. {@code shape} defaults to {@code cuboid}; {@code union} zones list their
+     * parts as sub-sections under {@code parts}, each with its own {@code shape}.
+     */
+    private ZoneShape parseShape(ConfigurationSection section, String context) {
+        String type = section.getString("shape", "cuboid").toLowerCase(Locale.ROOT);
+        int minY = section.getInt("min-y");
+        int maxY = section.getInt("max-y", 256);
+        switch (type) {
+            case "cuboid":
+                return new CuboidZoneShape(section.getInt("min-x"), minY, section.getInt("min-z"),
+                        section.getInt("max-x"), maxY, section.getInt("max-z"));
+            case "cylinder":
+                if (!section.isSet("radius")) {
+                    throw new IllegalArgumentException("Cylinder zone '" + context + "' is missing 'radius'.");
+                }
+                return new CylinderZoneShape(section.getInt("center-x"), section.getInt("center-z"),
+                        section.getDouble("radius"), minY, maxY);
+            case "polygon": {
+                List<String> points = section.getStringList("points");
+                int[] xs = new int[points.size()];
+                int[] zs = new int[points.size()];
+                for (int i = 0; i < points.size(); i++) {
+                    String[] parts = points.get(i).split(",");
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException("Polygon zone '" + context + "' has invalid point '"
+                                + points.get(i) + "'. Expected \"x, z\".");
+                    }
+                    xs[i] = Integer.parseInt(parts[0].trim());
+                    zs[i] = Integer.parseInt(parts[1].trim());
+                }
+                return new PolygonZoneShape(xs, zs, minY, maxY);
+            }
+            case "union": {
+                ConfigurationSection partsSection = section.getConfigurationSection("parts");
+                if (partsSection == null) {
+                    throw new IllegalArgumentException("Union zone '" + context + "' is missing 'parts'.");
+                }
+                List<ZoneShape> parts = new ArrayList<>();
+                for (String partKey : partsSection.getKeys(false)) {
+                    ConfigurationSection partSection = partsSection.getConfigurationSection(partKey);
+                    if (partSection == null) {
+                        throw new IllegalArgumentException("Union zone '" + context + "' part '" + partKey + "' is not a section.");
+                    }
+                    parts.add(parseShape(partSection, context + "." + partKey));
+                }
+                return new UnionZoneShape(parts);
+            }
+            default:
+                throw new IllegalArgumentException("Zone '" + context + "' has unknown shape '" + type + "'.");
+        }
+    }
+
     @Override
     public void registerZone(Zone zone) {
+        if (putZone(zone)) {
+            rebuildSpatialIndex();
+        }
+    }
+
+    /**
+     * Adds the zone without touching the spatial index, so bulk loads rebuild it only once.
+     */
+    private boolean putZone(Zone zone) {
         if (zone == null || zone.getZoneId() == null || zone.getZoneId().trim().isEmpty()) {
             logger.warning("Attempted to register null zone or zone with invalid ID.");
-            return;
+            return false;
         }
-        Zone existing = zonesById.put(zone.getZoneId().toLowerCase(), zone);
+        String key = zone.getZoneId().toLowerCase();
+        Zone existing = zonesById.put(key, zone);
+        setDenseSlot(internDenseId(key), zone);
         if (existing != null) {
             logger.warning("Zone ID '" + zone.getZoneId() + "' was already registered. Overwriting '" + existing.getZoneName() + "'.");
         } else {
             logger.info("Registered zone: " + zone.getZoneName() + " (ID: " + zone.getZoneId() + ")");
         }
+        return true;
+    }
+
+    private synchronized int internDenseId(String zoneKey) {
+        return denseIdsByZoneKey.computeIfAbsent(zoneKey, key -> denseIdsByZoneKey.size());
+    }
+
+    private synchronized void setDenseSlot(int denseId, Zone zone) {
+        Zone[] slots = zonesByDenseId;
+        if (denseId >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(denseId + 1, slots.length * 2));
+        } else {
+            slots = slots.clone();
+        }
+        slots[denseId] = zone;
+        zonesByDenseId = slots;
+    }
+
+    private synchronized void clearDenseSlots() {
+        zonesByDenseId = new Zone[zonesByDenseId.length];
+    }
+
+    private int denseIdOf(Zone zone) {
+        Integer denseId = denseIdsByZoneKey.get(zone.getZoneId().toLowerCase());
+        return denseId != null ? denseId : internDenseId(zone.getZoneId().toLowerCase());
+    }
+
+    private void rebuildSpatialIndex() {
+        spatialIndex = ZoneSpatialIndex.build(zonesById.values());
+        sectionCache = new ZoneSectionCache(spatialIndex, this::denseIdOf, sectionCacheCapacity);
+        logger.debug("Rebuilt zone spatial index with " + spatialIndex.size() + " zones.");
     }
 
     @Override
     public void unregisterZone(String zoneId) {
         if (zoneId == null) return;
-        Zone removed = zonesById.remove(zoneId.toLowerCase());
+        String key = zoneId.toLowerCase();
+        Zone removed = zonesById.remove(key);
         if (removed != null) {
+            Integer denseId = denseIdsByZoneKey.get(key);
+            if (denseId != null) {
+                setDenseSlot(denseId, null);
+                playerMemberships.replaceAll((uuid, membership) -> membership.without(denseId));
+            }
+            rebuildSpatialIndex();
             logger.info("Unregistered zone: " + removed.getZoneName() + " (ID: " + zoneId + ")");
-            playerCurrentZoneIds.values().forEach(set -> set.remove(zoneId.toLowerCase()));
         }
     }
 
@@ -123,48 +235,85 @@ public class BasicZoneManager implements ZoneManager {
 
     @Override
     public List<Zone> getZones(int x, int y, int z, String worldName) {
-         if (worldName == null) return Collections.emptyList();
-        return zonesById.values().stream()
-                .filter(zone -> zone.contains(x, y, z, worldName))
-                .collect(Collectors.toList());
+        return sectionCache.query(x, y, z, worldName);
+    }
+
+
+    @Override
+    public ZoneMembership getZoneMembership(Location location) {
+        if (location == null || location.getWorld() == null) return ZoneMembership.EMPTY;
+        return sectionCache.membership(location.getBlockX(), location.getBlockY(), location.getBlockZ(), location.getWorld().getName());
+    }
+
+    @Override
+    public int getBoundaryClearance(Location location) {
+        if (location == null || location.getWorld() == null) return 0;
+        return sectionCache.clearance(location.getBlockX(), location.getBlockY(), location.getBlockZ(), location.getWorld().getName());
     }
 
+    @Override
+    public Optional<Zone> getZoneByDenseId(int denseId) {
+        Zone[] slots = zonesByDenseId;
+        if (denseId < 0 || denseId >= slots.length) return Optional.empty();
+        return Optional.ofNullable(slots[denseId]);
+    }
+
+    @Override
+    public ZoneMembership getPlayerZoneMembership(UUID playerUUID) {
+        if (playerUUID == null) return ZoneMembership.EMPTY;
+        return playerMemberships.getOrDefault(playerUUID, ZoneMembership.EMPTY);
+    }
+
+    @Override
+    public void updatePlayerZoneMembership(UUID playerUUID, ZoneMembership membership) {
+        if (membership == null || membership.isEmpty()) {
+            playerMemberships.remove(playerUUID);
+        } else {
+            playerMemberships.put(playerUUID, membership);
+        }
+        logger.finest("Updated current zones for player " + playerUUID + " to: " + membership);
+    }
 
     @Override
     public Set<String> getPlayerCurrentZoneIds(Player player) {
         if (player == null) return Collections.emptySet();
-        return Collections.unmodifiableSet(playerCurrentZoneIds.getOrDefault(player.getUniqueId(), Collections.emptySet()));
+        ZoneMembership membership = getPlayerZoneMembership(player.getUniqueId());
+        if (membership.isEmpty()) return Collections.emptySet();
+        Set<String> zoneIds = new HashSet<>();
+        membership.forEach(denseId -> getZoneByDenseId(denseId).ifPresent(zone -> zoneIds.add(zone.getZoneId().toLowerCase())));
+        return Collections.unmodifiableSet(zoneIds);
     }
 
     @Override
     public List<Zone> getPlayerCurrentZones(Player player) {
         if (player == null) return Collections.emptyList();
-        Set<String> zoneIds = playerCurrentZoneIds.get(player.getUniqueId());
-        if (zoneIds == null || zoneIds.isEmpty()) {
+        ZoneMembership membership = getPlayerZoneMembership(player.getUniqueId());
+        if (membership.isEmpty()) {
             return Collections.emptyList();
         }
-        return zoneIds.stream()
-                      .map(this::getZone)
-                      .filter(Optional::isPresent)
-                      .map(Optional::get)
-                      .collect(Collectors.toList());
+        List<Zone> zones = new ArrayList<>(membership.size());
+        membership.forEach(denseId -> getZoneByDenseId(denseId).ifPresent(zones::add));
+        return zones;
     }
 
 
     @Override
     public void updatePlayerCurrentZones(UUID playerUUID, Set<String> currentZoneIds) {
-        if (currentZoneIds == null || currentZoneIds.isEmpty()) {
-            playerCurrentZoneIds.remove(playerUUID);
-        } else {
-            Set<String> lowerCaseZoneIds = currentZoneIds.stream().map(String::toLowerCase).collect(Collectors.toSet());
-            playerCurrentZoneIds.put(playerUUID, new HashSet<>(lowerCaseZoneIds));
+        ZoneMembership membership = ZoneMembership.EMPTY;
+        if (currentZoneIds != null) {
+            for (String zoneId : currentZoneIds) {
+                Integer denseId = zoneId == null ? null : denseIdsByZoneKey.get(zoneId.toLowerCase());
+                if (denseId != null) {
+                    membership = membership.with(denseId);
+                }
+            }
         }
-        logger.finest("Updated current zones for player " + playerUUID + " to: " + currentZoneIds);
+        updatePlayerZoneMembership(playerUUID, membership);
     }
 
     @Override
     public void clearPlayerZoneCache(UUID playerUUID) {
-        Set<String> removed = playerCurrentZoneIds.remove(playerUUID);
+        ZoneMembership removed = playerMemberships.remove(playerUUID);
         if (removed != null) {
             logger.fine("Cleared zone cache for player " + playerUUID);
         }
@@ -176,6 +325,24 @@ public class BasicZoneManager implements ZoneManager {
         logger.info("Zone manager default file copy set to " + copyDefaultZoneFile + ".");
     }
 
+    /**
+     * Sets how many 16x16x16 sections of zone membership are kept. Applies immediately by dropping the
+     * current cache.
+     */
+    public void setSectionCacheCapacity(int capacity) {
+        int sanitized = Math.max(1, capacity);
+        if (sanitized == sectionCacheCapacity) {
+            return;
+        }
+        sectionCacheCapacity = sanitized;
+        sectionCache = new ZoneSectionCache(spatialIndex, this::denseIdOf, sanitized);
+        logger.debug("Zone section cache capacity set to " + sanitized + ".");
+    }
+
+    public int getCachedSectionCount() {
+        return sectionCache.size();
+    }
+
     @Override
     public Collection<Zone> getAllZones() {
         return Collections.unmodifiableCollection(zonesById.values());
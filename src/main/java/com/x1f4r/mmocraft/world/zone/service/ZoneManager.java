@@ -1,6 +1,7 @@
 package com.x1f4r.mmocraft.world.zone.service;
 
 import com.x1f4r.mmocraft.world.zone.model.Zone;
+import com.x1f4r.mmocraft.world.zone.model.ZoneMembership;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
@@ -50,7 +51,7 @@ public interface ZoneManager {
     /**
      * Finds all registered zones that contain the given Bukkit Location.
      * @param location The location to check.
-     * @return A List of Zones containing the location. May be empty.
+     * @return An unmodifiable List of Zones containing the location. May be empty.
      */
     List<Zone> getZones(Location location);
 
@@ -60,10 +61,48 @@ public interface ZoneManager {
      * @param y Y coordinate.
      * @param z Z coordinate.
      * @param worldName Name of the world.
-     * @return A List of Zones containing the coordinates. May be empty.
+     * @return An unmodifiable List of Zones containing the coordinates. May be empty.
      */
     List<Zone> getZones(int x, int y, int z, String worldName);
 
+    /**
+     * Finds the zones containing the given Location as a bitset of dense zone ids.
+     * Unchanged membership is typically returned as the same instance.
+     * @param location The location to check.
+     * @return The membership at the location, {@link ZoneMembership#EMPTY} if none.
+     */
+    ZoneMembership getZoneMembership(Location location);
+
+    /**
+     * Estimates how far a location can move before its zone membership could change.
+     * Used to space out zone sampling for players far from any zone boundary.
+     * @param location The location to check.
+     * @return The number of blocks the location can move along any axis with unchanged membership; 0 if
+     *         a zone boundary may be adjacent.
+     */
+    int getBoundaryClearance(Location location);
+
+    /**
+     * Resolves a dense zone id, as used in {@link ZoneMembership}, back to its zone.
+     * @param denseId The dense id assigned when the zone was registered.
+     * @return The zone, or empty if no zone currently holds that id.
+     */
+    Optional<Zone> getZoneByDenseId(int denseId);
+
+    /**
+     * Gets the zones the player is currently known to be inside, as dense zone ids.
+     * @param playerUUID The UUID of the player.
+     * @return The player's membership, {@link ZoneMembership#EMPTY} if none.
+     */
+    ZoneMembership getPlayerZoneMembership(UUID playerUUID);
+
+    /**
+     * Updates the internal cache of which zones a player is currently in.
+     * @param playerUUID The UUID of the player.
+     * @param membership The zones the player is now in.
+     */
+    void updatePlayerZoneMembership(UUID playerUUID, ZoneMembership membership);
+
 
     /**
      * Gets the set of Zone IDs the player is currently known to be inside.
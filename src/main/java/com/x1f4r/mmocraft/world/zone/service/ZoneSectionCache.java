@@ -0,0 +1,306 @@
+package com.x1f4r.mmocraft.world.zone.service;
+
+import com.x1f4r.mmocraft.util.LongObjectHashMap;
+import com.x1f4r.mmocraft.world.zone.model.Zone;
+import com.x1f4r.mmocraft.world.zone.model.ZoneMembership;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Caches zone membership per 16x16x16 section on top of a {@link ZoneSpatialIndex}.
+ * <p>
+ * The first lookup in a section classifies every candidate zone's shape against the section's box. Zones that cover
+ * the whole section are stored as a precomputed immutable list, and zones that miss it entirely are dropped,
+ * so a section with no zone edge in it answers every block from that list without any containment checks.
+ * Only zones whose boundary cuts through the section are tested per block. Each section also carries the
+ * matching {@link ZoneMembership} bitsets, keyed by the dense ids the zone manager assigns.
+ * <p>
+ * The cache holds at most {@code capacity} sections and evicts the least recently used one. Instances are
+ * bound to a single index; the zone manager replaces the cache whenever it rebuilds the index.
+ */
+public final class ZoneSectionCache {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    static final int SECTION_SHIFT = 4;
+    private static final int SECTION_SIZE = 1 << SECTION_SHIFT;
+
+    private final ZoneSpatialIndex index;
+    private final ToIntFunction<Zone> denseIds;
+    private final int capacity;
+    private final Map<String, LongObjectHashMap<Section>> sectionsByWorld = new HashMap<>();
+    // Sentinel of a circular doubly linked list ordered from least (head.next) to most recently used.
+    private final Section head = new Section();
+    // Sections with the same membership share one list instance, so callers can detect "no change" by identity.
+    private final Map<List<Zone>, List<Zone>> internedLists = new HashMap<>();
+    private final Map<ZoneMembership, ZoneMembership> internedMemberships = new HashMap<>();
+    private int size;
+
+    public ZoneSectionCache(ZoneSpatialIndex index, ToIntFunction<Zone> denseIds, int capacity) {
+        this.index = index;
+        this.denseIds = denseIds;
+        this.capacity = Math.max(1, capacity);
+        head.prev = head;
+        head.next = head;
+    }
+
+    /**
+     * @return An immutable list of the zones containing the block, never null.
+     */
+    public synchronized List<Zone> query(int x, int y, int z, String worldName) {
+        if (worldName == null) {
+            return Collections.emptyList();
+        }
+        return section(x, y, z, worldName).query(x, y, z, worldName);
+    }
+
+    /**
+     * @return The dense ids of the zones containing the block. Unchanged membership yields the same instance.
+     */
+    public synchronized ZoneMembership membership(int x, int y, int z, String worldName) {
+        if (worldName == null) {
+            return ZoneMembership.EMPTY;
+        }
+        return section(x, y, z, worldName).membership(x, y, z, worldName);
+    }
+
+    /**
+     * Returns how many blocks the given block can move along every axis without its zone membership
+     * possibly changing: 0 inside a section that a zone edge cuts through, otherwise the distance to the
+     * section's faces, plus one section if all 26 neighbouring sections hold exactly the same zones.
+     */
+    public synchronized int clearance(int x, int y, int z, String worldName) {
+        if (worldName == null) {
+            return 0;
+        }
+        Section center = section(x, y, z, worldName);
+        if (center.boundary.length > 0) {
+            return 0;
+        }
+        int clearance = Math.min(axisClearance(x), Math.min(axisClearance(y), axisClearance(z)));
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) {
+                        continue;
+                    }
+                    Section neighbour = section(x + dx * SECTION_SIZE, y + dy * SECTION_SIZE, z + dz * SECTION_SIZE, worldName);
+                    if (neighbour.boundary.length > 0 || neighbour.inside != center.inside) {
+                        return clearance;
+                    }
+                }
+            }
+        }
+        return clearance + SECTION_SIZE;
+    }
+
+    private static int axisClearance(int coordinate) {
+        int offset = coordinate & (SECTION_SIZE - 1);
+        return Math.min(offset, SECTION_SIZE - 1 - offset);
+    }
+
+    private Section section(int x, int y, int z, String worldName) {
+        LongObjectHashMap<Section> sections = sectionsByWorld.get(worldName);
+        if (sections == null) {
+            sections = new LongObjectHashMap<>();
+            sectionsByWorld.put(worldName, sections);
+        }
+        int sectionX = x >> SECTION_SHIFT;
+        int sectionY = y >> SECTION_SHIFT;
+        int sectionZ = z >> SECTION_SHIFT;
+        long key = sectionKey(sectionX, sectionY, sectionZ);
+        Section section = sections.get(key);
+        if (section == null) {
+            section = classify(sectionX, sectionY, sectionZ, worldName);
+            section.key = key;
+            section.owner = sections;
+            sections.put(key, section);
+            linkLast(section);
+            if (++size > capacity) {
+                evict(head.next);
+            }
+        } else if (section != head.prev) {
+            unlink(section);
+            linkLast(section);
+        }
+        return section;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void clear() {
+        sectionsByWorld.clear();
+        internedLists.clear();
+        internedMemberships.clear();
+        head.prev = head;
+        head.next = head;
+        size = 0;
+    }
+
+    static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        // 22 bits each for X/Z covers the +/-30M block world border; 20 bits for Y is far beyond build height.
+        return ((long) (sectionX & 0x3FFFFF) << 42)
+                | ((long) (sectionZ & 0x3FFFFF) << 20)
+                | (sectionY & 0xFFFFF);
+    }
+
+    private Section classify(int sectionX, int sectionY, int sectionZ, String worldName) {
+        int minX = sectionX << SECTION_SHIFT;
+        int minY = sectionY << SECTION_SHIFT;
+        int minZ = sectionZ << SECTION_SHIFT;
+        int maxX = minX + SECTION_SIZE - 1;
+        int maxY = minY + SECTION_SIZE - 1;
+        int maxZ = minZ + SECTION_SIZE - 1;
+
+        List<Zone> inside = new ArrayList<>();
+        List<Zone> boundary = new ArrayList<>();
+        for (Zone zone : index.columnCandidates(sectionX, sectionZ, worldName)) {
+            if (!zone.getWorldName().equalsIgnoreCase(worldName)) {
+                continue;
+            }
+            switch (zone.getShape().classify(minX, minY, minZ, maxX, maxY, maxZ)) {
+                case INSIDE -> inside.add(zone);
+                case PARTIAL -> boundary.add(zone);
+                case OUTSIDE -> { }
+            }
+        }
+        Section section = new Section(inside, boundary);
+        section.inside = intern(section.inside);
+        section.insideAndBoundary = intern(section.insideAndBoundary);
+        section.boundaryIds = new int[section.boundary.length];
+        for (int i = 0; i < section.boundary.length; i++) {
+            section.boundaryIds[i] = denseIds.applyAsInt(section.boundary[i]);
+        }
+        section.insideBits = intern(membershipOf(section.inside));
+        section.allBits = intern(membershipOf(section.insideAndBoundary));
+        return section;
+    }
+
+    private ZoneMembership membershipOf(List<Zone> zones) {
+        int[] ids = new int[zones.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = denseIds.applyAsInt(zones.get(i));
+        }
+        return ZoneMembership.of(ids);
+    }
+
+    private ZoneMembership intern(ZoneMembership membership) {
+        if (membership.isEmpty()) {
+            return ZoneMembership.EMPTY;
+        }
+        ZoneMembership existing = internedMemberships.putIfAbsent(membership, membership);
+        return existing != null ? existing : membership;
+    }
+
+    private List<Zone> intern(List<Zone> zones) {
+        if (zones.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Zone> existing = internedLists.putIfAbsent(zones, zones);
+        return existing != null ? existing : zones;
+    }
+
+    private void linkLast(Section section) {
+        section.prev = head.prev;
+        section.next = head;
+        head.prev.next = section;
+        head.prev = section;
+    }
+
+    private void unlink(Section section) {
+        section.prev.next = section.next;
+        section.next.prev = section.prev;
+        section.prev = null;
+        section.next = null;
+    }
+
+    private void evict(Section section) {
+        unlink(section);
+        section.owner.remove(section.key);
+        size--;
+    }
+
+    private static final class Section {
+        private List<Zone> inside;
+        private final Zone[] boundary;
+        private List<Zone> insideAndBoundary;
+        private int[] boundaryIds = new int[0];
+        private ZoneMembership insideBits = ZoneMembership.EMPTY;
+        private ZoneMembership allBits = ZoneMembership.EMPTY;
+        long key;
+        LongObjectHashMap<Section> owner;
+        Section prev;
+        Section next;
+
+        Section() {
+            this(List.of(), List.of());
+        }
+
+        Section(List<Zone> inside, List<Zone> boundary) {
+            this.inside = List.copyOf(inside);
+            this.boundary = boundary.toArray(new Zone[0]);
+            if (boundary.isEmpty()) {
+                this.insideAndBoundary = this.inside;
+            } else {
+                List<Zone> all = new ArrayList<>(inside);
+                all.addAll(boundary);
+                this.insideAndBoundary = List.copyOf(all);
+            }
+        }
+
+        List<Zone> query(int x, int y, int z, String worldName) {
+            if (boundary.length == 0) {
+                return inside;
+            }
+            int matches = 0;
+            for (Zone zone : boundary) {
+                if (zone.contains(x, y, z, worldName)) {
+                    matches++;
+                }
+            }
+            if (matches == 0) {
+                return inside;
+            }
+            if (matches == boundary.length) {
+                return insideAndBoundary;
+            }
+            List<Zone> result = new ArrayList<>(inside.size() + matches);
+            result.addAll(inside);
+            for (Zone zone : boundary) {
+                if (zone.contains(x, y, z, worldName)) {
+                    result.add(zone);
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        ZoneMembership membership(int x, int y, int z, String worldName) {
+            if (boundary.length == 0) {
+                return insideBits;
+            }
+            ZoneMembership result = insideBits;
+            int matches = 0;
+            for (int i = 0; i < boundary.length; i++) {
+                if (boundary[i].contains(x, y, z, worldName)) {
+                    matches++;
+                    result = result.with(boundaryIds[i]);
+                }
+            }
+            if (matches == 0) {
+                return insideBits;
+            }
+            return matches == boundary.length ? allBits : result;
+        }
+    }
+}
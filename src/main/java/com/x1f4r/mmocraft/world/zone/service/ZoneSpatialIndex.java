@@ -0,0 +1,226 @@
+package com.x1f4r.mmocraft.world.zone.service;
+
+import com.x1f4r.mmocraft.util.LongObjectHashMap;
+import com.x1f4r.mmocraft.world.zone.model.Zone;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable per-world grid over zone bounding boxes.
+ * <p>
+ * Each world maps chunk columns (16x16 blocks) to the zones whose bounds overlap that column, so a point
+ * lookup is one primitive hash probe followed by exact checks against a handful of candidates. Zones that
+ * would span more than {@link #MAX_CELLS_PER_ZONE} columns are kept in a short per-world list instead, so a
+ * world-sized region does not blow up the grid.
+ * <p>
+ * When every candidate in a column matches, the column's precomputed immutable list is returned as-is;
+ * empty results are {@link Collections#emptyList()}. Lookups therefore only allocate for points where
+ * overlapping zones partially cover the same column.
+ */
+public final class ZoneSpatialIndex {
+
+    static final int CELL_SHIFT = 4;
+    static final int MAX_CELLS_PER_ZONE = 4096;
+
+    private static final ZoneSpatialIndex EMPTY = new ZoneSpatialIndex(Collections.emptyMap(), 0);
+
+    private static final Zone[] NO_ZONES = new Zone[0];
+    private static final WorldIndex NO_WORLD = new WorldIndex(new LongObjectHashMap<>(), NO_ZONES);
+
+    private final Map<String, WorldIndex> worlds;
+    // World names as passed by callers, so the hot path skips lowercasing once a name has been seen.
+    private final Map<String, WorldIndex> worldsByExactName = new ConcurrentHashMap<>();
+    private final int zoneCount;
+
+    private ZoneSpatialIndex(Map<String, WorldIndex> worlds, int zoneCount) {
+        this.worlds = worlds;
+        this.zoneCount = zoneCount;
+    }
+
+    public static ZoneSpatialIndex empty() {
+        return EMPTY;
+    }
+
+    public static ZoneSpatialIndex build(Collection<Zone> zones) {
+        if (zones == null || zones.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, List<Zone>> zonesByWorld = new HashMap<>();
+        for (Zone zone : zones) {
+            if (zone != null) {
+                zonesByWorld.computeIfAbsent(worldKey(zone.getWorldName()), key -> new ArrayList<>()).add(zone);
+            }
+        }
+        Map<String, WorldIndex> worlds = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<String, List<Zone>> entry : zonesByWorld.entrySet()) {
+            worlds.put(entry.getKey(), WorldIndex.build(entry.getValue()));
+            count += entry.getValue().size();
+        }
+        return new ZoneSpatialIndex(Map.copyOf(worlds), count);
+    }
+
+    /**
+     * @return An immutable list of the zones containing the block, never null.
+     */
+    public List<Zone> query(int x, int y, int z, String worldName) {
+        if (worldName == null) {
+            return Collections.emptyList();
+        }
+        WorldIndex world = resolveWorld(worldName);
+        if (world == NO_WORLD) {
+            return Collections.emptyList();
+        }
+        return world.query(x, y, z, worldName);
+    }
+
+    /**
+     * @return Every zone whose bounds overlap the chunk column, before any exact containment check.
+     */
+    Zone[] columnCandidates(int cellX, int cellZ, String worldName) {
+        if (worldName == null) {
+            return NO_ZONES;
+        }
+        WorldIndex world = resolveWorld(worldName);
+        if (world == NO_WORLD) {
+            return NO_ZONES;
+        }
+        Cell cell = world.cells.get(cellKey(cellX, cellZ));
+        if (cell == null) {
+            return world.largeZones;
+        }
+        if (world.largeZones.length == 0) {
+            return cell.zones;
+        }
+        Zone[] combined = new Zone[cell.zones.length + world.largeZones.length];
+        System.arraycopy(cell.zones, 0, combined, 0, cell.zones.length);
+        System.arraycopy(world.largeZones, 0, combined, cell.zones.length, world.largeZones.length);
+        return combined;
+    }
+
+    private WorldIndex resolveWorld(String worldName) {
+        WorldIndex world = worldsByExactName.get(worldName);
+        if (world == null) {
+            world = worlds.getOrDefault(worldKey(worldName), NO_WORLD);
+            worldsByExactName.put(worldName, world);
+        }
+        return world;
+    }
+
+    public int size() {
+        return zoneCount;
+    }
+
+    static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static String worldKey(String worldName) {
+        // Zone#contains compares world names case-insensitively, so the index must too.
+        return worldName.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class WorldIndex {
+        private final LongObjectHashMap<Cell> cells;
+        private final Zone[] largeZones;
+        private final List<Zone> allLargeZones;
+
+        private WorldIndex(LongObjectHashMap<Cell> cells, Zone[] largeZones) {
+            this.cells = cells;
+            this.largeZones = largeZones;
+            this.allLargeZones = List.of(largeZones);
+        }
+
+        static WorldIndex build(List<Zone> zones) {
+            Map<Long, List<Zone>> cellZones = new HashMap<>();
+            List<Zone> large = new ArrayList<>();
+            for (Zone zone : zones) {
+                int minCellX = zone.getMinX() >> CELL_SHIFT;
+                int maxCellX = zone.getMaxX() >> CELL_SHIFT;
+                int minCellZ = zone.getMinZ() >> CELL_SHIFT;
+                int maxCellZ = zone.getMaxZ() >> CELL_SHIFT;
+                long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+                if (cellCount > MAX_CELLS_PER_ZONE) {
+                    large.add(zone);
+                    continue;
+                }
+                for (int cx = minCellX; cx <= maxCellX; cx++) {
+                    for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                        cellZones.computeIfAbsent(cellKey(cx, cz), key -> new ArrayList<>(2)).add(zone);
+                    }
+                }
+            }
+            LongObjectHashMap<Cell> cells = new LongObjectHashMap<>(cellZones.size());
+            cellZones.forEach((key, list) -> cells.put(key, new Cell(list)));
+            return new WorldIndex(cells, large.toArray(NO_ZONES));
+        }
+
+        List<Zone> query(int x, int y, int z, String worldName) {
+            Cell cell = cells.get(cellKey(x >> CELL_SHIFT, z >> CELL_SHIFT));
+            if (largeZones.length == 0) {
+                return cell == null ? Collections.emptyList() : cell.query(x, y, z, worldName);
+            }
+            if (cell == null) {
+                return filter(largeZones, allLargeZones, x, y, z, worldName);
+            }
+            List<Zone> fromCell = cell.query(x, y, z, worldName);
+            List<Zone> fromLarge = filter(largeZones, allLargeZones, x, y, z, worldName);
+            if (fromLarge.isEmpty()) {
+                return fromCell;
+            }
+            if (fromCell.isEmpty()) {
+                return fromLarge;
+            }
+            List<Zone> merged = new ArrayList<>(fromCell.size() + fromLarge.size());
+            merged.addAll(fromCell);
+            merged.addAll(fromLarge);
+            return Collections.unmodifiableList(merged);
+        }
+    }
+
+    private static final class Cell {
+        private final Zone[] zones;
+        private final List<Zone> all;
+
+        Cell(List<Zone> zones) {
+            this.zones = zones.toArray(new Zone[0]);
+            this.all = List.of(this.zones);
+        }
+
+        List<Zone> query(int x, int y, int z, String worldName) {
+            return filter(zones, all, x, y, z, worldName);
+        }
+    }
+
+    private static List<Zone> filter(Zone[] candidates, List<Zone> all, int x, int y, int z, String worldName) {
+        if (candidates.length == 1) {
+            return candidates[0].contains(x, y, z, worldName) ? all : Collections.emptyList();
+        }
+        int matches = 0;
+        for (Zone candidate : candidates) {
+            if (candidate.contains(x, y, z, worldName)) {
+                matches++;
+            }
+        }
+        if (matches == candidates.length) {
+            return all;
+        }
+        if (matches == 0) {
+            return Collections.emptyList();
+        }
+        List<Zone> result = new ArrayList<>(matches);
+        for (Zone candidate : candidates) {
+            if (candidate.contains(x, y, z, worldName)) {
+                result.add(candidate);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
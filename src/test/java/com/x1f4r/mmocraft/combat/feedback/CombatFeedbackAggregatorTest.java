@@ -0,0 +1,80 @@
+package com.x1f4r.mmocraft.combat.feedback;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CombatFeedbackAggregatorTest {
+
+    private Player player;
+    private UUID playerId;
+
+    @BeforeEach
+    void setUp() {
+        player = mock(Player.class);
+        playerId = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.isOnline()).thenReturn(true);
+    }
+
+    @Test
+    void mergesHitsWithinWindowIntoSingleActionBar() {
+        CombatFeedbackAggregator aggregator = new CombatFeedbackAggregator(20, 40);
+
+        aggregator.recordHit(player, "Zombie", 50.0, false);
+        aggregator.recordHit(player, "Zombie", 40.0, true);
+        aggregator.recordHit(player, "Zombie", 52.0, false);
+        aggregator.flush();
+
+        ArgumentCaptor<Component> captor = ArgumentCaptor.forClass(Component.class);
+        verify(player, times(1)).sendActionBar(captor.capture());
+        assertEquals("Zombie - 3 hits, 142 dmg (Critical!)",
+                PlainTextComponentSerializer.plainText().serialize(captor.getValue()));
+
+        aggregator.flush();
+        verify(player, times(1)).sendActionBar(any(Component.class));
+    }
+
+    @Test
+    void startsNewBurstAfterWindowExpires() {
+        CombatFeedbackAggregator aggregator = new CombatFeedbackAggregator(2, 0);
+
+        aggregator.recordHit(player, "Skeleton", 10.0, false);
+        aggregator.flush();
+        aggregator.flush();
+        aggregator.flush();
+        aggregator.recordHit(player, "Skeleton", 7.5, false);
+        aggregator.flush();
+
+        ArgumentCaptor<Component> captor = ArgumentCaptor.forClass(Component.class);
+        verify(player, times(2)).sendActionBar(captor.capture());
+        assertEquals("Skeleton - 7.5", PlainTextComponentSerializer.plainText().serialize(captor.getValue()));
+    }
+
+    @Test
+    void holdsActionBarAfterFlush() {
+        CombatFeedbackAggregator aggregator = new CombatFeedbackAggregator(5, 3);
+        assertFalse(aggregator.isHoldingActionBar(playerId));
+
+        aggregator.recordHit(player, "Spider", 4.0, false);
+        assertTrue(aggregator.isHoldingActionBar(playerId));
+        aggregator.flush();
+        assertTrue(aggregator.isHoldingActionBar(playerId));
+
+        aggregator.flush();
+        aggregator.flush();
+        aggregator.flush();
+        assertFalse(aggregator.isHoldingActionBar(playerId));
+    }
+}
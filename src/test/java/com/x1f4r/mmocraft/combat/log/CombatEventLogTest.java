@@ -0,0 +1,95 @@
+package com.x1f4r.mmocraft.combat.log;
+
+import com.x1f4r.mmocraft.combat.model.DamageInstance;
+import com.x1f4r.mmocraft.combat.model.DamageType;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CombatEventLogTest {
+
+    private UUID playerId;
+    private Entity zombie;
+    private UUID zombieId;
+
+    @BeforeEach
+    void setUp() {
+        playerId = UUID.randomUUID();
+        zombieId = UUID.randomUUID();
+        zombie = mock(Entity.class);
+        when(zombie.getUniqueId()).thenReturn(zombieId);
+        when(zombie.getType()).thenReturn(EntityType.ZOMBIE);
+    }
+
+    private DamageInstance hit(double finalDamage, boolean critical, boolean evaded) {
+        return new DamageInstance(null, zombie, playerId, zombieId, null, null,
+                finalDamage / 2, DamageType.PHYSICAL, critical, evaded, "", finalDamage);
+    }
+
+    @Test
+    void snapshot_returnsMostRecentEventsOldestFirst() {
+        CombatEventLog log = new CombatEventLog(4, true);
+        for (int i = 1; i <= 6; i++) {
+            log.record(playerId, true, zombie, hit(i, i == 5, false));
+        }
+
+        CombatLogSnapshot all = log.snapshot(playerId, 10);
+        assertEquals(4, all.size());
+        assertEquals(3.0, all.finalDamage(0));
+        assertEquals(6.0, all.finalDamage(3));
+        assertTrue(all.isCritical(2));
+        assertTrue(all.isOutgoing(0));
+        assertEquals(zombieId, all.counterpartId(0));
+        assertEquals(EntityType.ZOMBIE, all.counterpartType(0));
+
+        CombatLogSnapshot lastTwo = log.snapshot(playerId, 2);
+        assertEquals(2, lastTwo.size());
+        assertEquals(5.0, lastTwo.finalDamage(0));
+        assertEquals(6.0, lastTwo.finalDamage(1));
+    }
+
+    @Test
+    void record_unknownCounterpartAndDisabledLog() {
+        CombatEventLog log = new CombatEventLog(8, true);
+        log.record(playerId, false, null, hit(0.0, false, true));
+
+        CombatLogSnapshot snapshot = log.snapshot(playerId, 8);
+        assertEquals(1, snapshot.size());
+        assertFalse(snapshot.isOutgoing(0));
+        assertTrue(snapshot.isEvaded(0));
+        assertNull(snapshot.counterpartId(0));
+        assertNull(snapshot.counterpartType(0));
+
+        log.setEnabled(false);
+        log.record(playerId, true, zombie, hit(3.0, false, false));
+        assertEquals(1, log.snapshot(playerId, 8).size());
+        assertTrue(log.snapshot(UUID.randomUUID(), 8).isEmpty());
+    }
+
+    @Test
+    void exporter_writesOneRowPerEvent() throws IOException {
+        CombatEventLog log = new CombatEventLog(8, true);
+        log.record(playerId, true, zombie, hit(4.0, true, false));
+        log.record(playerId, false, zombie, hit(0.0, false, true));
+
+        StringWriter out = new StringWriter();
+        int rows = CombatEventLogExporter.write(out, Map.of(playerId, log.snapshot(playerId, 8)));
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertEquals(CombatEventLogExporter.HEADER, lines[0]);
+        assertTrue(lines[1].startsWith(playerId + ","));
+        assertTrue(lines[1].endsWith(",out," + zombieId + ",ZOMBIE,PHYSICAL,2.00,4.00,true,false"));
+        assertTrue(lines[2].endsWith(",in," + zombieId + ",ZOMBIE,PHYSICAL,0.00,0.00,false,true"));
+    }
+}
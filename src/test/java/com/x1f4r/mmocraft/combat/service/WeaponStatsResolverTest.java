@@ -0,0 +1,92 @@
+package com.x1f4r.mmocraft.combat.service;
+
+import com.x1f4r.mmocraft.combat.model.DamageType;
+import com.x1f4r.mmocraft.combat.model.WeaponStats;
+import com.x1f4r.mmocraft.item.model.CustomItem;
+import com.x1f4r.mmocraft.item.service.CustomItemRegistry;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WeaponStatsResolverTest {
+
+    private CustomItemRegistry registry;
+    private WeaponStatsResolver resolver;
+    private Player player;
+    private PlayerInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(CustomItemRegistry.class);
+        resolver = new WeaponStatsResolver(registry);
+        player = mock(Player.class);
+        inventory = mock(PlayerInventory.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getInventory()).thenReturn(inventory);
+        when(inventory.getHeldItemSlot()).thenReturn(0);
+    }
+
+    private ItemStack stack(Material material, boolean hasMeta) {
+        ItemStack stack = mock(ItemStack.class);
+        when(stack.getType()).thenReturn(material);
+        when(stack.hasItemMeta()).thenReturn(hasMeta);
+        return stack;
+    }
+
+    @Test
+    void resolve_vanillaSword_usesMaterialTable() {
+        when(inventory.getItemInMainHand()).thenReturn(stack(Material.DIAMOND_SWORD, false));
+
+        WeaponStats stats = resolver.resolve(player);
+
+        assertEquals(7.0, stats.baseDamage());
+        assertEquals(DamageType.PHYSICAL, stats.damageType());
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void resolve_emptyHand_isUnarmed() {
+        when(inventory.getItemInMainHand()).thenReturn(stack(Material.AIR, false));
+        assertSame(WeaponStats.UNARMED, resolver.resolve(player));
+    }
+
+    @Test
+    void resolve_customItem_usesDeclaredStatsAndCachesUntilInvalidated() {
+        ItemStack held = stack(Material.BLAZE_ROD, true);
+        when(inventory.getItemInMainHand()).thenReturn(held);
+        CustomItem customItem = mock(CustomItem.class);
+        when(customItem.getBaseDamage()).thenReturn(6.0);
+        when(customItem.getDamageType()).thenReturn(DamageType.MAGICAL);
+        when(registry.getCustomItem(held)).thenReturn(Optional.of(customItem));
+
+        WeaponStats first = resolver.resolve(player);
+        WeaponStats second = resolver.resolve(player);
+
+        assertEquals(6.0, first.baseDamage());
+        assertEquals(DamageType.MAGICAL, first.damageType());
+        assertSame(first, second);
+        verify(registry, times(1)).getCustomItem(held);
+
+        resolver.invalidate(player.getUniqueId());
+        resolver.resolve(player);
+        verify(registry, times(2)).getCustomItem(held);
+    }
+
+    @Test
+    void resolve_unknownMaterial_fallsBackToVanillaEventDamage() {
+        when(inventory.getItemInMainHand()).thenReturn(stack(Material.STICK, false));
+
+        WeaponStats stats = resolver.resolve(player);
+
+        assertFalse(stats.hasBaseDamage());
+    }
+}
@@ -0,0 +1,98 @@
+package com.x1f4r.mmocraft.combat.threat;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import org.bukkit.World;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ThreatServiceTest {
+
+    private final Map<UUID, Player> players = new HashMap<>();
+    private ThreatService threatService;
+    private World world;
+    private Mob mob;
+    private Player tank;
+    private Player healer;
+
+    @BeforeEach
+    void setUp() {
+        threatService = new ThreatService(mock(LoggingUtil.class), players::get);
+        world = mock(World.class);
+        mob = mock(Mob.class);
+        when(mob.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(mob.getWorld()).thenReturn(world);
+        when(mob.isValid()).thenReturn(true);
+        tank = player();
+        healer = player();
+    }
+
+    private Player player() {
+        Player player = mock(Player.class);
+        UUID id = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(id);
+        when(player.getWorld()).thenReturn(world);
+        when(player.isValid()).thenReturn(true);
+        players.put(id, player);
+        return player;
+    }
+
+    @Test
+    void damageThreat_targetsFirstAttackerAndRetargetsOnlyPastThreshold() {
+        threatService.addDamageThreat(mob, tank, 100.0);
+        verify(mob).setTarget(tank);
+
+        threatService.addDamageThreat(mob, healer, 105.0);
+        verify(mob, never()).setTarget(healer);
+
+        threatService.addDamageThreat(mob, healer, 10.0);
+        verify(mob).setTarget(healer);
+        assertEquals(115.0, threatService.getThreat(mob.getUniqueId(), healer.getUniqueId()), 1e-9);
+    }
+
+    @Test
+    void healingThreat_isSplitAcrossMobsEngagedWithHealedPlayer() {
+        Mob second = mock(Mob.class);
+        when(second.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(second.getWorld()).thenReturn(world);
+        threatService.addDamageThreat(mob, tank, 10.0);
+        threatService.addDamageThreat(second, tank, 10.0);
+
+        threatService.addHealingThreat(healer, tank, 40.0);
+
+        assertEquals(10.0, threatService.getThreat(mob.getUniqueId(), healer.getUniqueId()), 1e-9);
+        assertEquals(10.0, threatService.getThreat(second.getUniqueId(), healer.getUniqueId()), 1e-9);
+    }
+
+    @Test
+    void tick_decaysAndDropsFadedEntries() {
+        threatService.configure(0.5, 1.1, 0.5, 1.0);
+        threatService.addDamageThreat(mob, tank, 3.0);
+
+        threatService.tick();
+        assertEquals(1.5, threatService.getThreat(mob.getUniqueId(), tank.getUniqueId()), 1e-9);
+
+        threatService.tick();
+        assertEquals(0, threatService.getEngagedMobCount());
+        verify(mob).setTarget(null);
+    }
+
+    @Test
+    void clearPlayer_retargetsToNextHighestThreat() {
+        threatService.addDamageThreat(mob, tank, 50.0);
+        threatService.addDamageThreat(mob, healer, 20.0);
+
+        threatService.clearPlayer(tank.getUniqueId());
+
+        verify(mob).setTarget(healer);
+        assertSame(healer, threatService.getThreatTarget(mob));
+    }
+}
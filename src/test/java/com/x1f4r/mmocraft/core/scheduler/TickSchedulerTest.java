@@ -0,0 +1,179 @@
+package com.x1f4r.mmocraft.core.scheduler;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TickSchedulerTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    private AtomicLong clock;
+    private TickScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        scheduler = new TickScheduler(mock(LoggingUtil.class), clock::get);
+    }
+
+    @Test
+    void periodicTaskRunsOncePerPeriod() {
+        AtomicInteger runs = new AtomicInteger();
+        scheduler.registerPeriodic("periodic", 5L, 0.0, runs::incrementAndGet);
+
+        for (int i = 0; i < 20; i++) {
+            scheduler.tick();
+        }
+
+        assertEquals(4, runs.get());
+        assertEquals(4, scheduler.getStats().get(0).runs());
+    }
+
+    @Test
+    void bucketedTaskSpreadsItemsAcrossPeriod() {
+        List<Long> processedOnTick = new ArrayList<>();
+        List<Integer> processed = new ArrayList<>();
+        TickScheduler.BucketedTask<Integer> task = scheduler.<Integer>registerBucketed("bucketed", 4L, 0.0, Integer::intValue, item -> {
+            processed.add(item);
+            processedOnTick.add(scheduler.getCurrentTick());
+        });
+        IntStream.range(0, 40).forEach(task::track);
+
+        scheduler.tick();
+        assertEquals(10, processed.size());
+        assertTrue(processed.stream().allMatch(item -> item % 4 == 1));
+
+        for (int i = 0; i < 3; i++) {
+            scheduler.tick();
+        }
+        assertEquals(40, processed.size());
+        assertEquals(40, processed.stream().distinct().count());
+        assertEquals(40, scheduler.getStats().get(0).itemsProcessed());
+    }
+
+    @Test
+    void bucketedTaskDefersWorkPastBudget() {
+        List<Integer> processed = new ArrayList<>();
+        TickScheduler.BucketedTask<Integer> task = scheduler.<Integer>registerBucketed("budgeted", 2L, 1.0, Integer::intValue, item -> {
+            processed.add(item);
+            clock.addAndGet(MILLI / 2); // Each item costs half the budget
+        });
+        IntStream.range(0, 6).map(i -> i * 2).forEach(task::track); // All in bucket 0 of period 2
+
+        scheduler.tick(); // Tick 1: bucket 1, nothing due
+        assertTrue(processed.isEmpty());
+
+        scheduler.tick(); // Tick 2: bucket 0, budget allows two items
+        assertEquals(List.of(0, 2), processed);
+        TickTaskStats stats = scheduler.getStats().get(0);
+        assertEquals(4, stats.pendingItems());
+        assertEquals(1, stats.overBudgetRuns());
+
+        scheduler.tick(); // Tick 3: deferred items continue even though the bucket is not due
+        assertEquals(List.of(0, 2, 4, 6), processed);
+
+        scheduler.tick(); // Tick 4: bucket 0 again; deferred items go first and are not duplicated
+        assertEquals(List.of(0, 2, 4, 6, 8, 10), processed);
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(List.of(0, 2, 4, 6, 8, 10, 0, 2, 4, 6), processed);
+    }
+
+    @Test
+    void budgetedTaskAlwaysMakesProgress() {
+        List<Integer> processed = new ArrayList<>();
+        TickScheduler.BucketedTask<Integer> task = scheduler.<Integer>registerBucketed("slow", 1L, 0.001, Integer::intValue, item -> {
+            processed.add(item);
+            clock.addAndGet(10 * MILLI);
+        });
+        List.of(1, 2, 3).forEach(task::track);
+
+        scheduler.tick();
+        scheduler.tick();
+        scheduler.tick();
+
+        assertEquals(List.of(1, 2, 3), processed);
+    }
+
+    @Test
+    void untrackedItemsAreDroppedIncludingDeferredVisits() {
+        List<Integer> processed = new ArrayList<>();
+        TickScheduler.BucketedTask<Integer> task = scheduler.<Integer>registerBucketed("tracked", 1L, 1.0, Integer::intValue, item -> {
+            processed.add(item);
+            clock.addAndGet(MILLI); // One item per tick
+        });
+        task.track(1);
+        task.track(2);
+        task.track(2);
+        assertEquals(2, task.trackedCount());
+
+        scheduler.tick();
+        assertEquals(List.of(1), processed);
+        assertEquals(1, scheduler.getStats().get(0).pendingItems());
+
+        task.untrack(2);
+        task.untrack(1);
+        scheduler.tick();
+        scheduler.tick();
+
+        assertEquals(List.of(1), processed);
+        assertEquals(0, task.trackedCount());
+        assertEquals(0, scheduler.getStats().get(0).pendingItems());
+    }
+
+    @Test
+    void queueTaskRunsEachItemOnceUnderBudget() {
+        List<Integer> queue = new ArrayList<>(List.of(1, 2, 3));
+        List<Integer> processed = new ArrayList<>();
+        scheduler.<Integer>registerQueue("queue", 1.0, () -> {
+            List<Integer> drained = List.copyOf(queue);
+            queue.clear();
+            return drained;
+        }, item -> {
+            processed.add(item);
+            clock.addAndGet(MILLI / 2);
+        });
+
+        scheduler.tick();
+        assertEquals(List.of(1, 2), processed);
+
+        queue.add(4);
+        scheduler.tick();
+        scheduler.tick();
+        scheduler.tick();
+
+        assertEquals(List.of(1, 2, 3, 4), processed);
+        assertEquals(4, scheduler.getStats().get(0).itemsProcessed());
+    }
+
+    @Test
+    void failingTaskDoesNotStopOthers() {
+        AtomicInteger runs = new AtomicInteger();
+        scheduler.registerPeriodic("broken", 1L, 0.0, () -> {
+            throw new IllegalStateException("boom");
+        });
+        scheduler.registerPeriodic("healthy", 1L, 0.0, runs::incrementAndGet);
+
+        scheduler.tick();
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void duplicateNamesAreRejected() {
+        scheduler.registerPeriodic("task", 1L, 0.0, () -> { });
+        assertThrows(IllegalArgumentException.class, () -> scheduler.registerPeriodic("task", 1L, 0.0, () -> { }));
+        assertTrue(scheduler.setBudget("task", 2.0));
+        assertFalse(scheduler.setBudget("missing", 2.0));
+    }
+}
@@ -65,7 +65,7 @@ class BerserkerRageStatusEffectTest {
         assertEquals(-20.0, applied.get(Stat.DEFENSE));
         assertTrue(applied.containsKey(Stat.CRITICAL_DAMAGE));
         verify(profile).recalculateDerivedAttributes();
-        verify(runtimeAttributeService).syncPlayer(player);
+        verify(runtimeAttributeService).markDirty(player);
     }
 
     @Test
@@ -85,7 +85,7 @@ class BerserkerRageStatusEffectTest {
 
         verify(profile).clearTemporaryStatModifiers("status:berserker_rage");
         verify(profile).recalculateDerivedAttributes();
-        verify(runtimeAttributeService).syncPlayer(player);
+        verify(runtimeAttributeService).markDirty(player);
     }
 }
 
@@ -26,12 +26,9 @@ import com.x1f4r.mmocraft.skill.model.Skill;
 import com.x1f4r.mmocraft.skill.service.SkillRegistryService;
 import com.x1f4r.mmocraft.util.LoggingUtil;
 import com.x1f4r.mmocraft.world.resourcegathering.listeners.ResourceNodeInteractionListener;
-import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ActiveNodeManager;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ResourceNodeRegistryService;
 import com.x1f4r.mmocraft.world.zone.listeners.PlayerZoneTrackerListener;
-import org.bukkit.Location;
-import org.bukkit.World;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -117,7 +114,7 @@ class PluginDiagnosticsServiceTest {
         lenient().when(gameplayConfigService.getDemoContentConfig()).thenReturn(DemoContentConfig.defaults());
         lenient().when(persistenceService.getConnection()).thenReturn(connection);
         lenient().when(connection.isClosed()).thenReturn(false);
-        lenient().when(activeNodeManager.getAllActiveNodesView()).thenReturn(Collections.emptyMap());
+        lenient().when(activeNodeManager.getNodeCountsByType()).thenReturn(Collections.emptyMap());
         lenient().when(resourceNodeRegistryService.getAllNodeTypes()).thenReturn(Collections.emptyList());
         lenient().when(recipeRegistryService.getAllRecipes()).thenReturn(Collections.emptyList());
         lenient().when(contentPackService.getLoadedPacks()).thenReturn(defaultContentPacks());
@@ -165,18 +162,15 @@ class PluginDiagnosticsServiceTest {
 
     @Test
     void runDiagnostics_whenResourceNodeTypeMissing_reportsWarning() {
-        World world = mock(World.class);
-        Location location = new Location(world, 0, 64, 0);
-        ActiveResourceNode orphanedNode = new ActiveResourceNode(location, "missing_type");
-
-        lenient().when(activeNodeManager.getAllActiveNodesView()).thenReturn(Map.of(location, orphanedNode));
+        lenient().when(activeNodeManager.getNodeCountsByType()).thenReturn(Map.of("missing_type", 3));
+        lenient().when(activeNodeManager.getActiveNodeCount()).thenReturn(3);
         lenient().when(resourceNodeRegistryService.getNodeType("missing_type")).thenReturn(Optional.empty());
 
         List<PluginDiagnosticsService.DiagnosticEntry> entries = diagnosticsService.runDiagnostics();
 
         assertTrue(entries.stream().anyMatch(entry ->
                 entry.getSeverity() == PluginDiagnosticsService.Severity.WARNING
-                        && entry.getMessage().contains("reference unknown node types")));
+                        && entry.getMessage().contains("3 resource node(s) reference unknown node types")));
     }
 
     @Test
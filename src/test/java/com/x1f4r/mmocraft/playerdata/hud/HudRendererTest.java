@@ -0,0 +1,77 @@
+package com.x1f4r.mmocraft.playerdata.hud;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HudRendererTest {
+
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    @Test
+    void defaultTemplateRendersAllPlaceholders() {
+        HudTemplate template = HudTemplate.parse(null);
+
+        Component rendered = template.render(HudSnapshot.of(19.6, 20.0, 35L, 50L, 1.25, 7));
+
+        assertEquals("❤ 20/20  ✦ 35/50  ⇑ 1.3/s  Lvl 7", plain(rendered));
+    }
+
+    @Test
+    void negativeManaRegenKeepsItsSign() {
+        HudTemplate template = HudTemplate.parse("{mana_regen}");
+
+        assertEquals("-0.5", plain(template.render(new HudSnapshot(1L, 1L, 0L, 1L, -5L, 1))));
+        assertEquals("-1.2", plain(template.render(new HudSnapshot(1L, 1L, 0L, 1L, -12L, 1))));
+        assertEquals("0.5", plain(template.render(new HudSnapshot(1L, 1L, 0L, 1L, 5L, 1))));
+    }
+
+    @Test
+    void placeholderKeepsColourActiveInTemplate() {
+        HudTemplate template = HudTemplate.parse("&7HP &c{health}&r {unknown}");
+
+        Component rendered = template.render(new HudSnapshot(12L, 20L, 0L, 1L, 0L, 1));
+
+        assertEquals("HP 12 {unknown}", plain(rendered));
+        TextComponent value = (TextComponent) rendered.children().get(1);
+        assertEquals("12", value.content());
+        assertEquals(NamedTextColor.RED, value.color());
+    }
+
+    @Test
+    void unchangedValuesAreOnlyResentAfterInterval() {
+        HudRenderer renderer = new HudRenderer(HudTemplate.parse("{mana}"), 40);
+        HudSnapshot snapshot = new HudSnapshot(20L, 20L, 10L, 50L, 10L, 1);
+
+        Component first = renderer.render(PLAYER_ID, snapshot, 0L);
+        assertNotNull(first);
+        assertNull(renderer.render(PLAYER_ID, snapshot, 10L));
+        assertNull(renderer.render(PLAYER_ID, snapshot, 39L));
+        assertSame(first, renderer.render(PLAYER_ID, snapshot, 40L));
+
+        Component changed = renderer.render(PLAYER_ID, new HudSnapshot(20L, 20L, 11L, 50L, 10L, 1), 41L);
+        assertEquals("11", plain(changed));
+    }
+
+    @Test
+    void staleBarIsResentImmediately() {
+        HudRenderer renderer = new HudRenderer(HudTemplate.parse("{level}"), 40);
+        HudSnapshot snapshot = new HudSnapshot(20L, 20L, 10L, 50L, 10L, 3);
+
+        renderer.render(PLAYER_ID, snapshot, 0L);
+        renderer.markStale(PLAYER_ID);
+
+        assertNotNull(renderer.render(PLAYER_ID, snapshot, 1L));
+        assertNull(renderer.render(PLAYER_ID, snapshot, 2L));
+    }
+}
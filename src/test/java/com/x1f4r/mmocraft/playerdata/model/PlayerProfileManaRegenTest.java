@@ -0,0 +1,77 @@
+package com.x1f4r.mmocraft.playerdata.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerProfileManaRegenTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private PlayerProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        PlayerProfile.setNanoClock(clock::get);
+        profile = new PlayerProfile(UUID.randomUUID(), "ManaTester");
+        profile.setStatValue(Stat.INTELLIGENCE, 50.0); // Plenty of headroom above the regen under test
+    }
+
+    @AfterEach
+    void tearDown() {
+        PlayerProfile.setNanoClock(null);
+    }
+
+    @Test
+    void manaRegeneratesLazilyFromLastChange() {
+        double rate = profile.getManaRegenPerSecond();
+        assertTrue(rate > 0.0);
+        profile.setCurrentMana(0);
+
+        clock.addAndGet(2 * SECOND);
+
+        assertEquals((long) Math.floor(rate * 2), profile.getCurrentMana());
+    }
+
+    @Test
+    void regenerationIsCappedAtMaxMana() {
+        profile.setCurrentMana(0);
+        clock.addAndGet(100_000 * SECOND);
+
+        assertEquals(profile.getMaxMana(), profile.getCurrentMana());
+    }
+
+    @Test
+    void consumeKeepsFractionalProgress() {
+        double rate = profile.getManaRegenPerSecond();
+        profile.setCurrentMana(20);
+        long halfPointNanos = (long) (SECOND * 0.5 / rate);
+        clock.addAndGet(halfPointNanos);
+
+        profile.consumeMana(10);
+        clock.addAndGet(halfPointNanos + 1_000);
+
+        assertEquals(11L, profile.getCurrentMana());
+    }
+
+    @Test
+    void rateChangeSettlesAccruedManaAtOldRate() {
+        double oldRate = profile.getManaRegenPerSecond();
+        profile.setCurrentMana(0);
+        clock.addAndGet(4 * SECOND);
+
+        profile.setStatValue(Stat.MANA_REGEN, 40.0);
+        double newRate = profile.getManaRegenPerSecond();
+        assertTrue(newRate > oldRate);
+        clock.addAndGet(SECOND);
+
+        assertEquals((long) Math.floor(oldRate * 4 + newRate), profile.getCurrentMana());
+    }
+}
@@ -13,6 +13,8 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class PlayerRuntimeAttributeServiceTest {
@@ -116,6 +118,82 @@ class PlayerRuntimeAttributeServiceTest {
         assertEquals(List.of(1, 3), hasteApplier.getRecordedAmplifiers());
     }
 
+    @Test
+    void markDirtyCoalescesUpdatesUntilFlush() {
+        PlayerDataService playerDataService = mock(PlayerDataService.class);
+        LoggingUtil loggingUtil = mock(LoggingUtil.class);
+        TestHasteEffectApplier hasteApplier = new TestHasteEffectApplier(false);
+        AttributeInstance maxHealthAttribute = mock(AttributeInstance.class);
+        AttributeInstance attackSpeedAttribute = mock(AttributeInstance.class);
+        TestAttributeResolver attributeResolver = new TestAttributeResolver(maxHealthAttribute, attackSpeedAttribute);
+        PlayerRuntimeAttributeService service = new PlayerRuntimeAttributeService(playerDataService, RuntimeStatConfig.defaults(), loggingUtil, hasteApplier, attributeResolver);
+
+        UUID playerId = UUID.randomUUID();
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.isOnline()).thenReturn(true);
+        when(player.getHealth()).thenReturn(150.0);
+        PlayerProfile profile = mock(PlayerProfile.class);
+        when(profile.getMaxHealth()).thenReturn(200L);
+        when(profile.getCurrentHealth()).thenReturn(150L);
+        when(profile.getStatValue(Stat.SPEED)).thenReturn(100.0);
+        when(profile.getStatValue(Stat.ATTACK_SPEED)).thenReturn(0.0);
+        when(profile.getStatValue(Stat.MINING_SPEED)).thenReturn(0.0);
+        when(playerDataService.getPlayerProfile(playerId)).thenReturn(profile);
+
+        service.markDirty(player);
+        service.markDirty(player);
+        service.markDirty(player);
+        verify(playerDataService, never()).getPlayerProfile(playerId);
+        assertTrue(service.isDirty(playerId));
+
+        service.flushDirty();
+        service.flushDirty();
+
+        assertFalse(service.isDirty(playerId));
+        verify(playerDataService, times(1)).getPlayerProfile(playerId);
+        verify(maxHealthAttribute, times(1)).setBaseValue(200.0);
+
+        service.markDirty(player);
+        service.clearCache(playerId);
+        service.flushDirty();
+        verify(playerDataService, times(1)).getPlayerProfile(playerId);
+    }
+
+    @Test
+    void firstSyncChecksForStaleHasteAndQuitRemovesIt() {
+        PlayerDataService playerDataService = mock(PlayerDataService.class);
+        PlayerRuntimeAttributeService.HasteEffectApplier hasteApplier = mock(PlayerRuntimeAttributeService.HasteEffectApplier.class);
+        TestAttributeResolver attributeResolver = new TestAttributeResolver(mock(AttributeInstance.class), mock(AttributeInstance.class));
+        PlayerRuntimeAttributeService service = new PlayerRuntimeAttributeService(playerDataService, RuntimeStatConfig.defaults(),
+                mock(LoggingUtil.class), hasteApplier, attributeResolver);
+
+        UUID playerId = UUID.randomUUID();
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.isOnline()).thenReturn(true);
+        when(player.getHealth()).thenReturn(150.0);
+        PlayerProfile profile = mock(PlayerProfile.class);
+        when(profile.getMaxHealth()).thenReturn(200L);
+        when(profile.getCurrentHealth()).thenReturn(150L);
+        when(profile.getStatValue(Stat.MINING_SPEED)).thenReturn(0.0);
+        when(playerDataService.getPlayerProfile(playerId)).thenReturn(profile);
+
+        // No Haste is earned, but the first sync still lets the applier strip one saved from a previous session.
+        service.syncPlayer(player);
+        verify(hasteApplier).apply(player, -1, PlayerRuntimeAttributeService.HasteEffectApplier.UNKNOWN_AMPLIFIER);
+
+        service.syncPlayer(player);
+        verify(hasteApplier, times(1)).apply(eq(player), eq(-1), anyInt());
+
+        when(profile.getStatValue(Stat.MINING_SPEED)).thenReturn(1_000.0);
+        service.syncPlayer(player);
+        service.releasePlayer(player);
+
+        verify(hasteApplier).apply(eq(player), eq(-1), intThat(previous -> previous >= 0));
+    }
+
+
     private static final class TestHasteEffectApplier implements PlayerRuntimeAttributeService.HasteEffectApplier {
         private final boolean hasteAvailable;
         private final List<Integer> recordedAmplifiers = new java.util.ArrayList<>();
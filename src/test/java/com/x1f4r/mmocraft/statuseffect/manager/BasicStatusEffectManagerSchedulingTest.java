@@ -0,0 +1,181 @@
+package com.x1f4r.mmocraft.statuseffect.manager;
+
+import com.x1f4r.mmocraft.core.MMOCraftPlugin;
+import com.x1f4r.mmocraft.playerdata.PlayerDataService;
+import com.x1f4r.mmocraft.playerdata.model.PlayerProfile;
+import com.x1f4r.mmocraft.statuseffect.model.ActiveStatusEffect;
+import com.x1f4r.mmocraft.statuseffect.model.StackingRule;
+import com.x1f4r.mmocraft.statuseffect.model.StatusEffect;
+import com.x1f4r.mmocraft.statuseffect.model.StatusEffectType;
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import org.bukkit.entity.LivingEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BasicStatusEffectManagerSchedulingTest {
+
+    private MMOCraftPlugin plugin;
+    private BasicStatusEffectManager manager;
+    private LivingEntity target;
+
+    private static class CountingEffect extends StatusEffect {
+        int ticks;
+        int expirations;
+
+        int lastStacks = 1;
+        double lastTickPotency;
+
+        CountingEffect(MMOCraftPlugin plugin, double durationSeconds, double tickIntervalSeconds) {
+            this(plugin, StatusEffectType.POISON, durationSeconds, 1.0, tickIntervalSeconds);
+        }
+
+        CountingEffect(MMOCraftPlugin plugin, StatusEffectType type, double durationSeconds, double potency, double tickIntervalSeconds) {
+            super(plugin, type, durationSeconds, potency, tickIntervalSeconds, null);
+        }
+
+        @Override public void onApply(LivingEntity target, PlayerProfile profile) {}
+        @Override public void onTick(LivingEntity target, PlayerProfile profile) { ticks++; }
+        @Override public void onTick(LivingEntity target, PlayerProfile profile, double effectivePotency) {
+            lastTickPotency = effectivePotency;
+            super.onTick(target, profile, effectivePotency);
+        }
+        @Override public void onExpire(LivingEntity target, PlayerProfile profile) { expirations++; }
+        @Override public void onStacksChanged(LivingEntity target, PlayerProfile profile, int stacks) { lastStacks = stacks; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        plugin = mock(MMOCraftPlugin.class);
+        manager = new BasicStatusEffectManager(plugin, mock(LoggingUtil.class), mock(PlayerDataService.class), null);
+        target = mock(LivingEntity.class);
+        when(target.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(target.isValid()).thenReturn(true);
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            manager.tickAllActiveEffects();
+        }
+    }
+
+    @Test
+    void ticksAtIntervalAndExpiresOnExactTick() {
+        CountingEffect effect = new CountingEffect(plugin, 1.0, 0.25); // 20 ticks, every 5 ticks
+        manager.applyEffect(target, effect);
+
+        advance(4);
+        assertEquals(0, effect.ticks);
+        advance(1);
+        assertEquals(1, effect.ticks);
+
+        advance(14);
+        assertEquals(3, effect.ticks);
+        assertEquals(0, effect.expirations);
+
+        advance(1);
+        assertEquals(3, effect.ticks, "expiry wins over a tick due on the same server tick");
+        assertEquals(1, effect.expirations);
+        assertTrue(manager.getActiveEffectsOnEntity(target).isEmpty());
+    }
+
+    @Test
+    void forgetTarget_dropsEffectsWithoutCallbacks() {
+        CountingEffect effect = new CountingEffect(plugin, 1.0, 0.25);
+        manager.applyEffect(target, effect);
+
+        manager.forgetTarget(target.getUniqueId());
+        advance(40);
+
+        assertEquals(0, effect.ticks);
+        assertEquals(0, effect.expirations);
+        assertFalse(manager.hasEffect(target, StatusEffectType.POISON));
+    }
+
+    @Test
+    void invalidHandle_clearsEffectsOnNextDueTimer() {
+        CountingEffect effect = new CountingEffect(plugin, 1.0, 0.25);
+        manager.applyEffect(target, effect);
+        when(target.isValid()).thenReturn(false);
+
+        advance(5);
+
+        assertEquals(0, effect.ticks);
+        assertTrue(manager.getActiveEffectsOnEntity(target).isEmpty());
+    }
+
+    @Test
+    void stackPolicy_addsStacksToSingleInstanceAndRefreshesDuration() {
+        CountingEffect first = new CountingEffect(plugin, 1.0, 0);
+        manager.applyEffect(target, first);
+        advance(15);
+        for (int i = 0; i < 6; i++) {
+            manager.applyEffect(target, new CountingEffect(plugin, 1.0, 0));
+        }
+
+        List<ActiveStatusEffect> poison = manager.getActiveEffectsByType(target, StatusEffectType.POISON);
+        assertEquals(1, poison.size());
+        assertEquals(5, poison.get(0).getStacks());
+        assertEquals(5.0, poison.get(0).getEffectivePotency());
+        assertEquals(5, first.lastStacks);
+
+        advance(19);
+        assertTrue(manager.hasEffect(target, StatusEffectType.POISON), "duration restarted by the last application");
+        advance(1);
+        assertFalse(manager.hasEffect(target, StatusEffectType.POISON));
+        assertEquals(1, first.expirations);
+    }
+
+    @Test
+    void stackPolicy_scalesTickPotencyByStacks() {
+        CountingEffect first = new CountingEffect(plugin, StatusEffectType.BLEED, 2.0, 1.5, 0.25);
+        manager.applyEffect(target, first);
+        advance(5);
+        assertEquals(1, first.ticks);
+        assertEquals(1.5, first.lastTickPotency);
+
+        manager.applyEffect(target, new CountingEffect(plugin, StatusEffectType.BLEED, 2.0, 1.5, 0.25));
+        manager.applyEffect(target, new CountingEffect(plugin, StatusEffectType.BLEED, 2.0, 1.5, 0.25));
+        advance(5);
+
+        assertEquals(2, first.ticks);
+        assertEquals(4.5, first.lastTickPotency, "three stacks tick for three times the base potency");
+    }
+
+    @Test
+    void strongestWinsPolicy_ignoresWeakerApplication() {
+        CountingEffect strong = new CountingEffect(plugin, StatusEffectType.SLOW, 5.0, 3.0, 0);
+        CountingEffect weak = new CountingEffect(plugin, StatusEffectType.SLOW, 5.0, 1.0, 0);
+        assertEquals(StackingRule.strongestWins(), strong.getStackingRule());
+
+        manager.applyEffect(target, strong);
+        manager.applyEffect(target, weak);
+
+        List<ActiveStatusEffect> slow = manager.getActiveEffectsByType(target, StatusEffectType.SLOW);
+        assertEquals(1, slow.size());
+        assertSame(strong, slow.get(0).getStatusEffect());
+    }
+
+    @Test
+    void refreshPolicy_replacesAndIndependentPolicyKeepsBoth() {
+        manager.applyEffect(target, new CountingEffect(plugin, StatusEffectType.STUN, 1.0, 1.0, 0));
+        CountingEffect replacement = new CountingEffect(plugin, StatusEffectType.STUN, 1.0, 1.0, 0);
+        manager.applyEffect(target, replacement);
+        assertSame(replacement, manager.getActiveEffectsByType(target, StatusEffectType.STUN).get(0).getStatusEffect());
+
+        StatusEffect independent = new CountingEffect(plugin, StatusEffectType.HEALTH_REGEN, 1.0, 1.0, 0) {
+            @Override public StackingRule getStackingRule() { return StackingRule.independent(); }
+        };
+        manager.applyEffect(target, independent);
+        manager.applyEffect(target, new CountingEffect(plugin, StatusEffectType.HEALTH_REGEN, 1.0, 1.0, 0) {
+            @Override public StackingRule getStackingRule() { return StackingRule.independent(); }
+        });
+        assertEquals(2, manager.getActiveEffectsByType(target, StatusEffectType.HEALTH_REGEN).size());
+        assertEquals(3, manager.getActiveEffectsOnEntity(target).size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.x1f4r.mmocraft.statuseffect.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static List<String> advance(TimingWheel<String> wheel, int ticks) {
+        List<String> fired = new ArrayList<>();
+        List<Timeout<String>> due = new ArrayList<>();
+        for (int i = 0; i < ticks; i++) {
+            due.clear();
+            wheel.advance(due);
+            due.forEach(timeout -> fired.add(timeout.getPayload() + "@" + wheel.getCurrentTick()));
+        }
+        return fired;
+    }
+
+    @Test
+    void firesExactlyOnDeadlineTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        wheel.schedule("a", 3);
+        wheel.schedule("b", 1);
+
+        assertEquals(List.of("b@1", "a@3"), advance(wheel, 5));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void keepsTimeoutsBeyondOneRotationUntilTheirRound() {
+        TimingWheel<String> wheel = new TimingWheel<>(4);
+        wheel.schedule("late", 10);
+        wheel.schedule("early", 2);
+
+        assertEquals(List.of("early@2"), advance(wheel, 9));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("late@10"), advance(wheel, 1));
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        Timeout<String> cancelled = wheel.schedule("x", 2);
+        wheel.schedule("y", 2);
+
+        cancelled.cancel();
+
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.isPending());
+        assertEquals(List.of("y@2"), advance(wheel, 3));
+    }
+
+    @Test
+    void zeroDelayIsScheduledForNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(8);
+        wheel.schedule("now", 0);
+        assertEquals(List.of("now@1"), advance(wheel, 1));
+    }
+}
@@ -0,0 +1,53 @@
+package com.x1f4r.mmocraft.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomServiceTest {
+
+    @Test
+    void deterministicMode_replaysSameRollsForSameEventSequence() {
+        RandomService randomService = new RandomService();
+        randomService.enableDeterministicMode(42L);
+        double[] firstRun = rollEvents(randomService, 5);
+
+        randomService.enableDeterministicMode(42L);
+        double[] secondRun = rollEvents(randomService, 5);
+
+        assertArrayEquals(firstRun, secondRun);
+        assertEquals(5, randomService.getEventSequence());
+    }
+
+    @Test
+    void deterministicMode_differentEventsGetDifferentRolls() {
+        RandomService randomService = new RandomService();
+        randomService.enableDeterministicMode(7L);
+        double[] rolls = rollEvents(randomService, 2);
+        assertNotEquals(rolls[0], rolls[1]);
+    }
+
+    @Test
+    void disabledDeterministicMode_usesPerThreadStream() {
+        RandomService randomService = new RandomService();
+        assertFalse(randomService.isDeterministic());
+        assertSame(randomService.current(), randomService.forCombatEvent());
+    }
+
+    @Test
+    void seeded_isReproducible() {
+        RandomGenerator a = RandomService.seeded(123L);
+        RandomGenerator b = RandomService.seeded(123L);
+        assertEquals(a.nextLong(), b.nextLong());
+    }
+
+    private double[] rollEvents(RandomService randomService, int count) {
+        double[] rolls = new double[count];
+        for (int i = 0; i < count; i++) {
+            rolls[i] = randomService.forCombatEvent().nextDouble();
+        }
+        return rolls;
+    }
+}
@@ -13,6 +13,7 @@ import com.x1f4r.mmocraft.util.LoggingUtil;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
 import com.x1f4r.mmocraft.world.resourcegathering.model.ResourceNodeType;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ActiveNodeManager;
+import com.x1f4r.mmocraft.world.resourcegathering.service.GatheringService;
 import com.x1f4r.mmocraft.world.resourcegathering.service.ResourceNodeRegistryService;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -20,6 +21,7 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockDamageEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,7 @@ class ResourceNodeInteractionListenerTest {
     void dropsFortunedLootAndDepletesNode() {
         MMOCraftPlugin plugin = mock(MMOCraftPlugin.class);
         ActiveNodeManager activeNodeManager = mock(ActiveNodeManager.class);
+        GatheringService gatheringService = mock(GatheringService.class);
         ResourceNodeRegistryService nodeRegistryService = mock(ResourceNodeRegistryService.class);
         LootService lootService = mock(LootService.class);
         CustomItemRegistry customItemRegistry = mock(CustomItemRegistry.class);
@@ -56,6 +59,7 @@ class ResourceNodeInteractionListenerTest {
         ResourceNodeInteractionListener listener = new ResourceNodeInteractionListener(
                 plugin,
                 activeNodeManager,
+                gatheringService,
                 nodeRegistryService,
                 lootService,
                 customItemRegistry,
@@ -66,7 +70,7 @@ class ResourceNodeInteractionListenerTest {
         World world = mock(World.class);
         Location nodeLocation = new Location(world, 10, 64, 10);
         ActiveResourceNode activeNode = new ActiveResourceNode(nodeLocation, "test_node");
-        when(activeNodeManager.getActiveNode(any(Location.class))).thenReturn(Optional.of(activeNode));
+        when(activeNodeManager.getActiveNode(any(Block.class))).thenReturn(Optional.of(activeNode));
 
         ResourceNodeType nodeType = new ResourceNodeType(
                 "test_node",
@@ -113,16 +117,23 @@ class ResourceNodeInteractionListenerTest {
         Block block = mock(Block.class);
         when(block.getLocation()).thenReturn(nodeLocation);
 
-        BlockBreakEvent event = mock(BlockBreakEvent.class);
+        BlockDamageEvent event = mock(BlockDamageEvent.class);
         when(event.getPlayer()).thenReturn(player);
         when(event.getBlock()).thenReturn(block);
 
         doReturn(null).when(world).dropItemNaturally(any(), any());
 
-        listener.onBlockBreak(event);
+        listener.onBlockDamage(event);
+
+        // Loot only drops once the gathering session has run its break time, scaled by mining speed.
+        ArgumentCaptor<Double> breakTime = ArgumentCaptor.forClass(Double.class);
+        ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+        verify(gatheringService).start(eq(player), eq(block), eq(activeNode), breakTime.capture(), completion.capture());
+        assertEquals(2.0 / (1.0 + 160.0 / 100.0), breakTime.getValue(), 1e-9);
+        verify(lootTable, never()).generateLoot(any(), any());
+
+        completion.getValue().run();
 
-        verify(event).setCancelled(true);
-        verify(event).setDropItems(false);
         verify(lootTable).generateLoot(customItemRegistry, plugin);
         ArgumentCaptor<ItemStack> dropCaptor = ArgumentCaptor.forClass(ItemStack.class);
         verify(world).dropItemNaturally(eq(playerLocation), dropCaptor.capture());
@@ -133,4 +144,33 @@ class ResourceNodeInteractionListenerTest {
         verify(player).sendMessage(messageCaptor.capture());
         assertTrue(messageCaptor.getValue().contains("successfully"));
     }
+
+    @Test
+    void breakingANodeBlockIsAlwaysCancelled() {
+        ActiveNodeManager activeNodeManager = mock(ActiveNodeManager.class);
+        GatheringService gatheringService = mock(GatheringService.class);
+        ResourceNodeInteractionListener listener = new ResourceNodeInteractionListener(
+                mock(MMOCraftPlugin.class),
+                activeNodeManager,
+                gatheringService,
+                mock(ResourceNodeRegistryService.class),
+                mock(LootService.class),
+                mock(CustomItemRegistry.class),
+                mock(PlayerDataService.class),
+                mock(GameplayConfigService.class),
+                mock(LoggingUtil.class));
+
+        Block block = mock(Block.class);
+        ActiveResourceNode activeNode = new ActiveResourceNode(new Location(mock(World.class), 1, 64, 1), "test_node");
+        when(activeNodeManager.getActiveNode(block)).thenReturn(Optional.of(activeNode));
+        BlockBreakEvent event = mock(BlockBreakEvent.class);
+        when(event.getBlock()).thenReturn(block);
+
+        listener.onBlockBreak(event);
+
+        verify(event).setCancelled(true);
+        verify(event).setDropItems(false);
+        verify(activeNodeManager, never()).depleteNode(any());
+        verifyNoInteractions(gatheringService);
+    }
 }
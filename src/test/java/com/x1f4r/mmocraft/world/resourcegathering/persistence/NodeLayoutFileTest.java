@@ -0,0 +1,51 @@
+package com.x1f4r.mmocraft.world.resourcegathering.persistence;
+
+import com.x1f4r.mmocraft.world.resourcegathering.model.NodePlacement;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeLayoutFileTest {
+
+    @Test
+    void writtenLayoutReadsBackUnchanged() throws IOException {
+        List<NodePlacement> layout = List.of(
+                new NodePlacement(0, 0, 0, "iron_vein"),
+                new NodePlacement(3, -2, 15, "copper_vein"));
+        StringWriter writer = new StringWriter();
+
+        assertEquals(2, NodeLayoutFile.write(writer, layout));
+
+        assertTrue(writer.toString().startsWith(NodeLayoutFile.HEADER));
+        assertEquals(layout, NodeLayoutFile.read(new BufferedReader(new StringReader(writer.toString()))));
+    }
+
+    @Test
+    void skipsCommentsAndBlankLines() throws IOException {
+        String text = "# hand-written\n\n  1 2 3   iron_vein  \n# trailing\n";
+
+        assertEquals(List.of(new NodePlacement(1, 2, 3, "iron_vein")),
+                NodeLayoutFile.read(new BufferedReader(new StringReader(text))));
+    }
+
+    @Test
+    void reportsTheLineOfAMalformedEntry() {
+        String text = "1 2 3 iron_vein\n1 two 3 iron_vein\n";
+
+        IOException error = assertThrows(IOException.class,
+                () -> NodeLayoutFile.read(new BufferedReader(new StringReader(text))));
+        assertTrue(error.getMessage().startsWith("Line 2"));
+    }
+
+    @Test
+    void offsetMovesCoordinatesOnly() {
+        assertEquals(new NodePlacement(11, 62, -5, "iron_vein"),
+                new NodePlacement(1, -2, 5, "iron_vein").offset(10, 64, -10));
+    }
+}
@@ -0,0 +1,122 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.core.MMOCraftPlugin;
+import com.x1f4r.mmocraft.item.service.CustomItemRegistry;
+import com.x1f4r.mmocraft.loot.service.LootService;
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRecord;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRepository;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ActiveNodeManagerLoadWorldTest {
+
+    private final UUID worldId = UUID.randomUUID();
+    private ResourceNodeRepository repository;
+    private ResourceNodePersistenceBuffer buffer;
+    private ActiveNodeManager manager;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResourceNodeRepository.class);
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(worldId);
+        when(world.getName()).thenReturn("world");
+        LoggingUtil logger = mock(LoggingUtil.class);
+        // Long interval so only explicit flushes write during the test.
+        buffer = new ResourceNodePersistenceBuffer(repository, logger, 60_000L);
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getWorlds).thenReturn(List.of());
+            manager = new ActiveNodeManager(mock(MMOCraftPlugin.class), logger, mock(ResourceNodeRegistryService.class),
+                    repository, buffer, mock(LootService.class), mock(CustomItemRegistry.class));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    void loadWaitsForBatchBeingWrittenBeforeReadingRows() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.writeBatch(any(), any())).thenAnswer(invocation -> {
+            writing.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            events.add("commit");
+            return true;
+        });
+        when(repository.streamNodes(eq(worldId), any())).thenAnswer(invocation -> {
+            events.add("stream");
+            return 0;
+        });
+        buffer.save(new ActiveResourceNode(new Location(world, 1, 64, 1), "ore"));
+
+        // Stands in for the background flush: it drains the queue, then blocks inside the write.
+        Thread flusher = new Thread(buffer::flush);
+        flusher.start();
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        assertEquals(0, buffer.getPendingCount(), "the in-flight batch is no longer counted as pending");
+
+        Thread loader = new Thread(() -> manager.loadWorld(world));
+        loader.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loader.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(Thread.State.BLOCKED, loader.getState(), "loadWorld waits for the in-flight batch");
+        assertTrue(events.isEmpty());
+
+        release.countDown();
+        flusher.join(5_000L);
+        loader.join(5_000L);
+        assertEquals(List.of("commit", "stream"), events);
+    }
+
+    @Test
+    void changesLeftQueuedByFailedWriteAreLaidOverStreamedRows() {
+        when(repository.writeBatch(any(), any())).thenReturn(false);
+        ActiveResourceNode depleted = new ActiveResourceNode(new Location(world, 1, 64, 1), "ore");
+        depleted.setDepleted(true);
+        depleted.setRespawnAtMillis(Long.MAX_VALUE);
+        buffer.save(depleted);
+        buffer.delete(new ActiveResourceNode(new Location(world, 2, 64, 1), "ore"));
+        buffer.save(new ActiveResourceNode(new Location(world, 3, 64, 1), "gem"));
+        when(repository.streamNodes(eq(worldId), any())).thenAnswer(invocation -> {
+            Consumer<ResourceNodeRecord> consumer = invocation.getArgument(1);
+            consumer.accept(new ResourceNodeRecord(worldId, 1, 64, 1, "ore", false, 0L));
+            consumer.accept(new ResourceNodeRecord(worldId, 2, 64, 1, "ore", false, 0L));
+            consumer.accept(new ResourceNodeRecord(worldId, 4, 64, 1, "ore", false, 0L));
+            return 3;
+        });
+
+        assertEquals(3, manager.loadWorld(world));
+
+        assertTrue(manager.getActiveNode(new Location(world, 1, 64, 1)).orElseThrow().isDepleted());
+        assertTrue(manager.getActiveNode(new Location(world, 2, 64, 1)).isEmpty());
+        assertEquals("gem", manager.getActiveNode(new Location(world, 3, 64, 1)).orElseThrow().getNodeTypeId());
+        assertTrue(manager.getActiveNode(new Location(world, 4, 64, 1)).isPresent());
+        assertEquals(3, buffer.getPendingCount(), "failed changes stay queued for the next flush");
+    }
+}
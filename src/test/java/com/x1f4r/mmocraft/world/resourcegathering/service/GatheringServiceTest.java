@@ -0,0 +1,142 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GatheringServiceTest {
+
+    private World world;
+    private Block nodeBlock;
+    private ActiveResourceNode node;
+    private Player player;
+    private GatheringService service;
+    private final AtomicInteger completions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        world = mock(World.class);
+        nodeBlock = block(10, 64, 10);
+        node = new ActiveResourceNode(new Location(world, 10, 64, 10), "ore");
+
+        ActiveNodeManager nodeManager = mock(ActiveNodeManager.class);
+        when(nodeManager.getActiveNode(any(Location.class))).thenReturn(Optional.of(node));
+
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getName()).thenReturn("Miner");
+        when(player.isOnline()).thenReturn(true);
+        when(player.getLocation()).thenReturn(new Location(world, 12.5, 64, 10.5));
+        when(player.getTargetBlockExact(anyInt())).thenReturn(nodeBlock);
+
+        service = new GatheringService(new NamespacedKey("mmocraft", "test_break_speed"), nodeManager, mock(LoggingUtil.class));
+    }
+
+    @Test
+    void completesAfterTheBreakTimeAndAnimatesProgress() {
+        assertTrue(service.start(player, nodeBlock, node, 0.5, completions::incrementAndGet));
+
+        for (int tick = 0; tick < 9; tick++) {
+            service.tick();
+        }
+        assertEquals(0, completions.get());
+        assertTrue(service.isGathering(player.getUniqueId()));
+        ArgumentCaptor<Integer> sourceId = ArgumentCaptor.forClass(Integer.class);
+        verify(player, atLeastOnce()).sendBlockDamage(any(Location.class), eq(0.5f), sourceId.capture());
+        assertTrue(sourceId.getValue() < 0, "crack is sent under a fake source id, not the player's own");
+
+        service.tick();
+        assertEquals(1, completions.get());
+        assertEquals(0, service.getActiveSessionCount());
+        verify(player).sendBlockDamage(any(Location.class), eq(0.0f), eq(sourceId.getValue()));
+        verify(player, never()).sendBlockDamage(any(Location.class), anyFloat());
+    }
+
+    @Test
+    void lookingAwayCancelsTheSession() {
+        service.start(player, nodeBlock, node, 0.5, completions::incrementAndGet);
+        service.tick();
+
+        Block elsewhere = block(11, 64, 10);
+        when(player.getTargetBlockExact(anyInt())).thenReturn(elsewhere);
+        service.tick();
+
+        assertFalse(service.isGathering(player.getUniqueId()));
+        for (int tick = 0; tick < 20; tick++) {
+            service.tick();
+        }
+        assertEquals(0, completions.get());
+    }
+
+    @Test
+    void movingCancelsTheSession() {
+        service.start(player, nodeBlock, node, 0.5, completions::incrementAndGet);
+        when(player.getLocation()).thenReturn(new Location(world, 13.5, 64, 10.5));
+
+        service.tick();
+
+        assertFalse(service.isGathering(player.getUniqueId()));
+        assertEquals(0, completions.get());
+    }
+
+    @Test
+    void depletedNodeCancelsTheSession() {
+        service.start(player, nodeBlock, node, 0.5, completions::incrementAndGet);
+        node.setDepleted(true);
+
+        service.tick();
+
+        assertFalse(service.isGathering(player.getUniqueId()));
+        verify(player, never()).sendBlockDamage(any(Location.class), anyFloat(), anyInt());
+    }
+
+    @Test
+    void diggingTheSameNodeAgainKeepsProgress() {
+        service.start(player, nodeBlock, node, 0.5, completions::incrementAndGet);
+        for (int tick = 0; tick < 5; tick++) {
+            service.tick();
+        }
+
+        assertFalse(service.start(player, nodeBlock, node, 0.5, completions::incrementAndGet));
+        for (int tick = 0; tick < 5; tick++) {
+            service.tick();
+        }
+        assertEquals(1, completions.get());
+    }
+
+    @Test
+    void convertsBreakTimeToTicksAndCrackStages() {
+        assertEquals(1, GatheringService.totalTicks(0.01));
+        assertEquals(40, GatheringService.totalTicks(2.0));
+        assertEquals(0, GatheringService.crackStage(0, 40));
+        assertEquals(5, GatheringService.crackStage(20, 40));
+        assertEquals(9, GatheringService.crackStage(39, 40));
+    }
+
+    private Block block(int x, int y, int z) {
+        Block block = mock(Block.class);
+        when(block.getWorld()).thenReturn(world);
+        when(block.getX()).thenReturn(x);
+        when(block.getY()).thenReturn(y);
+        when(block.getZ()).thenReturn(z);
+        return block;
+    }
+}
@@ -0,0 +1,201 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResourceNodeIndexTest {
+
+    private final UUID overworldId = UUID.randomUUID();
+    private final UUID netherId = UUID.randomUUID();
+    private World overworld;
+    private World nether;
+    private ResourceNodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        overworld = mock(World.class);
+        nether = mock(World.class);
+        when(overworld.getUID()).thenReturn(overworldId);
+        when(nether.getUID()).thenReturn(netherId);
+        index = new ResourceNodeIndex();
+    }
+
+    @Test
+    void looksUpNodesByWorldAndBlock() {
+        ActiveResourceNode ore = node(overworld, -17, -40, 33);
+        ActiveResourceNode quartz = node(nether, -17, -40, 33);
+        assertTrue(index.add(ore));
+        assertTrue(index.add(quartz));
+
+        assertSame(ore, index.get(overworldId, -17, -40, 33));
+        assertSame(quartz, index.get(netherId, -17, -40, 33));
+        assertNull(index.get(overworldId, -17, -39, 33));
+        assertNull(index.get(UUID.randomUUID(), -17, -40, 33));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void rejectsSecondNodeOnOccupiedBlock() {
+        assertTrue(index.add(node(overworld, 5, 64, 5)));
+        assertFalse(index.add(node(overworld, 5, 64, 5)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void tracksNodesPerChunk() {
+        ActiveResourceNode a = node(overworld, 0, 64, 0);
+        ActiveResourceNode b = node(overworld, 15, 70, 15);
+        ActiveResourceNode c = node(overworld, 16, 64, 0);
+        ActiveResourceNode d = node(overworld, -1, 64, -1);
+        index.add(a);
+        index.add(b);
+        index.add(c);
+        index.add(d);
+
+        assertEquals(Set.of(a, b), Set.copyOf(index.inChunk(overworldId, 0, 0)));
+        assertEquals(List.of(c), index.inChunk(overworldId, 1, 0));
+        assertEquals(List.of(d), index.inChunk(overworldId, -1, -1));
+        assertTrue(index.inChunk(netherId, 0, 0).isEmpty());
+
+        assertSame(a, index.remove(overworldId, 0, 64, 0));
+        assertEquals(List.of(b), index.inChunk(overworldId, 0, 0));
+        assertFalse(index.contains(a));
+        assertTrue(index.contains(b));
+    }
+
+    @Test
+    void handsOutEachChunkForVerificationOnce() {
+        ActiveResourceNode a = node(overworld, 0, 64, 0);
+        ActiveResourceNode b = node(overworld, -20, 64, 40);
+        index.add(a);
+        index.add(b);
+
+        Set<List<Integer>> unverified = new HashSet<>();
+        index.forEachUnverifiedChunk(overworldId, (worldId, chunkX, chunkZ) -> unverified.add(List.of(chunkX, chunkZ)));
+        assertEquals(Set.of(List.of(0, 0), List.of(-2, 2)), unverified);
+
+        assertEquals(List.of(b), index.claimUnverified(overworldId, -2, 2));
+        assertTrue(index.claimUnverified(overworldId, -2, 2).isEmpty());
+        assertTrue(index.claimUnverified(overworldId, 5, 5).isEmpty());
+
+        unverified.clear();
+        index.forEachUnverifiedChunk(overworldId, (worldId, chunkX, chunkZ) -> unverified.add(List.of(chunkX, chunkZ)));
+        assertEquals(Set.of(List.of(0, 0)), unverified);
+    }
+
+    @Test
+    void markingAChunkUnverifiedHandsItOutAgain() {
+        ActiveResourceNode a = node(overworld, 0, 64, 0);
+        index.add(a);
+        assertEquals(List.of(a), index.claimUnverified(overworldId, 0, 0));
+
+        ActiveResourceNode b = node(overworld, 1, 64, 0);
+        index.add(b);
+        assertTrue(index.claimUnverified(overworldId, 0, 0).isEmpty());
+
+        assertTrue(index.markUnverified(overworldId, 0, 0));
+        assertFalse(index.markUnverified(overworldId, 3, 3));
+        assertEquals(Set.of(a, b), Set.copyOf(index.claimUnverified(overworldId, 0, 0)));
+    }
+
+    @Test
+    void removingAWorldLeavesOtherWorldsIntact() {
+        ActiveResourceNode ore = node(overworld, 1, 64, 1);
+        ActiveResourceNode quartz = node(nether, 1, 64, 1);
+        index.add(ore);
+        index.add(quartz);
+
+        assertEquals(List.of(quartz), index.removeWorld(netherId));
+        assertTrue(index.removeWorld(netherId).isEmpty());
+        assertNull(index.get(netherId, 1, 64, 1));
+        assertSame(ore, index.get(overworldId, 1, 64, 1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void keepsPerTypeCountsAcrossAddRemoveAndWorldUnload() {
+        ActiveResourceNode ore = node(overworld, 0, 64, 0, "iron_vein");
+        ActiveResourceNode otherOre = node(nether, 0, 64, 0, "Iron_Vein");
+        ActiveResourceNode gem = node(overworld, 1, 64, 0, "gem_cluster");
+        index.add(ore);
+        index.add(otherOre);
+        index.add(gem);
+
+        assertEquals(2, index.countOfType("IRON_VEIN"));
+        assertEquals(Set.of(ore, otherOre), Set.copyOf(index.ofType("iron_vein")));
+        assertEquals(Map.of("iron_vein", 2, "gem_cluster", 1), index.countsByType());
+
+        index.remove(overworldId, 0, 64, 0);
+        assertEquals(List.of(otherOre), index.ofType("iron_vein"));
+
+        index.removeWorld(netherId);
+        assertEquals(0, index.countOfType("iron_vein"));
+        assertEquals(Map.of("gem_cluster", 1), index.countsByType());
+    }
+
+    @Test
+    void findsNodesWithinRadiusAcrossChunkBorders() {
+        ActiveResourceNode inside = node(overworld, 15, 64, 15, "iron_vein");
+        ActiveResourceNode neighbourChunk = node(overworld, 17, 64, 15, "iron_vein");
+        ActiveResourceNode otherType = node(overworld, 16, 64, 16, "gem_cluster");
+        ActiveResourceNode tooFar = node(overworld, 30, 64, 15, "iron_vein");
+        ActiveResourceNode otherWorld = node(nether, 16, 64, 15, "iron_vein");
+        for (ActiveResourceNode node : List.of(inside, neighbourChunk, otherType, tooFar, otherWorld)) {
+            index.add(node);
+        }
+
+        assertEquals(Set.of(inside, neighbourChunk, otherType), Set.copyOf(index.near(overworldId, 16, 64, 15, 2.0, null)));
+        assertEquals(Set.of(inside, neighbourChunk), Set.copyOf(index.near(overworldId, 16, 64, 15, 2.0, "IRON_VEIN")));
+        // A radius covering more chunks than the world occupies takes the occupied-chunk path.
+        assertEquals(4, index.near(overworldId, 16, 64, 15, 10_000.0, null).size());
+        assertTrue(index.near(overworldId, 16, 64, 15, -1.0, null).isEmpty());
+    }
+
+    @Test
+    void findsNodesInsideInclusiveRegion() {
+        ActiveResourceNode corner = node(overworld, -16, 10, -16);
+        ActiveResourceNode opposite = node(overworld, 31, 20, 31);
+        ActiveResourceNode aboveRegion = node(overworld, 0, 21, 0);
+        ActiveResourceNode outsideChunk = node(overworld, 32, 15, 0);
+        ActiveResourceNode otherWorld = node(nether, 0, 15, 0);
+        for (ActiveResourceNode node : List.of(corner, opposite, aboveRegion, outsideChunk, otherWorld)) {
+            index.add(node);
+        }
+
+        assertEquals(Set.of(corner, opposite), Set.copyOf(index.inRegion(overworldId, -16, 10, -16, 31, 20, 31)));
+        // A region spanning far more chunks than the world occupies takes the occupied-chunk path.
+        assertEquals(Set.of(corner, opposite, outsideChunk),
+                Set.copyOf(index.inRegion(overworldId, -30_000_000, 10, -30_000_000, 30_000_000, 20, 30_000_000)));
+        assertTrue(index.inRegion(overworldId, 5, 10, 5, 4, 20, 5).isEmpty());
+    }
+
+    @Test
+    void packedKeysDoNotCollideAcrossAxes() {
+        assertNotEquals(ResourceNodeIndex.blockKey(1, 0, 0), ResourceNodeIndex.blockKey(0, 0, 1));
+        assertNotEquals(ResourceNodeIndex.blockKey(0, 1, 0), ResourceNodeIndex.blockKey(0, 0, 1));
+        assertNotEquals(ResourceNodeIndex.blockKey(-1, -64, -1), ResourceNodeIndex.blockKey(-1, 320, -1));
+        assertNotEquals(ResourceNodeIndex.blockKey(29_999_999, 0, -29_999_999),
+                ResourceNodeIndex.blockKey(-29_999_999, 0, 29_999_999));
+    }
+
+    private static ActiveResourceNode node(World world, int x, int y, int z) {
+        return node(world, x, y, z, "ore");
+    }
+
+    private static ActiveResourceNode node(World world, int x, int y, int z, String nodeTypeId) {
+        return new ActiveResourceNode(new Location(world, x, y, z), nodeTypeId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRecord;
+import com.x1f4r.mmocraft.world.resourcegathering.persistence.ResourceNodeRepository;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResourceNodePersistenceBufferTest {
+
+    private ResourceNodeRepository repository;
+    private ResourceNodePersistenceBuffer buffer;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResourceNodeRepository.class);
+        world = mock(World.class);
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        // Long interval so only explicit flushes write during the test.
+        buffer = new ResourceNodePersistenceBuffer(repository, mock(LoggingUtil.class), 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    void coalescesChangesPerBlock() {
+        when(repository.writeBatch(any(), any())).thenReturn(true);
+        ActiveResourceNode node = new ActiveResourceNode(new Location(world, 1, 64, 1), "ore");
+        ActiveResourceNode other = new ActiveResourceNode(new Location(world, 2, 64, 1), "ore");
+
+        buffer.save(node);
+        node.setDepleted(true);
+        node.setRespawnAtMillis(5_000L);
+        buffer.save(node);
+        buffer.save(other);
+        buffer.delete(other);
+        assertEquals(2, buffer.getPendingCount());
+
+        assertEquals(2, buffer.flush());
+
+        ArgumentCaptor<Collection<ResourceNodeRecord>> upserts = captor();
+        ArgumentCaptor<Collection<ResourceNodeRecord>> deletes = captor();
+        verify(repository, times(1)).writeBatch(upserts.capture(), deletes.capture());
+        assertEquals(List.of(ResourceNodeRecord.of(node)), List.copyOf(upserts.getValue()));
+        assertTrue(upserts.getValue().iterator().next().depleted());
+        assertEquals(List.of(ResourceNodeRecord.of(other)), List.copyOf(deletes.getValue()));
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void failedBatchIsRetriedWithoutOverwritingNewerChanges() {
+        when(repository.writeBatch(any(), any())).thenReturn(false, true);
+        ActiveResourceNode node = new ActiveResourceNode(new Location(world, 1, 64, 1), "ore");
+
+        buffer.save(node);
+        assertEquals(0, buffer.flush());
+        assertEquals(1, buffer.getPendingCount());
+
+        buffer.delete(node);
+        assertEquals(1, buffer.flush());
+
+        ArgumentCaptor<Collection<ResourceNodeRecord>> upserts = captor();
+        ArgumentCaptor<Collection<ResourceNodeRecord>> deletes = captor();
+        verify(repository, times(2)).writeBatch(upserts.capture(), deletes.capture());
+        assertTrue(upserts.getAllValues().get(1).isEmpty());
+        assertEquals(1, deletes.getAllValues().get(1).size());
+    }
+
+    @Test
+    void shutdownWritesEverythingInOneBatch() {
+        when(repository.writeBatch(any(), any())).thenReturn(true);
+        for (int i = 0; i < 50; i++) {
+            buffer.save(new ActiveResourceNode(new Location(world, i, 64, 0), "ore"));
+        }
+
+        buffer.shutdown();
+
+        ArgumentCaptor<Collection<ResourceNodeRecord>> upserts = captor();
+        verify(repository, times(1)).writeBatch(upserts.capture(), any());
+        assertEquals(50, upserts.getValue().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<ResourceNodeRecord>> captor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.x1f4r.mmocraft.world.resourcegathering.service;
+
+import com.x1f4r.mmocraft.world.resourcegathering.model.ActiveResourceNode;
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RespawnQueueTest {
+
+    @Test
+    void pollsOnlyDueNodesInRespawnOrder() {
+        RespawnQueue queue = new RespawnQueue();
+        ActiveResourceNode late = node(0);
+        ActiveResourceNode early = node(1);
+        ActiveResourceNode middle = node(2);
+        queue.schedule(late, 3_000L);
+        queue.schedule(early, 1_000L);
+        queue.schedule(middle, 2_000L);
+
+        assertEquals(1_000L, queue.nextRespawnAtMillis());
+        assertTrue(queue.pollDue(999L).isEmpty());
+        assertEquals(List.of(early, middle), queue.pollDue(2_000L));
+        assertEquals(1, queue.size());
+        assertFalse(queue.isScheduled(early));
+        assertEquals(List.of(late), queue.pollDue(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, queue.nextRespawnAtMillis());
+    }
+
+    @Test
+    void cancelledNodesAreNeverPolled() {
+        RespawnQueue queue = new RespawnQueue();
+        ActiveResourceNode kept = node(0);
+        ActiveResourceNode removed = node(1);
+        queue.schedule(kept, 500L);
+        queue.schedule(removed, 100L);
+
+        assertTrue(queue.cancel(removed));
+        assertFalse(queue.cancel(removed));
+        assertEquals(500L, queue.nextRespawnAtMillis());
+        assertEquals(List.of(kept), queue.pollDue(1_000L));
+    }
+
+    @Test
+    void reschedulingMovesTheExistingEntry() {
+        RespawnQueue queue = new RespawnQueue();
+        ActiveResourceNode first = node(0);
+        ActiveResourceNode second = node(1);
+        queue.schedule(first, 100L);
+        queue.schedule(second, 200L);
+        queue.schedule(first, 300L);
+
+        assertEquals(2, queue.size());
+        assertEquals(List.of(second), queue.pollDue(250L));
+        assertEquals(List.of(first), queue.pollDue(300L));
+    }
+
+    @Test
+    void keepsHeapOrderUnderManyRemovals() {
+        RespawnQueue queue = new RespawnQueue();
+        ActiveResourceNode[] nodes = new ActiveResourceNode[200];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = node(i);
+            queue.schedule(nodes[i], (i * 7919L) % 1000L);
+        }
+        for (int i = 0; i < nodes.length; i += 3) {
+            queue.cancel(nodes[i]);
+        }
+
+        List<ActiveResourceNode> due = queue.pollDue(Long.MAX_VALUE);
+        assertEquals(nodes.length - (nodes.length + 2) / 3, due.size());
+        for (int i = 1; i < due.size(); i++) {
+            assertTrue(respawnAt(due.get(i - 1), nodes) <= respawnAt(due.get(i), nodes));
+        }
+    }
+
+    private static long respawnAt(ActiveResourceNode node, ActiveResourceNode[] nodes) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] == node) {
+                return (i * 7919L) % 1000L;
+            }
+        }
+        throw new AssertionError("Unknown node");
+    }
+
+    private static ActiveResourceNode node(int x) {
+        return new ActiveResourceNode(new Location(null, x, 64, 0), "ore");
+    }
+}
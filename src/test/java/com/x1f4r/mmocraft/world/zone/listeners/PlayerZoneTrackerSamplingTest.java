@@ -0,0 +1,105 @@
+package com.x1f4r.mmocraft.world.zone.listeners;
+
+import com.x1f4r.mmocraft.eventbus.EventBusService;
+import com.x1f4r.mmocraft.util.LoggingUtil;
+import com.x1f4r.mmocraft.world.zone.event.PlayerEnterZoneEvent;
+import com.x1f4r.mmocraft.world.zone.model.Zone;
+import com.x1f4r.mmocraft.world.zone.model.ZoneMembership;
+import com.x1f4r.mmocraft.world.zone.service.ZoneManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PlayerZoneTrackerSamplingTest {
+
+    private ZoneManager zoneManager;
+    private EventBusService eventBusService;
+    private PlayerZoneTrackerListener listener;
+    private Player player;
+    private World world;
+    private final UUID playerId = UUID.randomUUID();
+    private final Zone zone = new Zone("plaza", "world", 0, 0, 0, 100, 100, 100);
+
+    @BeforeEach
+    void setUp() {
+        zoneManager = mock(ZoneManager.class);
+        eventBusService = mock(EventBusService.class);
+        listener = new PlayerZoneTrackerListener(zoneManager, mock(LoggingUtil.class), eventBusService);
+        listener.configure(PlayerZoneTrackerListener.TrackingMode.SAMPLED, 10);
+
+        world = mock(World.class);
+        when(world.getName()).thenReturn("world");
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(playerId);
+        when(player.getName()).thenReturn("Tester");
+
+        when(zoneManager.getZoneMembership(any())).thenReturn(ZoneMembership.of(0));
+        when(zoneManager.getPlayerZoneMembership(playerId)).thenReturn(ZoneMembership.EMPTY);
+        when(zoneManager.getZoneByDenseId(0)).thenReturn(Optional.of(zone));
+        when(zoneManager.getBoundaryClearance(any())).thenReturn(20);
+    }
+
+    @Test
+    void sampleDelayScalesWithClearanceAndSpeed() {
+        assertEquals(1, PlayerZoneTrackerListener.nextSampleDelay(0, 0.0, 10));
+        assertEquals(10, PlayerZoneTrackerListener.nextSampleDelay(20, 0.0, 10));
+        assertEquals(7, PlayerZoneTrackerListener.nextSampleDelay(2, 0.28, 10));
+        assertEquals(1, PlayerZoneTrackerListener.nextSampleDelay(3, 5.0, 10));
+    }
+
+    @Test
+    void movesAreIgnoredAndSamplesFireEnterOnce() {
+        Location inside = new Location(world, 50.5, 64, 50.5);
+        listener.onPlayerMove(new PlayerMoveEvent(player, new Location(world, 200, 64, 200), inside));
+        verify(zoneManager, never()).getZoneMembership(any());
+
+        when(player.getLocation()).thenReturn(inside);
+        listener.sampleTick(1, List.of(player));
+        verify(eventBusService, times(1)).call(any(PlayerEnterZoneEvent.class));
+        verify(zoneManager).updatePlayerZoneMembership(playerId, ZoneMembership.of(0));
+    }
+
+    @Test
+    void idlePlayersAreSampledAtTheConfiguredBound() {
+        when(player.getLocation()).thenReturn(new Location(world, 50.5, 64, 50.5));
+
+        listener.sampleTick(1, List.of(player)); // first sample assumes movement
+        listener.sampleTick(2, List.of(player)); // measures zero speed
+        verify(player, times(2)).getLocation();
+
+        for (long tick = 3; tick < 12; tick++) {
+            listener.sampleTick(tick, List.of(player));
+        }
+        verify(player, times(2)).getLocation();
+        listener.sampleTick(12, List.of(player));
+        verify(player, times(3)).getLocation();
+    }
+
+    @Test
+    void teleportOnlySchedulesTheNextSample() {
+        Location inside = new Location(world, 50.5, 64, 50.5);
+        when(player.getLocation()).thenReturn(inside);
+        listener.sampleTick(1, List.of(player));
+        listener.sampleTick(2, List.of(player));
+
+        Location far = new Location(world, 500.5, 64, 500.5);
+        listener.onPlayerTeleport(new PlayerTeleportEvent(player, inside, far));
+        verify(player, times(2)).getLocation();
+
+        when(player.getLocation()).thenReturn(far);
+        listener.sampleTick(3, List.of(player));
+        verify(player, times(3)).getLocation();
+    }
+}
@@ -0,0 +1,49 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneMembershipTest {
+
+    @Test
+    void xorSeparatesEnteredAndLeftZones() {
+        ZoneMembership previous = ZoneMembership.of(1, 3, 70);
+        ZoneMembership current = ZoneMembership.of(3, 4);
+
+        ZoneMembership changed = current.xor(previous);
+        assertEquals(ZoneMembership.of(4), changed.and(current));
+        assertEquals(ZoneMembership.of(1, 70), changed.and(previous));
+    }
+
+    @Test
+    void equalSetsCompareEqualRegardlessOfHowTheyWereBuilt() {
+        ZoneMembership built = ZoneMembership.EMPTY.with(100).with(2).without(100);
+        assertEquals(ZoneMembership.of(2), built);
+        assertEquals(ZoneMembership.of(2).hashCode(), built.hashCode());
+        assertSame(ZoneMembership.EMPTY, ZoneMembership.of(5).without(5));
+        assertTrue(ZoneMembership.of(64).xor(ZoneMembership.of(64)).isEmpty());
+    }
+
+    @Test
+    void forEachVisitsIdsInAscendingOrder() {
+        ZoneMembership membership = ZoneMembership.of(130, 0, 63, 64);
+        List<Integer> visited = new ArrayList<>();
+        membership.forEach(visited::add);
+
+        assertEquals(List.of(0, 63, 64, 130), visited);
+        assertEquals(4, membership.size());
+        assertTrue(membership.contains(63));
+        assertFalse(membership.contains(65));
+        assertFalse(membership.contains(-1));
+        assertEquals(ZoneMembership.of(0, 1, 63, 64, 130), membership.or(ZoneMembership.of(1)));
+    }
+
+    @Test
+    void rejectsNegativeIds() {
+        assertThrows(IllegalArgumentException.class, () -> ZoneMembership.of(-1));
+    }
+}
@@ -0,0 +1,91 @@
+package com.x1f4r.mmocraft.world.zone.model;
+
+import com.x1f4r.mmocraft.world.zone.model.ZoneShape.BoxRelation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneShapeTest {
+
+    // An L-shaped outline: the 0..20 square with its upper-right 10x10 quarter cut away.
+    private final PolygonZoneShape lShape = new PolygonZoneShape(
+            new int[]{0, 20, 20, 10, 10, 0}, new int[]{0, 0, 10, 10, 20, 20}, 0, 50);
+
+    @Test
+    void polygonIncludesOutlineAndExcludesNotch() {
+        assertTrue(lShape.contains(5, 10, 5));
+        assertTrue(lShape.contains(15, 10, 5));
+        assertTrue(lShape.contains(5, 10, 15));
+        assertFalse(lShape.contains(15, 10, 15));
+
+        assertTrue(lShape.contains(0, 10, 0));
+        assertTrue(lShape.contains(20, 10, 10));
+        assertTrue(lShape.contains(10, 10, 15));
+        assertTrue(lShape.contains(13, 10, 10));
+        assertFalse(lShape.contains(11, 10, 11));
+        assertFalse(lShape.contains(5, 51, 5));
+        assertFalse(lShape.contains(-1, 10, 5));
+    }
+
+    @Test
+    void polygonClassificationMatchesPerBlockChecks() {
+        assertEquals(BoxRelation.INSIDE, lShape.classify(1, 0, 1, 8, 16, 8));
+        assertEquals(BoxRelation.OUTSIDE, lShape.classify(12, 0, 12, 19, 16, 19));
+        assertEquals(BoxRelation.PARTIAL, lShape.classify(5, 0, 5, 14, 16, 14));
+        assertEquals(BoxRelation.PARTIAL, lShape.classify(1, 40, 1, 8, 60, 8));
+        assertEquals(BoxRelation.OUTSIDE, lShape.classify(30, 0, 30, 45, 16, 45));
+    }
+
+    @Test
+    void cylinderUsesBlockCentreDistance() {
+        CylinderZoneShape cylinder = new CylinderZoneShape(100, -100, 5.0, 60, 70);
+
+        assertTrue(cylinder.contains(105, 65, -100));
+        assertTrue(cylinder.contains(103, 65, -96));
+        assertFalse(cylinder.contains(104, 65, -96));
+        assertFalse(cylinder.contains(100, 71, -100));
+        assertEquals(95, cylinder.getMinX());
+        assertEquals(-95, cylinder.getMaxZ());
+
+        assertEquals(BoxRelation.INSIDE, cylinder.classify(99, 62, -101, 101, 68, -99));
+        assertEquals(BoxRelation.PARTIAL, cylinder.classify(96, 62, -104, 104, 68, -96));
+        assertEquals(BoxRelation.OUTSIDE, cylinder.classify(104, 60, -96, 110, 70, -90));
+    }
+
+    @Test
+    void unionCombinesParts() {
+        UnionZoneShape union = new UnionZoneShape(List.of(
+                new CuboidZoneShape(0, 0, 0, 9, 9, 9),
+                new CylinderZoneShape(30, 0, 3.0, 0, 9)));
+
+        assertTrue(union.contains(5, 5, 5));
+        assertTrue(union.contains(32, 5, 0));
+        assertFalse(union.contains(20, 5, 0));
+        assertEquals(-3, union.getMinZ());
+        assertEquals(33, union.getMaxX());
+
+        assertEquals(BoxRelation.INSIDE, union.classify(1, 1, 1, 8, 8, 8));
+        assertEquals(BoxRelation.OUTSIDE, union.classify(15, 0, -3, 25, 9, 3));
+        assertEquals(BoxRelation.PARTIAL, union.classify(25, 0, -5, 35, 9, 5));
+    }
+
+    @Test
+    void zoneDelegatesToItsShape() {
+        Zone zone = new Zone("l", "L", "world", lShape, null);
+
+        assertTrue(zone.contains(5, 10, 15, "WORLD"));
+        assertFalse(zone.contains(15, 10, 15, "world"));
+        assertFalse(zone.contains(5, 10, 15, "world_nether"));
+        assertEquals(20, zone.getMaxX());
+        assertSame(lShape, zone.getShape());
+    }
+
+    @Test
+    void rejectsDegenerateShapes() {
+        assertThrows(IllegalArgumentException.class, () -> new PolygonZoneShape(new int[]{0, 1}, new int[]{0, 1}, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CylinderZoneShape(0, 0, -1.0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new UnionZoneShape(List.of()));
+    }
+}
@@ -58,10 +58,10 @@ class ZoneStatApplierTest {
         assertEquals(2, modifierCaptor.getValue().size());
         assertEquals(5.0, modifierCaptor.getValue().get(Stat.SPEED));
         assertEquals(-2.0, modifierCaptor.getValue().get(Stat.STRENGTH));
-        verify(runtimeAttributeService).syncPlayer(player);
+        verify(runtimeAttributeService).markDirty(player);
 
         leaveCaptor.getValue().handle(new PlayerLeaveZoneEvent(player, zone));
         verify(profile).clearTemporaryStatModifiers("zone:ancient_ruins");
-        verify(runtimeAttributeService, times(2)).syncPlayer(player);
+        verify(runtimeAttributeService, times(2)).markDirty(player);
     }
 }
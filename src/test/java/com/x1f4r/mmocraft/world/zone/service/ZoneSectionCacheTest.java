@@ -0,0 +1,97 @@
+package com.x1f4r.mmocraft.world.zone.service;
+
+import com.x1f4r.mmocraft.world.zone.model.Zone;
+import com.x1f4r.mmocraft.world.zone.model.ZoneMembership;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneSectionCacheTest {
+
+    private final Zone arena = new Zone("arena", "world", 0, 0, 0, 47, 47, 47);
+    private final Zone pit = new Zone("pit", "world", 20, 0, 20, 27, 10, 27);
+
+    @Test
+    void sectionsInsideOrOutsideEveryZoneShareOneList() {
+        ZoneSectionCache cache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(arena, pit)), ZoneSectionCacheTest::denseId, 64);
+
+        List<Zone> interior = cache.query(1, 1, 1, "world");
+        assertEquals(List.of(arena), interior);
+        assertSame(interior, cache.query(40, 40, 40, "world"));
+        assertSame(interior, cache.query(17, 33, 2, "world"));
+        assertTrue(cache.query(100, 5, 100, "world").isEmpty());
+    }
+
+    @Test
+    void boundarySectionsFallBackToExactChecks() {
+        ZoneSectionCache cache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(arena, pit)), ZoneSectionCacheTest::denseId, 64);
+
+        assertEquals(List.of(arena, pit), cache.query(22, 5, 22, "world"));
+        assertEquals(List.of(arena), cache.query(18, 5, 18, "world"));
+        assertEquals(List.of(arena), cache.query(22, 12, 22, "world"));
+        assertTrue(cache.query(48, 5, 22, "world").isEmpty());
+        assertTrue(cache.query(22, 5, 22, "world_nether").isEmpty());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedSectionsBeyondCapacity() {
+        ZoneSectionCache cache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(arena)), ZoneSectionCacheTest::denseId, 2);
+
+        cache.query(0, 0, 0, "world");
+        cache.query(16, 0, 0, "world");
+        cache.query(0, 0, 0, "world");
+        cache.query(32, 0, 0, "world");
+        assertEquals(2, cache.size());
+
+        // Still correct after eviction; the evicted section is simply classified again.
+        assertEquals(List.of(arena), cache.query(16, 0, 0, "world"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void negativeCoordinatesMapToTheirOwnSections() {
+        Zone west = new Zone("west", "world", -32, -64, -32, -1, 0, -1);
+        ZoneSectionCache cache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(west, arena)), ZoneSectionCacheTest::denseId, 64);
+
+        assertEquals(List.of(west), cache.query(-1, -1, -1, "world"));
+        assertEquals(List.of(arena), cache.query(0, 1, 0, "world"));
+        assertTrue(cache.query(-1, 1, -1, "world").isEmpty());
+    }
+
+    @Test
+    void membershipBitsMirrorZoneLists() {
+        ZoneSectionCache cache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(arena, pit)), ZoneSectionCacheTest::denseId, 64);
+
+        ZoneMembership interior = cache.membership(1, 1, 1, "world");
+        assertEquals(ZoneMembership.of(0), interior);
+        assertSame(interior, cache.membership(40, 40, 40, "world"));
+        assertEquals(ZoneMembership.of(0, 1), cache.membership(22, 5, 22, "world"));
+        assertSame(interior, cache.membership(18, 5, 18, "world"));
+        assertSame(ZoneMembership.EMPTY, cache.membership(100, 5, 100, "world"));
+    }
+
+    @Test
+    void clearanceGrowsAwayFromZoneEdges() {
+        ZoneSectionCache cache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(arena, pit)), ZoneSectionCacheTest::denseId, 64);
+
+        assertEquals(0, cache.clearance(22, 5, 22, "world"));
+        assertEquals(3, cache.clearance(3, 35, 3, "world"));
+        // Far from any zone all neighbouring sections match too, so the clearance extends a section.
+        assertEquals(16 + 7, cache.clearance(1032, 72, 8, "world"));
+
+        Zone field = new Zone("field", "world", 0, 0, 0, 99, 99, 99);
+        ZoneSectionCache fieldCache = new ZoneSectionCache(ZoneSpatialIndex.build(List.of(field)), ZoneSectionCacheTest::denseId, 64);
+        assertEquals(16 + 7, fieldCache.clearance(40, 40, 40, "world"));
+        assertEquals(7, fieldCache.clearance(8, 40, 40, "world"));
+    }
+
+    private static int denseId(Zone zone) {
+        return switch (zone.getZoneId()) {
+            case "arena" -> 0;
+            case "pit" -> 1;
+            default -> 2;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.x1f4r.mmocraft.world.zone.service;
+
+import com.x1f4r.mmocraft.world.zone.model.Zone;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneSpatialIndexTest {
+
+    @Test
+    void findsZonesContainingPointAcrossChunkBoundaries() {
+        Zone spawn = new Zone("spawn", "world", -20, 0, -20, 20, 100, 20);
+        Zone market = new Zone("market", "world", 10, 0, 10, 40, 100, 40);
+        Zone nether = new Zone("hub", "world_nether", -20, 0, -20, 20, 100, 20);
+        ZoneSpatialIndex index = ZoneSpatialIndex.build(List.of(spawn, market, nether));
+
+        assertEquals(List.of(spawn), index.query(-17, 50, -1, "world"));
+        assertEquals(Set.of(spawn, market), asSet(index.query(15, 50, 15, "world")));
+        assertEquals(List.of(market), index.query(35, 50, 35, "world"));
+        assertTrue(index.query(100, 50, 100, "world").isEmpty());
+        assertTrue(index.query(0, 150, 0, "world").isEmpty());
+        assertEquals(List.of(nether), index.query(0, 50, 0, "WORLD_NETHER"));
+        assertTrue(index.query(0, 50, 0, "world_the_end").isEmpty());
+        assertTrue(index.query(0, 50, 0, null).isEmpty());
+    }
+
+    @Test
+    void returnsCachedListWhenEveryCandidateMatches() {
+        Zone zone = new Zone("plaza", "world", 0, 0, 0, 31, 255, 31);
+        ZoneSpatialIndex index = ZoneSpatialIndex.build(List.of(zone));
+
+        List<Zone> first = index.query(5, 64, 5, "world");
+        List<Zone> second = index.query(6, 64, 6, "world");
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(zone));
+    }
+
+    @Test
+    void largeZonesBypassTheGrid() {
+        Zone continent = new Zone("continent", "world", -100_000, -64, -100_000, 100_000, 320, 100_000);
+        Zone town = new Zone("town", "world", 0, 0, 0, 15, 100, 15);
+        ZoneSpatialIndex index = ZoneSpatialIndex.build(List.of(continent, town));
+
+        assertEquals(List.of(continent), index.query(99_999, 0, -99_999, "world"));
+        assertEquals(Set.of(continent, town), asSet(index.query(8, 50, 8, "world")));
+        assertTrue(index.query(100_001, 0, 0, "world").isEmpty());
+    }
+
+    @Test
+    void emptyIndexMatchesNothing() {
+        assertSame(ZoneSpatialIndex.empty(), ZoneSpatialIndex.build(List.of()));
+        assertTrue(ZoneSpatialIndex.empty().query(0, 0, 0, "world").isEmpty());
+        assertEquals(0, ZoneSpatialIndex.empty().size());
+    }
+
+    private static Set<Zone> asSet(List<Zone> zones) {
+        return zones.stream().collect(Collectors.toSet());
+    }
+}